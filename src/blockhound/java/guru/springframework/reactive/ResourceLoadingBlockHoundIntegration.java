@@ -0,0 +1,23 @@
+package guru.springframework.reactive;
+
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.integration.BlockHoundIntegration;
+
+/**
+ * BlockHound allowances for the one-time, lazy loading of resources on a request thread.
+ * <p>
+ * Validation messages are resolved from resource bundles read from the classpath jars the first
+ * time a constraint fails; the bundles are then cached, so the read is not a recurring block.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 19:55
+ * @since jdk 1.17
+ */
+public class ResourceLoadingBlockHoundIntegration implements BlockHoundIntegration {
+
+    @Override
+    public void applyTo(BlockHound.Builder builder) {
+        builder.allowBlockingCallsInside("java.util.ResourceBundle", "getBundle");
+    }
+
+}
@@ -0,0 +1,81 @@
+package guru.springframework.reactive.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency of {@link ConcurrentIntObjectMap} against a boxed {@link ConcurrentHashMap}.
+ * <p>
+ * Run with {@code ./mvnw -P benchmark test-compile exec:exec}.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 11:48
+ * @since jdk 1.17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentIntObjectMapBenchmark {
+
+    @Param({"1000000"})
+    int entries;
+
+    ConcurrentIntObjectMap<Object> primitiveMap;
+
+    Map<Integer, Object> boxedMap;
+
+    int[] lookups;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        primitiveMap = new ConcurrentIntObjectMap<>();
+        boxedMap = new ConcurrentHashMap<>();
+        Object value = new Object();
+        for (int key = 1; key <= entries; key++) {
+            primitiveMap.put(key, value);
+            boxedMap.put(key, value);
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        lookups = new int[1 << 16];
+        for (int i = 0; i < lookups.length; i++) {
+            lookups[i] = random.nextInt(1, entries + 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int position;
+    }
+
+    @Benchmark
+    public Object primitiveGet(Cursor cursor) {
+        return primitiveMap.get(lookups[cursor.position++ & (lookups.length - 1)]);
+    }
+
+    @Benchmark
+    public Object boxedGet(Cursor cursor) {
+        return boxedMap.get(lookups[cursor.position++ & (lookups.length - 1)]);
+    }
+
+}
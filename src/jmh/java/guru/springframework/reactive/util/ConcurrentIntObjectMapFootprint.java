@@ -0,0 +1,43 @@
+package guru.springframework.reactive.util;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retained heap per entry of {@link ConcurrentIntObjectMap} against a boxed {@link ConcurrentHashMap},
+ * measured with JOL. The shared value object is excluded from both graphs.
+ * <p>
+ * Run with {@code ./mvnw -P benchmark test-compile exec:exec
+ * -Dbenchmark.main=guru.springframework.reactive.util.ConcurrentIntObjectMapFootprint}.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 11:55
+ * @since jdk 1.17
+ */
+public class ConcurrentIntObjectMapFootprint {
+
+    public static void main(String[] args) {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Object value = new Object();
+
+        ConcurrentIntObjectMap<Object> primitiveMap = new ConcurrentIntObjectMap<>();
+        Map<Integer, Object> boxedMap = new ConcurrentHashMap<>();
+        for (int key = 1; key <= entries; key++) {
+            primitiveMap.put(key, value);
+            boxedMap.put(key, value);
+        }
+
+        long valueSize = GraphLayout.parseInstance(value).totalSize();
+        long primitiveSize = GraphLayout.parseInstance(primitiveMap).totalSize() - valueSize;
+        long boxedSize = GraphLayout.parseInstance(boxedMap).totalSize() - valueSize;
+
+        System.out.printf("entries: %d%n", entries);
+        System.out.printf("ConcurrentIntObjectMap: %,d bytes (%.1f bytes/entry)%n",
+                primitiveSize, (double) primitiveSize / entries);
+        System.out.printf("ConcurrentHashMap<Integer, V>: %,d bytes (%.1f bytes/entry)%n",
+                boxedSize, (double) boxedSize / entries);
+    }
+
+}
@@ -0,0 +1,96 @@
+package guru.springframework.reactive.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of the load test.
+ * <p>
+ * Options are given as {@code --name=value}; any other {@code --name=value} argument is passed
+ * through to the embedded application, e.g. {@code --app.web.functional-routes.enabled=true}.
+ *
+ * <pre>
+ * --target=http://host:port   drive an already running instance instead of starting one
+ * --seed-beers=10000          beers inserted through BeerRepository before the run
+ * --seed-customers=10000      customers inserted through CustomerRepository before the run
+ * --resources=beer,customer   resources the workload is spread across
+ * --mix=list:2,get:70,post:8,put:8,patch:8,delete:4   relative weight of each operation
+ * --rate=200                  open-model arrival rate, requests per second
+ * --warmup=5s                 initial period excluded from the report
+ * --duration=30s              measured period
+ * --connections=256           maximum HTTP connections
+ * --protocol=http11           http11, h2c, or both as http11,h2c to compare them under the same load
+ * --timeout=10s               response timeout, counted as an error
+ * </pre>
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 14:02
+ * @since jdk 1.17
+ */
+final class LoadTestOptions {
+
+    String target;
+    int seedBeers = 10_000;
+    int seedCustomers = 10_000;
+    List<String> resources = List.of("beer", "customer");
+    Map<Operation, Integer> mix = parseMix("list:2,get:70,post:8,put:8,patch:8,delete:4");
+    int rate = 200;
+    Duration warmup = Duration.ofSeconds(5);
+    Duration duration = Duration.ofSeconds(30);
+    int connections = 256;
+    List<String> protocols = List.of("http11");
+    Duration timeout = Duration.ofSeconds(10);
+    final List<String> applicationArgs = new ArrayList<>();
+
+    private LoadTestOptions() {
+    }
+
+    static LoadTestOptions parse(String... args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "target" -> options.target = value;
+                case "seed-beers" -> options.seedBeers = Integer.parseInt(value);
+                case "seed-customers" -> options.seedCustomers = Integer.parseInt(value);
+                case "resources" -> options.resources = List.of(value.split(","));
+                case "mix" -> options.mix = parseMix(value);
+                case "rate" -> options.rate = Integer.parseInt(value);
+                case "warmup" -> options.warmup = DurationStyle.detectAndParse(value);
+                case "duration" -> options.duration = DurationStyle.detectAndParse(value);
+                case "connections" -> options.connections = Integer.parseInt(value);
+                case "protocol" -> options.protocols = List.of(value.split(","));
+                case "timeout" -> options.timeout = DurationStyle.detectAndParse(value);
+                default -> options.applicationArgs.add(arg);
+            }
+        }
+        return options;
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] weight = entry.split(":");
+            mix.put(Operation.valueOf(weight[0].trim().toUpperCase()), Integer.parseInt(weight[1].trim()));
+        }
+        return mix;
+    }
+
+    /**
+     * Operations of the synthetic workload.
+     */
+    enum Operation {
+        LIST, GET, POST, PUT, PATCH, DELETE
+    }
+
+}
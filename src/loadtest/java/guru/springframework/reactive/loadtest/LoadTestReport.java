@@ -0,0 +1,86 @@
+package guru.springframework.reactive.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects per-request outcomes of the load test and reports throughput, error rates and
+ * latency percentiles per route.
+ * <p>
+ * Latencies are measured from the intended arrival time rather than from the moment the request
+ * was actually sent, so queueing inside the client is not hidden (no coordinated omission).
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 14:15
+ * @since jdk 1.17
+ */
+final class LoadTestReport {
+
+    private final ConcurrentMap<String, Route> routes = new ConcurrentHashMap<>();
+
+    void record(String route, long latencyNanos, boolean success) {
+        routes.computeIfAbsent(route, key -> new Route()).record(latencyNanos, success);
+    }
+
+    void print(PrintStream out, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        Route total = new Route();
+        Map<String, Route> sorted = new TreeMap<>(routes);
+        sorted.values().forEach(total::merge);
+
+        out.printf("%n%-18s %9s %9s %8s %9s %9s %9s %9s %9s%n",
+                "route", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        sorted.forEach((name, route) -> route.print(out, name, seconds));
+        total.print(out, "total", seconds);
+    }
+
+    private static final class Route {
+
+        private final LongAdder errors = new LongAdder();
+        private long[] latencies = new long[1024];
+        private int count;
+
+        private synchronized void record(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        private synchronized void merge(Route other) {
+            synchronized (other) {
+                for (int i = 0; i < other.count; i++) {
+                    record(other.latencies[i], true);
+                }
+                errors.add(other.errors.sum());
+            }
+        }
+
+        private synchronized void print(PrintStream out, String name, double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            out.printf("%-18s %9d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, count, count / seconds, count == 0 ? 0.0 : 100.0 * errors.sum() / count,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), percentile(sorted, 1.0));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+
+}
@@ -0,0 +1,288 @@
+package guru.springframework.reactive.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.reactive.ReactiveApplication;
+import guru.springframework.reactive.domain.Beer;
+import guru.springframework.reactive.domain.Customer;
+import guru.springframework.reactive.loadtest.LoadTestOptions.Operation;
+import guru.springframework.reactive.repositories.BeerRepository;
+import guru.springframework.reactive.repositories.CustomerRepository;
+import guru.springframework.reactive.services.BeerCatalog;
+import guru.springframework.reactive.services.BeerSearchIndex;
+import guru.springframework.reactive.web.BeerListResponseCache;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Self-contained load test for the beer and customer APIs.
+ * <p>
+ * Starts the application against its embedded H2 database (unless {@code --target} points to a
+ * running instance), seeds a dataset through the repositories and replays a weighted mix of
+ * list/get/post/put/patch/delete requests with an open-model arrival rate: requests are issued
+ * on schedule whether or not earlier ones have completed, as real clients would. Given several
+ * protocols, the same workload is replayed over each in turn, and the number of connections
+ * each needed is reported next to its latencies.
+ * <p>
+ * Run with {@code ./mvnw -P loadtest test-compile exec:exec -Dloadtest.args="--rate=500 --duration=60s"};
+ * see {@link LoadTestOptions} for every option.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 04:15
+ * @since jdk 1.17
+ */
+public class LoadTestRunner {
+
+    private static final Duration TICK = Duration.ofMillis(10);
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient;
+    private final LoadTestReport report = new LoadTestReport();
+    private final Operation[] weightedOperations;
+    private final Map<String, List<Integer>> seededIds;
+    private final Map<String, ConcurrentLinkedDeque<Integer>> createdIds = new ConcurrentHashMap<>();
+
+    LoadTestRunner(LoadTestOptions options, HttpClient httpClient, Map<String, List<Integer>> seededIds) {
+        this.options = options;
+        this.httpClient = httpClient;
+        this.seededIds = seededIds;
+        this.weightedOperations = options.mix.entrySet().stream()
+                .flatMap(weight -> Collections.nCopies(weight.getValue(), weight.getKey()).stream())
+                .toArray(Operation[]::new);
+        options.resources.forEach(resource -> createdIds.put(resource, new ConcurrentLinkedDeque<>()));
+    }
+
+    public static void main(String[] args) {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext context = null;
+        String target = options.target;
+        Map<String, List<Integer>> seededIds;
+
+        if (target == null) {
+            context = new SpringApplicationBuilder(ReactiveApplication.class)
+                    .properties("server.port=0",
+                            "spring.main.banner-mode=off",
+                            "spring.r2dbc.generate-unique-name=true",
+                            "logging.level.org.springframework.r2dbc=warn",
+                            // H2 warns on every transaction begin carrying the read-only attribute Spring sets
+                            "logging.level.io.r2dbc.h2.H2Connection=error")
+                    .run(options.applicationArgs.toArray(String[]::new));
+            target = "http://localhost:" + ((ReactiveWebServerApplicationContext) context).getWebServer().getPort();
+            seededIds = seed(context, options);
+        } else {
+            seededIds = fetchIds(target, options);
+        }
+
+        try {
+            for (String protocol : options.protocols) {
+                run(options, protocol, target, seededIds);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * Runs the workload over one protocol, with a connection pool of its own.
+     */
+    private static void run(LoadTestOptions options, String protocol, String target,
+                            Map<String, List<Integer>> seededIds) {
+        LongAdder connections = new LongAdder();
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("loadtest-" + protocol)
+                .maxConnections(options.connections)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(options.timeout)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .baseUrl(target)
+                .protocol(switch (protocol) {
+                    case "http11" -> HttpProtocol.HTTP11;
+                    case "h2c" -> HttpProtocol.H2C;
+                    default -> throw new IllegalArgumentException("Unknown protocol " + protocol);
+                })
+                .doOnChannelInit((observer, channel, remoteAddress) -> connections.increment())
+                .responseTimeout(options.timeout)
+                .headers(headers -> headers.set(HttpHeaderNames.ACCEPT, "application/json"));
+
+        try {
+            System.out.printf("%nTarget %s, %d req/s for %s after %s warmup, mix %s, %s, %d connections%n",
+                    target, options.rate, options.duration, options.warmup, options.mix, protocol,
+                    options.connections);
+            new LoadTestRunner(options, httpClient, seededIds).run();
+            System.out.printf("%s: %d connections opened%n", protocol, connections.sum());
+        } finally {
+            connectionProvider.disposeLater().block();
+        }
+    }
+
+    void run() {
+        long tickNanos = TICK.toNanos();
+        long ticks = (options.warmup.toNanos() + options.duration.toNanos()) / tickNanos;
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup.toNanos();
+
+        Flux.interval(TICK)
+                .take(ticks)
+                .onBackpressureBuffer()
+                .concatMapIterable(tick -> {
+                    long intended = start + (tick + 1) * tickNanos;
+                    long arrivals = (tick + 1) * options.rate / (1_000_000_000L / tickNanos)
+                            - tick * options.rate / (1_000_000_000L / tickNanos);
+                    List<Long> scheduled = new ArrayList<>((int) arrivals);
+                    for (long i = 0; i < arrivals; i++) {
+                        scheduled.add(intended);
+                    }
+                    return scheduled;
+                })
+                .flatMap(intended -> execute(intended, measureFrom), Integer.MAX_VALUE)
+                .blockLast();
+
+        report.print(System.out, options.duration);
+    }
+
+    private Mono<Void> execute(long intended, long measureFrom) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String resource = options.resources.get(random.nextInt(options.resources.size()));
+        Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+        String path = "/api/v2/" + resource;
+
+        Integer deletable = operation == Operation.DELETE ? createdIds.get(resource).poll() : null;
+        if (operation == Operation.DELETE && deletable == null) {
+            operation = Operation.POST;
+        }
+        String route = resource + " " + operation.name().toLowerCase();
+
+        Mono<Boolean> request = switch (operation) {
+            case LIST -> send(HttpMethod.GET, path, null, null);
+            case GET -> send(HttpMethod.GET, path + "/" + randomSeededId(resource), null, null);
+            case POST -> send(HttpMethod.POST, path, body(resource), resource);
+            case PUT -> send(HttpMethod.PUT, path + "/" + randomSeededId(resource), body(resource), null);
+            case PATCH -> send(HttpMethod.PATCH, path + "/" + randomSeededId(resource), body(resource), null);
+            case DELETE -> send(HttpMethod.DELETE, path + "/" + deletable, null, null);
+        };
+
+        return request
+                .onErrorReturn(false)
+                .doOnNext(success -> {
+                    if (intended >= measureFrom) {
+                        report.record(route, System.nanoTime() - intended, success);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Boolean> send(HttpMethod method, String uri, String body, String createdResource) {
+        HttpClient client = body == null ? httpClient
+                : httpClient.headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, "application/json"));
+        return client.request(method)
+                .uri(uri)
+                .send(body == null ? ByteBufFlux.fromString(Flux.empty()) : ByteBufFlux.fromString(Mono.just(body)))
+                .responseSingle((response, content) -> content.asByteArray()
+                        .defaultIfEmpty(new byte[0])
+                        .map(ignored -> {
+                            String location = response.responseHeaders().get(HttpHeaderNames.LOCATION);
+                            if (createdResource != null && location != null) {
+                                createdIds.get(createdResource)
+                                        .add(Integer.valueOf(location.substring(location.lastIndexOf('/') + 1)));
+                            }
+                            return response.status().code() < 400;
+                        }));
+    }
+
+    private int randomSeededId(String resource) {
+        List<Integer> ids = seededIds.get(resource);
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static String body(String resource) {
+        int suffix = ThreadLocalRandom.current().nextInt(1_000_000);
+        if ("customer".equals(resource)) {
+            return "{\"customerName\":\"Load Customer " + suffix + "\"}";
+        }
+        return "{\"beerName\":\"Load Beer " + suffix + "\",\"beerStyle\":\"IPA\",\"upc\":\"" + suffix
+                + "\",\"quantityOnHand\":" + (suffix % 500) + ",\"price\":9.99}";
+    }
+
+    /**
+     * Seeds the embedded database through the repositories and refreshes the in-memory
+     * structures that are otherwise only kept current by the service layer.
+     */
+    private static Map<String, List<Integer>> seed(ConfigurableApplicationContext context, LoadTestOptions options) {
+        BeerRepository beerRepository = context.getBean(BeerRepository.class);
+        CustomerRepository customerRepository = context.getBean(CustomerRepository.class);
+
+        List<Integer> beerIds = beerRepository.saveAll(Flux.range(0, options.seedBeers)
+                        .map(i -> Beer.builder()
+                                .beerName("Seed Beer " + i)
+                                .beerStyle(i % 3 == 0 ? "IPA" : "Pale Ale")
+                                .upc(String.valueOf(100_000 + i))
+                                .quantityOnHand(i % 500)
+                                .price(9.99)
+                                .build()))
+                .map(Beer::getId)
+                .collectList()
+                .block();
+        List<Integer> customerIds = customerRepository.saveAll(Flux.range(0, options.seedCustomers)
+                        .map(i -> Customer.builder()
+                                .customerName("Seed Customer " + i)
+                                .build()))
+                .map(Customer::getId)
+                .collectList()
+                .block();
+
+        context.getBean(BeerSearchIndex.class).rebuild().block();
+        context.getBean(BeerCatalog.class).markStale();
+        context.getBean(BeerListResponseCache.class).invalidate();
+        System.out.printf("Seeded %d beers and %d customers%n", beerIds.size(), customerIds.size());
+
+        Map<String, List<Integer>> ids = new HashMap<>();
+        ids.put("beer", beerIds);
+        ids.put("customer", customerIds);
+        return ids;
+    }
+
+    /**
+     * Reads the ids of the existing beers and customers of a running instance.
+     */
+    private static Map<String, List<Integer>> fetchIds(String target, LoadTestOptions options) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, List<Integer>> ids = new HashMap<>();
+        for (String resource : options.resources) {
+            List<Integer> resourceIds = new ArrayList<>();
+            String json = HttpClient.create().baseUrl(target).get().uri("/api/v2/" + resource)
+                    .responseContent().aggregate().asString().block();
+            try {
+                for (JsonNode node : objectMapper.readTree(json)) {
+                    resourceIds.add(node.get("id").asInt());
+                }
+            } catch (Exception exception) {
+                throw new IllegalStateException("Unable to list " + resource + " at " + target, exception);
+            }
+            ids.put(resource, resourceIds);
+        }
+        return ids;
+    }
+
+}
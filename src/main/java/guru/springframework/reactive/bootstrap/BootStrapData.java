@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -49,81 +51,79 @@ public class BootStrapData implements CommandLineRunner {
      */
     @Override
     public void run(String... args) throws Exception {
-        loadBeerData();
-        loadCustomerData();
-
-        beerRepository.count().subscribe(count -> log.info("Beer Count is: {}", count));
-        customerRepository.count().subscribe(count -> log.info("Customer Count is: {}", count));
+        loadBeerData()
+                .then(loadCustomerData())
+                .then(Mono.zip(beerRepository.count(), customerRepository.count()))
+                .doOnNext(counts -> log.info("Beer Count is: {}, Customer Count is: {}", counts.getT1(), counts.getT2()))
+                .block();
     }
 
     /**
      * Populates the Customer repository with sample data.
      * <p>
      * This method checks if the Customer repository is empty and, if so, populates it with sample data.
+     *
+     * @return a Mono completing once the sample customers are saved
      */
-    private void loadCustomerData() {
-        customerRepository.count().subscribe(count -> {
-            if(count == 0){
-                customerRepository.save(Customer.builder()
+    private Mono<Void> loadCustomerData() {
+        return customerRepository.count()
+                .filter(count -> count == 0)
+                .flatMapMany(count -> customerRepository.saveAll(Flux.just(
+                        Customer.builder()
                                 .customerName("Customer 1")
-                                .build())
-                        .subscribe();
-
-                customerRepository.save(Customer.builder()
+                                .build(),
+                        Customer.builder()
                                 .customerName("Customer 2")
-                                .build())
-                        .subscribe();
-
-                customerRepository.save(Customer.builder()
+                                .build(),
+                        Customer.builder()
                                 .customerName("Customer 3")
-                                .build())
-                        .subscribe();
-            }
-        });
+                                .build())))
+                .then();
     }
 
     /**
      * Populates the Beer repository with sample data.
      * <p>
      * This method checks if the Beer repository is empty and, if so, populates it with sample data.
+     *
+     * @return a Mono completing once the sample beers are saved
      */
-    private void loadBeerData() {
-        beerRepository.count().subscribe(count -> {
-            if (count == 0) {
-                Beer beer1 = Beer.builder()
-                        .beerName("Galaxy Cat")
-                        .beerStyle("Pale Ale")
-                        .upc("12356")
-                        .price(Double.valueOf("12.99"))
-                        .quantityOnHand(122)
-                        .createdDate(LocalDateTime.now())
-                        .lastModifiedDate(LocalDateTime.now())
-                        .build();
+    private Mono<Void> loadBeerData() {
+        return beerRepository.count()
+                .filter(count -> count == 0)
+                .flatMapMany(count -> {
+                    Beer beer1 = Beer.builder()
+                            .beerName("Galaxy Cat")
+                            .beerStyle("Pale Ale")
+                            .upc("12356")
+                            .price(Double.valueOf("12.99"))
+                            .quantityOnHand(122)
+                            .createdDate(LocalDateTime.now())
+                            .lastModifiedDate(LocalDateTime.now())
+                            .build();
 
-                Beer beer2 = Beer.builder()
-                        .beerName("Crank")
-                        .beerStyle("Pale Ale")
-                        .upc("12356222")
-                        .price(Double.valueOf("11.99"))
-                        .quantityOnHand(392)
-                        .createdDate(LocalDateTime.now())
-                        .lastModifiedDate(LocalDateTime.now())
-                        .build();
+                    Beer beer2 = Beer.builder()
+                            .beerName("Crank")
+                            .beerStyle("Pale Ale")
+                            .upc("12356222")
+                            .price(Double.valueOf("11.99"))
+                            .quantityOnHand(392)
+                            .createdDate(LocalDateTime.now())
+                            .lastModifiedDate(LocalDateTime.now())
+                            .build();
 
-                Beer beer3 = Beer.builder()
-                        .beerName("Sunshine City")
-                        .beerStyle("IPA")
-                        .upc("12356")
-                        .price(Double.valueOf("13.99"))
-                        .quantityOnHand(144)
-                        .createdDate(LocalDateTime.now())
-                        .lastModifiedDate(LocalDateTime.now())
-                        .build();
+                    Beer beer3 = Beer.builder()
+                            .beerName("Sunshine City")
+                            .beerStyle("IPA")
+                            .upc("12356")
+                            .price(Double.valueOf("13.99"))
+                            .quantityOnHand(144)
+                            .createdDate(LocalDateTime.now())
+                            .lastModifiedDate(LocalDateTime.now())
+                            .build();
 
-                beerRepository.save(beer1).subscribe();
-                beerRepository.save(beer2).subscribe();
-                beerRepository.save(beer3).subscribe();
-            }
-        });
+                    return beerRepository.saveAll(Flux.just(beer1, beer2, beer3));
+                })
+                .then();
     }
 }
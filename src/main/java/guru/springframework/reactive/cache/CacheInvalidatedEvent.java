@@ -0,0 +1,17 @@
+package guru.springframework.reactive.cache;
+
+/**
+ * Application event published when the invalidation broadcast delivers a {@link LookupCache} entry.
+ * <p>
+ * Delivered for the writes of every instance, this one included, it lets the other caches of this
+ * instance, such as rendered listings, drop what another instance's write made stale.
+ *
+ * @param cache the cache name, such as {@code beer}
+ * @param id    the ID of the invalidated entity
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 23:20
+ * @since jdk 1.17
+ */
+public record CacheInvalidatedEvent(String cache, String id) {
+}
@@ -0,0 +1,95 @@
+package guru.springframework.reactive.cache;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Embedded stand-in for the shared cache tier, holding values in the heap of this instance.
+ * <p>
+ * Behaves like the Redis tier for a single instance, or for several {@link LookupCache}s sharing
+ * one tier within a test. Expired values are dropped when read; the versions of invalidated keys
+ * are kept for the life of the instance.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 03:50
+ * @since jdk 1.17
+ */
+public class InMemorySharedCacheTier implements SharedCacheTier {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Versions by key, for keys invalidated at least once.
+     */
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    private final Sinks.Many<String> invalidations = Sinks.many().multicast().directBestEffort();
+
+    @Override
+    public Mono<byte[]> get(String key) {
+        return Mono.fromSupplier(() -> {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiresAt >= 0) {
+                entries.remove(key, entry);
+                return null;
+            }
+            return entry.value;
+        });
+    }
+
+    @Override
+    public Mono<Long> version(String key) {
+        return Mono.fromSupplier(() -> versions.getOrDefault(key, 0L));
+    }
+
+    @Override
+    public Mono<Boolean> put(String key, byte[] value, Duration ttl, long version) {
+        return Mono.fromSupplier(() -> {
+            boolean[] stored = {false};
+            // Holding the version of the key while storing orders the store with its invalidations
+            versions.compute(key, (unused, current) -> {
+                if ((current == null ? 0L : current) == version) {
+                    entries.put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+                    stored[0] = true;
+                }
+                return current;
+            });
+            return stored[0];
+        });
+    }
+
+    @Override
+    public Mono<Void> invalidate(String key) {
+        return Mono.fromRunnable(() -> {
+            versions.merge(key, 1L, Long::sum);
+            entries.remove(key);
+            invalidations.emitNext(key, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+        });
+    }
+
+    @Override
+    public Flux<String> invalidations() {
+        return invalidations.asFlux();
+    }
+
+    /**
+     * Returns the number of values held, expired ones included until read.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry(byte[] value, long expiresAt) {
+    }
+
+}
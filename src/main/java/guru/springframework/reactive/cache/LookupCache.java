@@ -0,0 +1,311 @@
+package guru.springframework.reactive.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.reactive.services.ReadWriteRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Two-level cache of single-entity lookups, such as beers and customers by ID.
+ * <p>
+ * A lookup is served by the near tier of this instance, then by the {@link SharedCacheTier} of all
+ * instances, and only then loaded from the database, the loaded value being stored in both tiers.
+ * A new instance therefore starts with the warm shared tier, and the database sees one load per
+ * entry and shared TTL whatever the number of instances.
+ * <p>
+ * Writers call {@link #invalidate} once their change is committed: the shared copy is removed and
+ * the key broadcast, and every instance drops its near copy. Near copies also expire after
+ * {@code app.cache.near.ttl}, which bounds staleness should a broadcast be missed, and a load that
+ * started before an invalidation is not stored: this instance counts the invalidations it sees, and
+ * the shared tier only stores a value if the version of its key, read before the load, is still
+ * current once the load completes, so an invalidation by another instance also prevails. Values are kept encoded as JSON, so callers
+ * never share a mutable instance.
+ * <p>
+ * Without a shared tier, when {@code app.cache.enabled} is false, every lookup is loaded.
+ * <p>
+ * Lookups of a context pinned to the primary by {@link ReadWriteRouting#pinPrimary} bypass the
+ * cache, as they must see the caller's own writes. Loads that fill the cache are pinned to the
+ * primary too: a lagging replica would otherwise store a row older than the last invalidation,
+ * which no later invalidation removes. A failing or slow shared tier, bounded by
+ * {@code app.cache.shared.timeout}, degrades to the near tier and the database. The
+ * {@code cache.lookups} counter is tagged with the {@code cache} and the {@code tier} that served
+ * the lookup, {@code near}, {@code shared} or {@code database}.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 03:50
+ * @since jdk 1.17
+ */
+@Slf4j
+public class LookupCache implements MeterBinder, DisposableBean {
+
+    /**
+     * The cache of beers by ID.
+     */
+    public static final String BEERS = "beer";
+
+    /**
+     * The cache of customers by ID.
+     */
+    public static final String CUSTOMERS = "customer";
+
+    private static final String[] CACHES = {BEERS, CUSTOMERS};
+
+    private static final String[] TIERS = {"near", "shared", "database"};
+
+    /**
+     * Version of a key the shared tier failed to return, whose loaded value is not stored there.
+     */
+    private static final long UNKNOWN_VERSION = -1L;
+
+    private final SharedCacheTier sharedTier;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String keyPrefix;
+
+    private final Duration nearTtl;
+
+    private final int nearMaxEntries;
+
+    private final Duration sharedTtl;
+
+    private final Duration sharedTimeout;
+
+    /**
+     * Near copies by full key.
+     */
+    private final Map<String, NearEntry> near = new ConcurrentHashMap<>();
+
+    /**
+     * Invalidations seen by this instance, to discard loads that raced with one.
+     */
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    /**
+     * Lookups served, by cache and tier.
+     */
+    private final Map<String, LongAdder> lookups = new ConcurrentHashMap<>();
+
+    private final Disposable invalidationSubscription;
+
+    /**
+     * Creates a lookup cache.
+     *
+     * @param sharedTier     the tier shared by every instance, or null to disable caching
+     * @param objectMapper   the codec of cached values
+     * @param eventPublisher publisher of the {@link CacheInvalidatedEvent} of broadcast invalidations
+     * @param keyPrefix      the prefix of every key of this application in the shared tier
+     * @param nearTtl        how long near copies are kept
+     * @param nearMaxEntries the maximum number of near copies
+     * @param sharedTtl      how long shared copies are kept
+     * @param sharedTimeout  how long a shared tier command may take before it is given up
+     */
+    public LookupCache(SharedCacheTier sharedTier, ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+                       String keyPrefix, Duration nearTtl, int nearMaxEntries, Duration sharedTtl,
+                       Duration sharedTimeout) {
+        this.sharedTier = sharedTier;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.keyPrefix = keyPrefix;
+        this.nearTtl = nearTtl;
+        this.nearMaxEntries = nearMaxEntries;
+        this.sharedTtl = sharedTtl;
+        this.sharedTimeout = sharedTimeout;
+        this.invalidationSubscription = sharedTier == null ? null : sharedTier.invalidations()
+                .filter(key -> key.startsWith(keyPrefix))
+                .subscribe(this::onInvalidation,
+                        throwable -> log.warn("Cache invalidation broadcast stopped", throwable));
+    }
+
+    /**
+     * Looks up an entity.
+     *
+     * @param cache  the cache name, such as {@code beer}
+     * @param id     the entity ID
+     * @param type   the entity type
+     * @param loader loads the entity from the database
+     * @param <T>    the entity type
+     * @return a Mono containing the entity, empty if it does not exist
+     */
+    public <T> Mono<T> get(String cache, Object id, Class<T> type, Supplier<Mono<T>> loader) {
+        return Mono.deferContextual(context -> {
+            if (sharedTier == null || ReadWriteRouting.isPrimaryPinned(context)) {
+                return loader.get();
+            }
+            String key = keyPrefix + cache + ':' + id;
+            NearEntry entry = near.get(key);
+            if (entry != null && System.nanoTime() - entry.expiresAt < 0) {
+                count(cache, "near");
+                return Mono.just(decode(entry.value, type));
+            }
+            long invalidationsBefore = invalidationCount.get();
+            return sharedTier.get(key)
+                    .timeout(sharedTimeout)
+                    .onErrorResume(throwable -> {
+                        log.debug("Shared cache tier unavailable for {}", key, throwable);
+                        return Mono.empty();
+                    })
+                    .map(value -> {
+                        count(cache, "shared");
+                        storeNear(key, value, invalidationsBefore);
+                        return decode(value, type);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> sharedVersion(key).flatMap(version -> loader.get()
+                            .contextWrite(ReadWriteRouting::pinPrimary)
+                            .flatMap(loaded -> {
+                                count(cache, "database");
+                                byte[] value = encode(loaded);
+                                if (!storeNear(key, value, invalidationsBefore) || version == UNKNOWN_VERSION) {
+                                    return Mono.just(loaded);
+                                }
+                                return sharedTier.put(key, value, sharedTtl, version)
+                                        .timeout(sharedTimeout)
+                                        .onErrorResume(throwable -> {
+                                            log.debug("Unable to store {} in the shared cache tier", key, throwable);
+                                            return Mono.empty();
+                                        })
+                                        .doOnNext(stored -> {
+                                            // Invalidated by another instance, whose broadcast may not be here yet
+                                            if (!stored) {
+                                                near.remove(key);
+                                            }
+                                        })
+                                        .thenReturn(loaded);
+                            }))));
+        });
+    }
+
+    /**
+     * Invalidates an entity on every instance, once its change is committed.
+     *
+     * @param cache the cache name
+     * @param id    the entity ID
+     * @return a Mono completing once the shared copy is removed and the invalidation broadcast
+     */
+    public Mono<Void> invalidate(String cache, Object id) {
+        if (sharedTier == null) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            String key = keyPrefix + cache + ':' + id;
+            invalidationCount.incrementAndGet();
+            near.remove(key);
+            return sharedTier.invalidate(key)
+                    .timeout(sharedTimeout)
+                    .onErrorResume(throwable -> {
+                        log.warn("Unable to invalidate {} in the shared cache tier", key, throwable);
+                        return Mono.empty();
+                    });
+        });
+    }
+
+    /**
+     * Invalidates several entities on every instance.
+     *
+     * @param cache the cache name
+     * @param ids   the entity IDs
+     * @return a Mono completing once every entity is invalidated
+     */
+    public Mono<Void> invalidateAll(String cache, Collection<?> ids) {
+        return Flux.fromIterable(ids).flatMap(id -> invalidate(cache, id)).then();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String cache : CACHES) {
+            for (String tier : TIERS) {
+                registry.more().counter("cache.lookups",
+                        Tags.of("cache", cache, "tier", tier),
+                        lookups.computeIfAbsent(cache + ':' + tier, unused -> new LongAdder()), LongAdder::sum);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    private void onInvalidation(String key) {
+        invalidationCount.incrementAndGet();
+        near.remove(key);
+        String entity = key.substring(keyPrefix.length());
+        int separator = entity.indexOf(':');
+        eventPublisher.publishEvent(new CacheInvalidatedEvent(entity.substring(0, separator),
+                entity.substring(separator + 1)));
+    }
+
+    /**
+     * Reads the version of a key in the shared tier, or {@link #UNKNOWN_VERSION} if the tier fails.
+     */
+    private Mono<Long> sharedVersion(String key) {
+        return sharedTier.version(key)
+                .timeout(sharedTimeout)
+                .onErrorResume(throwable -> {
+                    log.debug("Shared cache tier unavailable for the version of {}", key, throwable);
+                    return Mono.just(UNKNOWN_VERSION);
+                });
+    }
+
+    /**
+     * Stores a near copy unless an invalidation happened since the value was read.
+     */
+    private boolean storeNear(String key, byte[] value, long invalidationsBefore) {
+        if (invalidationCount.get() != invalidationsBefore) {
+            return false;
+        }
+        if (near.size() >= nearMaxEntries) {
+            Iterator<String> keys = near.keySet().iterator();
+            if (keys.hasNext()) {
+                near.remove(keys.next());
+            }
+        }
+        near.put(key, new NearEntry(value, System.nanoTime() + nearTtl.toNanos()));
+        return true;
+    }
+
+    private void count(String cache, String tier) {
+        lookups.computeIfAbsent(cache + ':' + tier, unused -> new LongAdder()).increment();
+    }
+
+    private byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to encode " + value, exception);
+        }
+    }
+
+    private <T> T decode(byte[] value, Class<T> type) {
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to decode cached " + type.getSimpleName(), exception);
+        }
+    }
+
+    private record NearEntry(byte[] value, long expiresAt) {
+    }
+
+}
@@ -0,0 +1,133 @@
+package guru.springframework.reactive.cache;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.reactive.ChannelMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Shared cache tier on any server speaking the Redis protocol, such as Redis, Valkey or KeyDB.
+ * <p>
+ * Values are plain {@code SET ... PX} / {@code GET} strings, invalidations are {@code DEL} followed
+ * by a {@code PUBLISH} of the key on the invalidation channel. The version of a key is a counter
+ * under the key suffixed with {@code :version}, incremented with the {@code DEL} and kept for the
+ * version TTL; a script compares it and sets the value in one step. Commands share one
+ * multiplexed connection; the subscription holds a second one, which Lettuce re-subscribes after a
+ * reconnect. Invalidations published while an instance is disconnected are lost to it, which is
+ * why near copies also expire on their own.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 03:50
+ * @since jdk 1.17
+ */
+@Slf4j
+public class RedisSharedCacheTier implements SharedCacheTier, DisposableBean {
+
+    private static final String PUT_SCRIPT = """
+            if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            return 1
+            """;
+
+    private static final String INVALIDATE_SCRIPT = """
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """;
+
+    private final RedisClient client;
+
+    private final StatefulRedisConnection<String, byte[]> connection;
+
+    private final RedisReactiveCommands<String, byte[]> commands;
+
+    private final StatefulRedisPubSubConnection<String, String> pubSubConnection;
+
+    private final String channel;
+
+    private final Flux<String> invalidations;
+
+    /**
+     * How long the version of an invalidated key is kept, longer than any load may take.
+     */
+    private final Duration versionTtl;
+
+    public RedisSharedCacheTier(String url, String channel, Duration versionTtl) {
+        this.client = RedisClient.create(url);
+        this.connection = client.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+        this.commands = connection.reactive();
+        this.pubSubConnection = client.connectPubSub();
+        this.channel = channel;
+        this.versionTtl = versionTtl;
+        this.pubSubConnection.sync().subscribe(channel);
+        this.invalidations = pubSubConnection.reactive().observeChannels()
+                .filter(message -> channel.equals(message.getChannel()))
+                .map(ChannelMessage::getMessage)
+                .share();
+        log.info("Shared cache tier on {}", url);
+    }
+
+    @Override
+    public Mono<byte[]> get(String key) {
+        return commands.get(key);
+    }
+
+    @Override
+    public Mono<Long> version(String key) {
+        return commands.get(versionKey(key))
+                .map(version -> Long.parseLong(new String(version, StandardCharsets.UTF_8)))
+                .defaultIfEmpty(0L);
+    }
+
+    @Override
+    public Mono<Boolean> put(String key, byte[] value, Duration ttl, long version) {
+        return commands.<Long>eval(PUT_SCRIPT, ScriptOutputType.INTEGER, new String[]{key, versionKey(key)},
+                        value, argument(version), argument(ttl.toMillis()))
+                .next()
+                .map(stored -> stored == 1L);
+    }
+
+    @Override
+    public Mono<Void> invalidate(String key) {
+        return commands.<Long>eval(INVALIDATE_SCRIPT, ScriptOutputType.INTEGER,
+                        new String[]{key, versionKey(key)}, argument(versionTtl.toMillis()))
+                .then(commands.publish(channel, key.getBytes(StandardCharsets.UTF_8)))
+                .then();
+    }
+
+    @Override
+    public Flux<String> invalidations() {
+        return invalidations;
+    }
+
+    @Override
+    public void destroy() {
+        pubSubConnection.close();
+        connection.close();
+        client.shutdown();
+    }
+
+    private static String versionKey(String key) {
+        return key + ":version";
+    }
+
+    private static byte[] argument(long number) {
+        return Long.toString(number).getBytes(StandardCharsets.UTF_8);
+    }
+
+}
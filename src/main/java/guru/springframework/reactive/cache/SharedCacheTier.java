@@ -0,0 +1,68 @@
+package guru.springframework.reactive.cache;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Cache tier shared by every instance of the application.
+ * <p>
+ * Values are opaque bytes under string keys. Besides storing values, the tier carries the
+ * invalidation broadcast: every key passed to {@link #invalidate(String)} is removed and then
+ * delivered by {@link #invalidations()} to every instance, the publishing one included, so each
+ * can drop its near copy.
+ * <p>
+ * Every invalidation also increments the {@link #version(String) version} of its key, and a value
+ * is only {@link #put stored} if the version it was loaded at is still current. A load racing with
+ * the invalidation of another instance is therefore never stored, whenever its broadcast arrives.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 03:50
+ * @since jdk 1.17
+ */
+public interface SharedCacheTier {
+
+    /**
+     * Reads a value.
+     *
+     * @param key the key
+     * @return a Mono containing the value, empty when absent or expired
+     */
+    Mono<byte[]> get(String key);
+
+    /**
+     * Reads the version of a key, read before loading a value to store under it.
+     *
+     * @param key the key
+     * @return a Mono containing the version, 0 for a key never invalidated
+     */
+    Mono<Long> version(String key);
+
+    /**
+     * Stores a value, unless its key has been invalidated since the value was loaded.
+     *
+     * @param key     the key
+     * @param value   the value
+     * @param ttl     how long the value is kept
+     * @param version the version of the key read before loading the value
+     * @return a Mono containing true if the value was stored, false if the version is no longer current
+     */
+    Mono<Boolean> put(String key, byte[] value, Duration ttl, long version);
+
+    /**
+     * Removes a value, increments the version of its key and broadcasts its invalidation to every instance.
+     *
+     * @param key the key
+     * @return a Mono completing once the value is removed and the invalidation published
+     */
+    Mono<Void> invalidate(String key);
+
+    /**
+     * Returns the keys invalidated by any instance, from the time of subscription.
+     *
+     * @return a hot Flux of invalidated keys
+     */
+    Flux<String> invalidations();
+
+}
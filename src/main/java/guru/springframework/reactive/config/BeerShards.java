@@ -0,0 +1,99 @@
+package guru.springframework.reactive.config;
+
+import guru.springframework.reactive.logging.QueryTiming;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.dialect.R2dbcDialect;
+import org.springframework.r2dbc.connection.init.DatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connection pools of the beer shards beyond the application's own database.
+ * <p>
+ * Shard {@code i}, for {@code i >= 1}, is opened on the {@code i}-th URL of {@code app.beer-shards.urls}.
+ * Its connections are offloaded by the {@link R2dbcExecutor} and timed by the {@link QueryTiming}
+ * like those of the primary, and its pool
+ * exports the {@code r2dbc.pool.*} metrics tagged {@code name=beerShard<i>}. Embedded shards get
+ * their schema from the same migrations as the primary.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 22:05
+ * @since jdk 1.17
+ */
+public class BeerShards implements MeterBinder, DisposableBean {
+
+    /**
+     * The pools of shards 1 to N - 1.
+     */
+    private final List<ConnectionPool> pools = new ArrayList<>();
+
+    /**
+     * The connection factories of shards 1 to N - 1, as wrapped by the {@link R2dbcExecutor} and the
+     * {@link QueryTiming}.
+     */
+    private final List<ConnectionFactory> connectionFactories = new ArrayList<>();
+
+    public BeerShards(List<String> urls, String username, String password, int maxSize,
+                      R2dbcExecutor r2dbcExecutor, QueryTiming queryTiming, DatabasePopulator schema) {
+        for (int shard = 1; shard <= urls.size(); shard++) {
+            String name = "beerShard" + shard;
+            ConnectionPool pool = ConnectionPools.create(name, urls.get(shard - 1), username, password, maxSize);
+            pools.add(pool);
+            Object offloaded = r2dbcExecutor.postProcessAfterInitialization(pool, name);
+            connectionFactories.add((ConnectionFactory) queryTiming.postProcessAfterInitialization(offloaded, name));
+            if (schema != null) {
+                schema.populate(pool).block();
+            }
+        }
+    }
+
+    /**
+     * Creates one entity template per shard, the application's own database first.
+     *
+     * @param primary            the template of the application's own database
+     * @param converter          the converter shared by every shard
+     * @param applicationContext the context providing the entity callbacks, such as auditing
+     * @return the templates, indexed by shard
+     */
+    public List<R2dbcEntityTemplate> templates(R2dbcEntityTemplate primary, R2dbcConverter converter,
+                                               ApplicationContext applicationContext) {
+        List<R2dbcEntityTemplate> templates = new ArrayList<>(connectionFactories.size() + 1);
+        templates.add(primary);
+        for (ConnectionFactory connectionFactory : connectionFactories) {
+            R2dbcDialect dialect = DialectResolver.getDialect(connectionFactory);
+            DatabaseClient databaseClient = DatabaseClient.builder()
+                    .connectionFactory(connectionFactory)
+                    .bindMarkers(dialect.getBindMarkersFactory())
+                    .build();
+            R2dbcEntityTemplate template = new R2dbcEntityTemplate(databaseClient, dialect, converter);
+            template.setApplicationContext(applicationContext);
+            templates.add(template);
+        }
+        return templates;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int shard = 1; shard <= pools.size(); shard++) {
+            new ConnectionPoolMetrics(pools.get(shard - 1), "beerShard" + shard, Tags.empty()).bindTo(registry);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(ConnectionPool::dispose);
+    }
+
+}
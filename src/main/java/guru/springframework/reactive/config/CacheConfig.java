@@ -0,0 +1,76 @@
+package guru.springframework.reactive.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.reactive.cache.InMemorySharedCacheTier;
+import guru.springframework.reactive.cache.LookupCache;
+import guru.springframework.reactive.cache.RedisSharedCacheTier;
+import guru.springframework.reactive.cache.SharedCacheTier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the lookup cache of beers and customers.
+ * <p>
+ * The shared tier is only created with {@code app.cache.enabled=true}; without it the
+ * {@link LookupCache} loads every lookup.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 03:50
+ * @since jdk 1.17
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Bean definition for the cache tier shared by every instance.
+     * <p>
+     * {@code app.cache.shared.type=memory} selects the embedded stand-in, which shares nothing
+     * beyond this instance, and {@code redis} a Redis-protocol server at {@code app.cache.shared.redis-url}.
+     *
+     * @param environment the environment holding the {@code app.cache.*} settings
+     * @return the configured SharedCacheTier bean
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.enabled", havingValue = "true")
+    SharedCacheTier sharedCacheTier(Environment environment) {
+        String type = environment.getProperty("app.cache.shared.type", "memory");
+        return switch (type) {
+            case "memory" -> new InMemorySharedCacheTier();
+            case "redis" -> new RedisSharedCacheTier(
+                    environment.getProperty("app.cache.shared.redis-url", "redis://localhost:6379"),
+                    keyPrefix(environment) + "invalidations",
+                    environment.getProperty("app.cache.shared.ttl", Duration.class, Duration.ofMinutes(10)));
+            default -> throw new IllegalStateException("Unknown app.cache.shared.type: " + type);
+        };
+    }
+
+    /**
+     * Bean definition for the lookup cache.
+     *
+     * @param sharedCacheTier the shared tier, absent when caching is disabled
+     * @param objectMapper    the codec of cached values
+     * @param eventPublisher  publisher of the broadcast invalidations
+     * @param environment     the environment holding the {@code app.cache.*} settings
+     * @return the configured LookupCache bean
+     */
+    @Bean
+    LookupCache lookupCache(ObjectProvider<SharedCacheTier> sharedCacheTier, ObjectMapper objectMapper,
+                            ApplicationEventPublisher eventPublisher, Environment environment) {
+        return new LookupCache(sharedCacheTier.getIfAvailable(), objectMapper, eventPublisher, keyPrefix(environment),
+                environment.getProperty("app.cache.near.ttl", Duration.class, Duration.ofSeconds(5)),
+                environment.getProperty("app.cache.near.max-entries", Integer.class, 10_000),
+                environment.getProperty("app.cache.shared.ttl", Duration.class, Duration.ofMinutes(10)),
+                environment.getProperty("app.cache.shared.timeout", Duration.class, Duration.ofMillis(100)));
+    }
+
+    private static String keyPrefix(Environment environment) {
+        return environment.getProperty("app.cache.key-prefix", "reactive:");
+    }
+
+}
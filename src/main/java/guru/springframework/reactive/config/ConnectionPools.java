@@ -0,0 +1,47 @@
+package guru.springframework.reactive.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.util.StringUtils;
+
+/**
+ * Creates the connection pools of the databases other than the primary, such as the read replica
+ * and the beer shards, which Spring Boot does not configure.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 21:40
+ * @since jdk 1.17
+ */
+final class ConnectionPools {
+
+    private ConnectionPools() {
+    }
+
+    /**
+     * Creates a pool of connections to an R2DBC URL.
+     *
+     * @param name     the pool name, also used as the {@code name} tag of its metrics
+     * @param url      the R2DBC URL
+     * @param username the user, or blank to keep the one of the URL
+     * @param password the password, or blank to keep the one of the URL
+     * @param maxSize  the maximum number of connections
+     * @return the connection pool
+     */
+    static ConnectionPool create(String name, String url, String username, String password, int maxSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (StringUtils.hasText(password)) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name(name)
+                .initialSize(Math.min(maxSize, 10))
+                .maxSize(maxSize)
+                .build());
+    }
+
+}
@@ -1,52 +1,258 @@
 package guru.springframework.reactive.config;
 
+import guru.springframework.reactive.logging.QueryTiming;
+import guru.springframework.reactive.repositories.BeerRepository;
+import guru.springframework.reactive.repositories.ShardedBeerRepository;
+import guru.springframework.reactive.repositories.SoftDeleteR2dbcRepository;
+import guru.springframework.reactive.tracing.LayerTracing;
 import io.r2dbc.spi.ConnectionFactory;
+import org.flywaydb.core.api.MigrationVersion;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.core.io.Resource;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
 import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Configuration class for setting up the database connection and initialization.
  * <p>
- * This class is responsible for configuring the database connection factory and
- * initializing the database schema using an SQL script.
+ * This class is responsible for configuring the database connection factory,
+ * initializing the database schema from the migration scripts and exposing the reactive
+ * transaction infrastructure used by the service layer. Repositories are backed by
+ * {@link SoftDeleteR2dbcRepository}, so beers and customers are soft-deleted.
  * <p>
  * Created by jt, Spring Framework Guru.
  *
  * @author architecture - rperezv
- * @version 01/10/2024 - 15:36
+ * @version 20/10/2026 - 04:50
  * @since jdk 1.17
  */
 @Configuration
 @EnableR2dbcAuditing
+@EnableR2dbcRepositories(basePackageClasses = BeerRepository.class,
+        repositoryBaseClass = SoftDeleteR2dbcRepository.class)
 public class DataBaseConfig {
 
     /**
-     * The resource property is used to load the schema.sql file from the classpath.
+     * The schema migrations, shared with Flyway, loaded from the classpath.
      */
-    @Value("classpath:schema.sql")
-    Resource resource;
+    @Value("classpath:db/migration/V*__*.sql")
+    Resource[] migrations;
 
     /**
      * Bean definition for initializing the database connection factory.
      * <p>
      * This method creates and configures a ConnectionFactoryInitializer bean, which
-     * is responsible for initializing the database schema using the provided SQL script.
+     * is responsible for initializing the database schema by applying every migration script
+     * in version order. The postgres profile migrates its schema with Flyway instead.
      *
      * @param connectionFactory the connection factory to be used for database connections
      * @return the configured ConnectionFactoryInitializer bean
      */
     @Bean
+    @Profile("!postgres")
     ConnectionFactoryInitializer initializer(ConnectionFactory connectionFactory) {
         ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
         initializer.setConnectionFactory(connectionFactory);
-        initializer.setDatabasePopulator(new ResourceDatabasePopulator(resource));
+        initializer.setDatabasePopulator(new ResourceDatabasePopulator(inVersionOrder(migrations)));
+
+        return initializer;
+    }
+
+    /**
+     * Bean definition for the reactive transaction manager.
+     * <p>
+     * Binds a single R2DBC connection to the subscriber context for the duration of a
+     * transaction, so multi-statement operations reuse one connection and commit once.
+     *
+     * @param connectionFactory the connection factory to be used for database connections
+     * @return the configured ReactiveTransactionManager bean
+     */
+    @Bean
+    ReactiveTransactionManager transactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+
+    /**
+     * Bean definition for the dedicated executor of the R2DBC driver.
+     * <p>
+     * Static, as a bean post-processor must be registered before the connection factory it wraps,
+     * which is also why its settings are read from the environment rather than injected.
+     *
+     * @param environment the environment holding {@code app.r2dbc.executor.threads} (0 runs the driver
+     *                    on the calling thread) and {@code app.r2dbc.executor.max-queued-tasks}
+     * @return the configured R2dbcExecutor bean
+     */
+    @Bean
+    static R2dbcExecutor r2dbcExecutor(Environment environment) {
+        int threads = environment.getProperty("app.r2dbc.executor.threads", Integer.class, 0);
+        int maxQueuedTasks = environment.getProperty("app.r2dbc.executor.max-queued-tasks", Integer.class, 10000);
+        return new R2dbcExecutor(threads, maxQueuedTasks);
+    }
+
+    /**
+     * Bean definition for the timing of database statements.
+     * <p>
+     * Static and reading the environment for the same reasons as {@link #r2dbcExecutor(Environment)}.
+     * Statements are timed for the access log, {@code app.access-log.enabled}, for the slow-query
+     * log, {@code app.slow-query-log.enabled}, and for tracing, {@code app.tracing.enabled}; with none
+     * of them the connection factories are left as they are.
+     *
+     * @param environment the environment holding the {@code app.access-log.*}, {@code app.slow-query-log.*}
+     *                    and {@code app.tracing.enabled} settings
+     * @param tracing     the layer tracing, looked up on first use
+     * @return the configured QueryTiming bean
+     */
+    @Bean
+    static QueryTiming queryTiming(Environment environment, ObjectProvider<LayerTracing> tracing) {
+        return new QueryTiming(environment.getProperty("app.access-log.enabled", Boolean.class, true),
+                environment.getProperty("app.slow-query-log.enabled", Boolean.class, true),
+                environment.getProperty("app.slow-query-log.threshold", Duration.class, Duration.ofMillis(100)),
+                environment.getProperty("app.slow-query-log.max-query-length", Integer.class, 1000),
+                environment.getProperty("app.slow-query-log.buffer-capacity", Integer.class, 8192),
+                environment.getProperty("app.tracing.enabled", Boolean.class, true) ? tracing : null);
+    }
+
+    /**
+     * Bean definition for the read replica routing.
+     * <p>
+     * Static and reading the environment for the same reasons as {@link #r2dbcExecutor(Environment)};
+     * only created with {@code app.r2dbc.replica.enabled=true}.
+     *
+     * @param environment the environment holding the {@code app.r2dbc.replica.*} settings
+     * @return the configured ReadReplicaRouting bean
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.r2dbc.replica.enabled", havingValue = "true")
+    static ReadReplicaRouting readReplicaRouting(Environment environment) {
+        return new ReadReplicaRouting(environment.getRequiredProperty("app.r2dbc.replica.url"),
+                environment.getProperty("app.r2dbc.replica.username"),
+                environment.getProperty("app.r2dbc.replica.password"),
+                environment.getProperty("app.r2dbc.replica.pool.max-size", Integer.class, 10));
+    }
+
+    /**
+     * Bean definition for initializing the schema of an embedded read replica.
+     * <p>
+     * Embedded replicas are not fed by the primary, so they get the same migrations. A real replica
+     * receives its schema, like its data, through replication.
+     *
+     * @param readReplicaRouting the read replica routing holding the replica pool
+     * @return the configured ConnectionFactoryInitializer bean
+     */
+    @Bean
+    @Profile("!postgres")
+    @ConditionalOnProperty(name = "app.r2dbc.replica.enabled", havingValue = "true")
+    ConnectionFactoryInitializer replicaInitializer(ReadReplicaRouting readReplicaRouting) {
+        ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
+        initializer.setConnectionFactory(readReplicaRouting.replica());
+        initializer.setDatabasePopulator(new ResourceDatabasePopulator(inVersionOrder(migrations)));
 
         return initializer;
     }
 
+    /**
+     * Bean definition for the connection pools of the beer shards.
+     * <p>
+     * Only created with {@code app.beer-shards.enabled=true}. Outside the postgres profile the shards
+     * are embedded databases and receive the migrations; PostgreSQL shards are migrated like the primary.
+     *
+     * @param environment   the environment holding the {@code app.beer-shards.*} settings
+     * @param r2dbcExecutor the executor offloading the shard connections
+     * @param queryTiming   the timing of the shard statements
+     * @return the configured BeerShards bean
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.beer-shards.enabled", havingValue = "true")
+    BeerShards beerShards(Environment environment, R2dbcExecutor r2dbcExecutor, QueryTiming queryTiming) {
+        List<String> urls = Arrays.stream(environment.getRequiredProperty("app.beer-shards.urls", String[].class))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toList();
+        boolean embedded = !environment.acceptsProfiles(Profiles.of("postgres"));
+        return new BeerShards(urls, environment.getProperty("app.beer-shards.username"),
+                environment.getProperty("app.beer-shards.password"),
+                environment.getProperty("app.beer-shards.pool.max-size", Integer.class, 10),
+                r2dbcExecutor, queryTiming, embedded ? new ResourceDatabasePopulator(inVersionOrder(migrations)) : null);
+    }
+
+    /**
+     * Bean definition for the sharded beer repository.
+     * <p>
+     * Takes precedence over the Spring Data {@link guru.springframework.reactive.repositories.BeerRepository},
+     * which keeps serving the application's own database only. Embedded shards are created by this
+     * instance, which aligns their identities at startup; PostgreSQL shards are aligned once, with
+     * {@code app.beer-shards.align-identity=true}, and only validated on the other starts.
+     *
+     * @param environment        the environment holding the {@code app.beer-shards.*} settings
+     * @param beerShards         the connection pools of the other shards
+     * @param r2dbcEntityTemplate the entity template of the application's own database, shard 0
+     * @param r2dbcConverter     the converter shared by every shard
+     * @param applicationContext the context providing the entity callbacks
+     * @return the configured ShardedBeerRepository bean
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "app.beer-shards.enabled", havingValue = "true")
+    ShardedBeerRepository shardedBeerRepository(Environment environment, BeerShards beerShards,
+                                                R2dbcEntityTemplate r2dbcEntityTemplate, R2dbcConverter r2dbcConverter,
+                                                ApplicationContext applicationContext) {
+        boolean embedded = !environment.acceptsProfiles(Profiles.of("postgres"));
+        return new ShardedBeerRepository(beerShards.templates(r2dbcEntityTemplate, r2dbcConverter, applicationContext),
+                embedded || environment.getProperty("app.beer-shards.align-identity", Boolean.class, false));
+    }
+
+    /**
+     * Bean definition for the transactional operator.
+     * <p>
+     * Used by the services to demarcate transactions programmatically around reactive pipelines.
+     *
+     * @param transactionManager the reactive transaction manager
+     * @return the configured TransactionalOperator bean
+     */
+    @Bean
+    TransactionalOperator transactionalOperator(ReactiveTransactionManager transactionManager) {
+        return TransactionalOperator.create(transactionManager);
+    }
+
+    /**
+     * Sorts Flyway-style {@code V<version>__<description>.sql} scripts by version.
+     * <p>
+     * Versions are compared the way Flyway compares them, part by part, so {@code V4_1} and
+     * {@code V4.1} both come after {@code V4} and before {@code V10}.
+     *
+     * @param scripts the migration scripts
+     * @return the scripts in the order Flyway applies them
+     */
+    static Resource[] inVersionOrder(Resource[] scripts) {
+        return Arrays.stream(scripts)
+                .sorted(Comparator.comparing(script -> {
+                    String name = Objects.requireNonNull(script.getFilename());
+                    return MigrationVersion.fromVersion(name.substring(1, name.indexOf("__")));
+                }))
+                .toArray(Resource[]::new);
+    }
+
 }
@@ -0,0 +1,61 @@
+package guru.springframework.reactive.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.ReactorResourceFactory;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Exports the number of tasks queued on each Netty event loop as {@code netty.eventloop.pending.tasks},
+ * tagged by loop index.
+ * <p>
+ * A loop whose queue keeps growing is saturated, usually by work that should not run on it such as
+ * a blocking driver call. The loops are created when the web server starts, so the gauges are
+ * registered once the application has started; the loop count is set by {@link ExecutionTuning}.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 19:25
+ * @since jdk 1.17
+ */
+@Component
+@RequiredArgsConstructor
+public class EventLoopMetrics {
+
+    /**
+     * The registry the gauges are registered in.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The resources of the web server, absent when no server is started.
+     */
+    private final ObjectProvider<ReactorResourceFactory> resourceFactory;
+
+    /**
+     * Registers one gauge per server event loop.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void bindEventLoops() {
+        ReactorResourceFactory factory = resourceFactory.getIfAvailable();
+        if (factory == null || !factory.isRunning()) {
+            return;
+        }
+        int index = 0;
+        for (EventExecutor executor : factory.getLoopResources().onServer(LoopResources.DEFAULT_NATIVE)) {
+            if (executor instanceof SingleThreadEventExecutor eventLoop) {
+                Gauge.builder("netty.eventloop.pending.tasks", eventLoop, SingleThreadEventExecutor::pendingTasks)
+                        .description("Tasks queued on the event loop")
+                        .tag("loop", String.valueOf(index++))
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+}
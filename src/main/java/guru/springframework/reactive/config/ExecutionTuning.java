@@ -0,0 +1,125 @@
+package guru.springframework.reactive.config;
+
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.ReactorNetty;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Sizes the Netty event loops and the default Reactor schedulers, and tracks the scheduler queues.
+ * <p>
+ * Reactor Netty reads its loop count and Reactor creates its shared {@link Schedulers#parallel()}
+ * and {@link Schedulers#boundedElastic()} schedulers on first use, so they are configured as soon
+ * as the environment is prepared, before any bean runs. Each setting left at 0 keeps the default:
+ * <ul>
+ *     <li>{@code app.netty.event-loop-threads}: event loops of the HTTP server and clients
+ *     (default: cores, minimum 4), unless {@code reactor.netty.ioWorkerCount} is set</li>
+ *     <li>{@code app.reactor.parallel-threads}: threads of the parallel scheduler (default: cores)</li>
+ *     <li>{@code app.reactor.bounded-elastic.max-threads}: thread cap of the bounded elastic
+ *     scheduler (default: 10 x cores)</li>
+ *     <li>{@code app.reactor.bounded-elastic.max-queued-tasks}: queued tasks per bounded elastic
+ *     thread (default: 100000)</li>
+ * </ul>
+ * Every executor backing a Reactor scheduler is also registered, weakly, so the number of tasks
+ * waiting in their queues can be exported per scheduler by {@link SchedulerMetrics}.
+ * <p>
+ * Registered in {@code META-INF/spring.factories}.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 19:10
+ * @since jdk 1.17
+ */
+public class ExecutionTuning implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+    private static final String QUEUE_TRACKING_KEY = ExecutionTuning.class.getName();
+
+    /**
+     * Executors backing Reactor schedulers, by scheduler, held weakly so disposed workers go away.
+     */
+    private static final Map<ScheduledThreadPoolExecutor, String> EXECUTORS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        Schedulers.addExecutorServiceDecorator(QUEUE_TRACKING_KEY, ExecutionTuning::track);
+
+        Environment environment = event.getEnvironment();
+        int eventLoopThreads = environment.getProperty("app.netty.event-loop-threads", Integer.class, 0);
+        if (eventLoopThreads > 0 && System.getProperty(ReactorNetty.IO_WORKER_COUNT) == null) {
+            System.setProperty(ReactorNetty.IO_WORKER_COUNT, String.valueOf(eventLoopThreads));
+        }
+        int parallelThreads = environment.getProperty("app.reactor.parallel-threads", Integer.class, 0);
+        int boundedElasticThreads = environment.getProperty("app.reactor.bounded-elastic.max-threads", Integer.class, 0);
+        int boundedElasticQueue = environment.getProperty("app.reactor.bounded-elastic.max-queued-tasks", Integer.class, 0);
+        if (parallelThreads > 0 || boundedElasticThreads > 0 || boundedElasticQueue > 0) {
+            Schedulers.setFactory(new TunedFactory(parallelThreads, boundedElasticThreads, boundedElasticQueue));
+        }
+    }
+
+    /**
+     * Returns the number of tasks queued on the live executors of a scheduler.
+     *
+     * @param schedulerName the scheduler name, such as {@code parallel} or {@code boundedElastic}
+     * @return the number of queued tasks
+     */
+    static int queuedTasks(String schedulerName) {
+        int queued = 0;
+        synchronized (EXECUTORS) {
+            for (Map.Entry<ScheduledThreadPoolExecutor, String> entry : EXECUTORS.entrySet()) {
+                if (entry.getValue().equals(schedulerName) && !entry.getKey().isShutdown()) {
+                    queued += entry.getKey().getQueue().size();
+                }
+            }
+        }
+        return queued;
+    }
+
+    private static ScheduledExecutorService track(Scheduler scheduler, ScheduledExecutorService executor) {
+        if (executor instanceof ScheduledThreadPoolExecutor threadPool) {
+            EXECUTORS.put(threadPool, schedulerName(Scannable.from(scheduler).name()));
+        }
+        return executor;
+    }
+
+    /**
+     * Extracts the quoted name from a scheduler description such as {@code parallel(8,"parallel")}.
+     */
+    static String schedulerName(String description) {
+        int start = description.indexOf('"');
+        int end = start < 0 ? -1 : description.indexOf('"', start + 1);
+        return end < 0 ? description : description.substring(start + 1, end);
+    }
+
+    /**
+     * Factory creating the default schedulers with the configured sizes.
+     */
+    private record TunedFactory(int parallelThreads, int boundedElasticThreads,
+                                int boundedElasticQueue) implements Schedulers.Factory {
+
+        @Override
+        public Scheduler newParallel(int parallelism, ThreadFactory threadFactory) {
+            return Schedulers.Factory.super.newParallel(parallelThreads > 0 ? parallelThreads : parallelism,
+                    threadFactory);
+        }
+
+        @Override
+        public Scheduler newBoundedElastic(int threadCap, int queuedTaskCap, ThreadFactory threadFactory,
+                                           int ttlSeconds) {
+            return Schedulers.Factory.super.newBoundedElastic(
+                    boundedElasticThreads > 0 ? boundedElasticThreads : threadCap,
+                    boundedElasticQueue > 0 ? boundedElasticQueue : queuedTaskCap,
+                    threadFactory, ttlSeconds);
+        }
+    }
+
+}
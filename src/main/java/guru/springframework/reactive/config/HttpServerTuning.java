@@ -0,0 +1,79 @@
+package guru.springframework.reactive.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tunes the connections of the Reactor Netty server and counts them.
+ * <p>
+ * With {@code server.http2.enabled=true} the server speaks HTTP/2 next to HTTP/1.1: negotiated
+ * with ALPN when {@code server.ssl.*} is configured, otherwise as h2c, by prior knowledge or by
+ * upgrade. An HTTP/2 client multiplexes its concurrent requests as streams of one connection,
+ * at most {@code app.http2.max-concurrent-streams} at a time, each stream starting with a flow
+ * control window of {@code app.http2.initial-window-size} bytes. Idle connections are closed
+ * after {@code server.netty.idle-timeout}, and {@code app.http.tcp-keep-alive} lets the kernel
+ * detect peers that vanished without closing theirs.
+ * <p>
+ * {@code http.server.connections.opened} counts the TCP connections accepted and
+ * {@code http.server.connections.open} the ones currently open, whatever the protocol.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 00:30
+ * @since jdk 1.17
+ */
+@Component
+public class HttpServerTuning implements NettyServerCustomizer, MeterBinder {
+
+    private final long maxConcurrentStreams;
+
+    private final int initialWindowSize;
+
+    private final boolean tcpKeepAlive;
+
+    private final LongAdder opened = new LongAdder();
+
+    private final AtomicLong open = new AtomicLong();
+
+    public HttpServerTuning(@Value("${app.http2.max-concurrent-streams:256}") long maxConcurrentStreams,
+                            @Value("${app.http2.initial-window-size:1048576}") int initialWindowSize,
+                            @Value("${app.http.tcp-keep-alive:true}") boolean tcpKeepAlive) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+        this.initialWindowSize = initialWindowSize;
+        this.tcpKeepAlive = tcpKeepAlive;
+    }
+
+    @Override
+    public HttpServer apply(HttpServer httpServer) {
+        return httpServer
+                .http2Settings(settings -> settings
+                        .maxConcurrentStreams(maxConcurrentStreams)
+                        .initialWindowSize(initialWindowSize))
+                .childOption(ChannelOption.SO_KEEPALIVE, tcpKeepAlive)
+                .doOnChannelInit((observer, channel, remoteAddress) -> {
+                    opened.increment();
+                    open.incrementAndGet();
+                    channel.closeFuture().addListener(future -> open.decrementAndGet());
+                });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("http.server.connections.opened", opened, LongAdder::sum)
+                .description("TCP connections accepted by the HTTP server")
+                .register(registry);
+        Gauge.builder("http.server.connections.open", open, AtomicLong::get)
+                .description("TCP connections open on the HTTP server")
+                .register(registry);
+    }
+
+}
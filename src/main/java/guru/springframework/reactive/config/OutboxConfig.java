@@ -0,0 +1,87 @@
+package guru.springframework.reactive.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.reactive.outbox.FileOutboxSink;
+import guru.springframework.reactive.outbox.InMemoryOutboxSink;
+import guru.springframework.reactive.outbox.OutboxRelay;
+import guru.springframework.reactive.outbox.OutboxSink;
+import guru.springframework.reactive.repositories.OutboxEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration class for publishing the outbox.
+ * <p>
+ * Only active with {@code app.outbox.enabled=true}; the relay additionally requires
+ * {@code app.outbox.relay.enabled=true}, so that a single instance publishes. The outbox cannot be
+ * combined with {@code app.beer-shards.enabled=true}: its rows live on shard 0, so they would not
+ * commit atomically with the writes of beers on the other shards.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 05:05
+ * @since jdk 1.17
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true")
+public class OutboxConfig {
+
+    /**
+     * Refuses to start the outbox alongside beer sharding.
+     *
+     * @param environment the environment holding the {@code app.beer-shards.*} settings
+     * @throws IllegalStateException if the beer table is sharded
+     */
+    public OutboxConfig(Environment environment) {
+        if (environment.getProperty("app.beer-shards.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("app.outbox.enabled=true is not supported with app.beer-shards.enabled=true:"
+                    + " outbox events would not commit atomically with the beer writes of shards other than 0");
+        }
+    }
+
+    /**
+     * Bean definition for the outbox sink.
+     * <p>
+     * {@code app.outbox.sink.type=memory} keeps the latest {@code app.outbox.sink.capacity} events in
+     * memory, {@code file} appends them to {@code app.outbox.sink.file}. A broker sink replaces this bean.
+     *
+     * @param environment  the environment holding the {@code app.outbox.sink.*} settings
+     * @param objectMapper the mapper encoding the file lines
+     * @return the configured OutboxSink bean
+     * @throws IOException if the file cannot be opened
+     */
+    @Bean
+    OutboxSink outboxSink(Environment environment, ObjectMapper objectMapper) throws IOException {
+        String type = environment.getProperty("app.outbox.sink.type", "memory");
+        return switch (type) {
+            case "memory" -> new InMemoryOutboxSink(
+                    environment.getProperty("app.outbox.sink.capacity", Integer.class, 10_000));
+            case "file" -> new FileOutboxSink(
+                    Path.of(environment.getProperty("app.outbox.sink.file", "outbox.ndjson")), objectMapper);
+            default -> throw new IllegalStateException("Unknown app.outbox.sink.type: " + type);
+        };
+    }
+
+    /**
+     * Bean definition for the outbox relay.
+     *
+     * @param outboxEventRepository the repository of the outbox
+     * @param outboxSink            the sink the events are published to
+     * @param environment           the environment holding the {@code app.outbox.relay.*} settings
+     * @return the configured OutboxRelay bean
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink outboxSink,
+                            Environment environment) {
+        return new OutboxRelay(outboxEventRepository, outboxSink,
+                environment.getProperty("app.outbox.relay.batch-size", Integer.class, 500),
+                environment.getProperty("app.outbox.relay.poll-interval", Duration.class, Duration.ofMillis(200)));
+    }
+
+}
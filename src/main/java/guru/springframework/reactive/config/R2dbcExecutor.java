@@ -0,0 +1,135 @@
+package guru.springframework.reactive.config;
+
+import guru.springframework.reactive.util.R2dbcDelegatingHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dedicated executor for the R2DBC driver.
+ * <p>
+ * The H2 driver performs its I/O on the thread that subscribes, which for a request is a Netty
+ * event loop. With {@code app.r2dbc.executor.threads} greater than 0 every {@link ConnectionFactory}
+ * bean is wrapped so that each publisher returned by the driver, its connections, statements,
+ * batches and results is subscribed on a pool of that many {@code r2dbc-N} threads instead,
+ * queueing at most {@code app.r2dbc.executor.max-queued-tasks} operations before rejecting them.
+ * The wrapper is an {@link R2dbcDelegatingHandler} proxy implementing {@link io.r2dbc.spi.Wrapped},
+ * so the connection pool behind it is still found by the pool metrics and disposed on shutdown.
+ * <p>
+ * The executor exports the standard {@code executor.*} metrics under the name {@code r2dbc}.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 04:20
+ * @since jdk 1.17
+ */
+@Slf4j
+public class R2dbcExecutor implements BeanPostProcessor, MeterBinder, DisposableBean {
+
+    private static final String NAME = "r2dbc";
+
+    /**
+     * The executor running the driver, or null when the driver runs on the calling thread.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The scheduler over {@link #executor}.
+     */
+    private final Scheduler scheduler;
+
+    public R2dbcExecutor(int threads, int maxQueuedTasks) {
+        if (threads > 0) {
+            this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(maxQueuedTasks), threadFactory());
+            this.executor.allowCoreThreadTimeOut(true);
+            this.scheduler = Schedulers.fromExecutorService(executor, NAME);
+            log.info("R2DBC driver running on {} dedicated threads", threads);
+        } else {
+            this.executor = null;
+            this.scheduler = null;
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return scheduler != null && bean instanceof ConnectionFactory ? offload(bean) : bean;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (executor != null) {
+            new ExecutorServiceMetrics(executor, NAME, Tags.empty()).bindTo(registry);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.dispose();
+        }
+    }
+
+    /**
+     * Wraps a driver object so its publishers are subscribed on the dedicated executor.
+     */
+    private Object offload(Object target) {
+        return new OffloadingHandler(target).newProxy();
+    }
+
+    private Object offloadResult(Object result) {
+        return result instanceof Connection || result instanceof Statement || result instanceof Batch
+                || result instanceof Result ? offload(result) : result;
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, NAME + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Delegates to the driver object, moving the subscription of returned publishers to the
+     * dedicated executor and wrapping the driver objects they emit.
+     */
+    private final class OffloadingHandler extends R2dbcDelegatingHandler {
+
+        private OffloadingHandler(Object target) {
+            super(target);
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (result instanceof Publisher<?> publisher) {
+                return asReturned(method, Flux.from(publisher)
+                        .map(R2dbcExecutor.this::offloadResult)
+                        .subscribeOn(scheduler));
+            }
+            return result == target ? result : offloadResult(result);
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package guru.springframework.reactive.config;
+
+import guru.springframework.reactive.services.ReadWriteRouting;
+import guru.springframework.reactive.services.ReadWriteRouting.Target;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.core.Ordered;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Routes read-only service calls to a read replica.
+ * <p>
+ * The {@link ConnectionFactory} bean, the primary, is replaced by a routing connection factory that
+ * acquires each connection from the primary or from a replica pool opened on
+ * {@code app.r2dbc.replica.url}, as decided by {@link ReadWriteRouting#targetOf} from the subscriber
+ * context. Transactions bind the connection they start with, so a transaction never mixes both.
+ * <p>
+ * Runs before {@link R2dbcExecutor}, which then offloads the connections of both databases. The
+ * routing factory unwraps to the primary, so the primary pool keeps its {@code r2dbc.pool.*} metrics
+ * tagged {@code name=connectionFactory}; the replica pool exports them tagged {@code name=replica},
+ * and {@code r2dbc.routing.connections} counts the connections routed to each target.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 20:50
+ * @since jdk 1.17
+ */
+@Slf4j
+public class ReadReplicaRouting implements BeanPostProcessor, Ordered, MeterBinder, DisposableBean {
+
+    /**
+     * The replica connection pool.
+     */
+    private final ConnectionPool replica;
+
+    /**
+     * The routing factory replacing the primary, once created.
+     */
+    private volatile RoutingConnectionFactory routing;
+
+    public ReadReplicaRouting(String url, String username, String password, int maxSize) {
+        this.replica = ConnectionPools.create("replica", url, username, password, maxSize);
+        log.info("Read-only service calls routed to the replica at {}", url);
+    }
+
+    /**
+     * Returns the replica connection pool.
+     *
+     * @return the replica connection pool
+     */
+    public ConnectionFactory replica() {
+        return replica;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ConnectionFactory primary && routing == null) {
+            routing = new RoutingConnectionFactory(primary, replica);
+            return routing;
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        RoutingConnectionFactory current = routing;
+        if (current == null) {
+            return;
+        }
+        new ConnectionPoolMetrics(replica, "replica", Tags.empty()).bindTo(registry);
+        current.routed.forEach((target, count) ->
+                FunctionCounter.builder("r2dbc.routing.connections", count, LongAdder::sum)
+                        .description("Connections acquired through the routing connection factory")
+                        .tag("target", target.name().toLowerCase())
+                        .register(registry));
+    }
+
+    @Override
+    public void destroy() {
+        replica.dispose();
+    }
+
+    /**
+     * Routing connection factory keyed by {@link Target}, falling back to the primary.
+     * <p>
+     * Unwraps to the primary, where Spring Boot looks for the database type and the pool, and is
+     * disposable, as the primary pool bean it replaces is disposed on shutdown through its {@code dispose} method.
+     */
+    static final class RoutingConnectionFactory extends AbstractRoutingConnectionFactory
+            implements Wrapped<ConnectionFactory>, Disposable {
+
+        private final ConnectionFactory primary;
+
+        private final Map<Target, LongAdder> routed = new EnumMap<>(Target.class);
+
+        RoutingConnectionFactory(ConnectionFactory primary, ConnectionFactory replica) {
+            this.primary = primary;
+            for (Target target : Target.values()) {
+                routed.put(target, new LongAdder());
+            }
+            setTargetConnectionFactories(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+            setDefaultTargetConnectionFactory(primary);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Mono<Object> determineCurrentLookupKey() {
+            return Mono.deferContextual(context -> {
+                Target target = ReadWriteRouting.targetOf(context);
+                routed.get(target).increment();
+                return Mono.just(target);
+            });
+        }
+
+        @Override
+        public ConnectionFactory unwrap() {
+            return primary;
+        }
+
+        @Override
+        public void dispose() {
+            if (primary instanceof Disposable disposable) {
+                disposable.dispose();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package guru.springframework.reactive.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Exports the queue depth of the default Reactor schedulers as {@code reactor.scheduler.queued.tasks},
+ * tagged by scheduler, from the executors tracked by {@link ExecutionTuning}.
+ * <p>
+ * A steadily growing {@code boundedElastic} queue means blocking work arrives faster than the
+ * thread cap lets it run, and {@code app.reactor.bounded-elastic.max-threads} is too low.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 19:30
+ * @since jdk 1.17
+ */
+@Component
+public class SchedulerMetrics implements MeterBinder {
+
+    /**
+     * The default schedulers, by the names Reactor gives them.
+     */
+    private static final List<String> SCHEDULERS = List.of("parallel", "boundedElastic", "single");
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String scheduler : SCHEDULERS) {
+            Gauge.builder("reactor.scheduler.queued.tasks", () -> ExecutionTuning.queuedTasks(scheduler))
+                    .description("Tasks queued on the Reactor scheduler")
+                    .tag("scheduler", scheduler)
+                    .register(registry);
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package guru.springframework.reactive.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.reactive.tracing.FileSpanExporter;
+import guru.springframework.reactive.tracing.InMemorySpanExporter;
+import guru.springframework.reactive.tracing.LayerTracing;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuration class for tracing the request layers.
+ * <p>
+ * Spring Boot turns the observations into OpenTelemetry spans, samples them with
+ * {@code management.tracing.sampling.probability} and hands the sampled ones in batches to every
+ * {@link SpanExporter} bean. This configuration adds the observations below the HTTP server and, for
+ * tests and local runs without a collector, an opt-in stand-in exporter.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 05:20
+ * @since jdk 1.17
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Bean definition for the layer tracing.
+     * <p>
+     * With {@code app.tracing.enabled=false} the service calls, connection acquisitions and
+     * statements are not observed, whatever the sampling.
+     *
+     * @param observationRegistry the registry of the application
+     * @param environment         the environment holding the {@code app.tracing.enabled} setting
+     * @return the configured LayerTracing bean
+     */
+    @Bean
+    LayerTracing layerTracing(ObservationRegistry observationRegistry, Environment environment) {
+        return new LayerTracing(environment.getProperty("app.tracing.enabled", Boolean.class, true)
+                ? observationRegistry : ObservationRegistry.NOOP);
+    }
+
+    /**
+     * Bean definition for the stand-in span exporter.
+     * <p>
+     * {@code app.tracing.exporter.type=memory} keeps the latest {@code app.tracing.exporter.capacity}
+     * spans in memory, {@code file} appends them to {@code app.tracing.exporter.file}. Without the
+     * property no stand-in is created, for a collector exporter such as OTLP to take over.
+     *
+     * @param environment  the environment holding the {@code app.tracing.exporter.*} settings
+     * @param objectMapper the mapper encoding the file lines
+     * @return the configured SpanExporter bean
+     * @throws IOException if the file cannot be opened
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter.type")
+    SpanExporter standInSpanExporter(Environment environment, ObjectMapper objectMapper) throws IOException {
+        String type = environment.getRequiredProperty("app.tracing.exporter.type");
+        return switch (type) {
+            case "memory" -> new InMemorySpanExporter(
+                    environment.getProperty("app.tracing.exporter.capacity", Integer.class, 10_000));
+            case "file" -> new FileSpanExporter(
+                    Path.of(environment.getProperty("app.tracing.exporter.file", "spans.ndjson")), objectMapper);
+            default -> throw new IllegalStateException("Unknown app.tracing.exporter.type: " + type);
+        };
+    }
+
+}
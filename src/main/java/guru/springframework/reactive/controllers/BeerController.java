@@ -2,9 +2,14 @@ package guru.springframework.reactive.controllers;
 
 import guru.springframework.reactive.model.BeerDTO;
 import guru.springframework.reactive.services.BeerService;
+import guru.springframework.reactive.web.BeerListResponseCache;
+import guru.springframework.reactive.web.IdempotencyKeyStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -12,6 +17,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 /**
  * REST controller for handling beer-related requests.
  * <p>
@@ -36,23 +43,81 @@ public class BeerController {
      * The path for a specific beer by ID.
      */
     public static final String BEER_PATH_ID = BEER_PATH + "/{beerId}";
+
+    /**
+     * The path for searching beers by name and style.
+     */
+    public static final String BEER_SEARCH_PATH = BEER_PATH + "/search";
     public static final String BEER_NOT_FOUND = "Beer not found";
 
+    /**
+     * Page size of delta listings that do not specify one.
+     */
+    public static final int DEFAULT_CHANGES_SIZE = 1000;
+
+    /**
+     * Largest page size served by delta listings.
+     */
+    public static final int MAX_CHANGES_SIZE = 10000;
+
     /**
      * Service for managing beer-related operations.
      */
     private final BeerService beerService;
 
+    /**
+     * Store deduplicating client retries of create requests.
+     */
+    private final IdempotencyKeyStore idempotencyKeyStore;
+
+    /**
+     * Cache of the encoded list responses.
+     */
+    private final BeerListResponseCache beerListResponseCache;
+
     /**
      * Endpoint to list all beers.
      * <p>
-     * This method handles GET requests to the /api/v2/beer endpoint and returns a Flux of BeerDTO objects.
+     * This method handles GET requests to the /api/v2/beer endpoint and returns the JSON array of BeerDTO objects,
+     * optionally filtered by beer style. The body is served pre-encoded from the {@link BeerListResponseCache},
+     * with an ETag so clients can revalidate it, or streamed from the service when the list is not cached.
      *
-     * @return a Flux containing BeerDTO objects
+     * @param beerStyle the style to filter by, or null to list every beer
+     * @return a Mono containing a ResponseEntity with the encoded or streamed BeerDTO objects
      */
     @GetMapping(BeerController.BEER_PATH)
-    Flux<BeerDTO> listBeers() {
-        return beerService.listBeers();
+    Mono<ResponseEntity<?>> listBeers(@RequestParam(name = "beerStyle", required = false) String beerStyle) {
+        String style = StringUtils.hasText(beerStyle) ? beerStyle : null;
+        return beerListResponseCache.get(style)
+                .<ResponseEntity<?>>map(response -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag(response.eTag())
+                        .body(response.body()))
+                .switchIfEmpty(Mono.fromSupplier(() -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(style == null ? beerService.listBeers() : beerService.listBeersByStyle(style))));
+    }
+
+    /**
+     * Endpoint to list the beers changed since a time.
+     * <p>
+     * This method handles GET requests to the /api/v2/beer endpoint carrying {@code modifiedSince} and streams the
+     * BeerDTO objects changed at or after that time, deleted ones included with their {@code deletedAt}, ordered by
+     * last modified date then ID. The next page is requested by passing the last modified date and ID of the last
+     * beer received as {@code modifiedSince} and {@code afterId}; a page shorter than {@code size} is the last one.
+     *
+     * @param modifiedSince the ISO date-time to list changes from
+     * @param afterId       the ID of the last beer of the previous page
+     * @param size          the page size, capped at {@value #MAX_CHANGES_SIZE}
+     * @return a Flux containing the changed BeerDTO objects
+     */
+    @GetMapping(path = BeerController.BEER_PATH, params = "modifiedSince")
+    Flux<BeerDTO> listBeersModifiedSince(@RequestParam("modifiedSince")
+                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedSince,
+                                         @RequestParam(name = "afterId", required = false) Integer afterId,
+                                         @RequestParam(name = "size", required = false) Integer size) {
+        int pageSize = size == null ? DEFAULT_CHANGES_SIZE : Math.max(1, Math.min(size, MAX_CHANGES_SIZE));
+        return beerService.listBeersModifiedSince(modifiedSince, afterId, pageSize);
     }
 
     /**
@@ -69,18 +134,38 @@ public class BeerController {
                 .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, BEER_NOT_FOUND)));
     }
 
+    /**
+     * Endpoint to search beers by name and style.
+     * <p>
+     * This method handles GET requests to the /api/v2/beer/search endpoint and returns a Flux of BeerDTO
+     * objects whose name or style match every term of the query, ordered by relevance.
+     *
+     * @param query the free-text query
+     * @param limit the maximum number of results
+     * @return a Flux containing the matching BeerDTO objects
+     */
+    @GetMapping(BeerController.BEER_SEARCH_PATH)
+    Flux<BeerDTO> searchBeers(@RequestParam("q") String query,
+                              @RequestParam(name = "limit", defaultValue = "25") Integer limit) {
+        return beerService.searchBeers(query, limit);
+    }
+
     /**
      * Endpoint to save a beer.
      * <p>
      * This method handles POST requests to the /api/v2/beer endpoint and returns a Mono containing the saved BeerDTO object.
+     * Retries carrying the same Idempotency-Key header are answered with the original result without saving again.
      *
+     * @param idempotencyKey the optional client-chosen idempotency key
      * @param beerDTO the BeerDTO object to save
      * @return a Mono containing the saved BeerDTO object
      */
     @PostMapping(BeerController.BEER_PATH)
-    Mono<ResponseEntity<Void>> saveBeer(@Validated @RequestBody BeerDTO beerDTO) {
+    Mono<ResponseEntity<Void>> saveBeer(@RequestHeader(name = IdempotencyKeyStore.IDEMPOTENCY_KEY_HEADER, required = false)
+                                        String idempotencyKey,
+                                        @Validated @RequestBody BeerDTO beerDTO) {
 
-        return beerService.saveBeer(beerDTO)
+        return idempotencyKeyStore.execute(BEER_PATH, idempotencyKey, beerDTO, () -> beerService.saveBeer(beerDTO))
                 .map(saveDto -> ResponseEntity.created(UriComponentsBuilder
                             .fromHttpUrl("http://localhost:8080" + BEER_PATH
                                     + "/" + saveDto.getId())
@@ -128,9 +213,9 @@ public class BeerController {
     @DeleteMapping(BeerController.BEER_PATH_ID)
     Mono<ResponseEntity<Void>> deleteBeer(@PathVariable("beerId") Integer beerId) {
 
-        return beerService.getBeerById(beerId)
+        return beerService.deleteBeer(beerId)
+                .filter(Boolean::booleanValue)
                 .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, BEER_NOT_FOUND)))
-                .map(beerDTO -> beerService.deleteBeer(beerDTO.getId()))
                 .thenReturn(ResponseEntity.noContent().build());
 
     }
@@ -0,0 +1,63 @@
+package guru.springframework.reactive.controllers;
+
+import guru.springframework.reactive.model.BeerOrderDTO;
+import guru.springframework.reactive.services.BeerOrderService;
+import guru.springframework.reactive.services.CustomerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST controller for reading customer orders.
+ *
+ * @see guru.springframework.reactive.services.BeerOrderService
+ * @see guru.springframework.reactive.model.BeerOrderDTO
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 18:08
+ * @since jdk 1.17
+ */
+@RestController
+@RequiredArgsConstructor
+public class BeerOrderController {
+
+    /**
+     * Path of the orders of a customer.
+     */
+    public static final String CUSTOMER_ORDERS_PATH = CustomerController.CUSTOMER_PATH_ID + "/orders";
+
+    /**
+     * Service for reading customer orders.
+     */
+    private final BeerOrderService beerOrderService;
+
+    /**
+     * Service used to tell a customer without orders from a missing one.
+     */
+    private final CustomerService customerService;
+
+    /**
+     * Endpoint to list the orders of a customer.
+     * <p>
+     * This method handles GET requests to the /api/v2/customer/{customerId}/orders endpoint and returns a Flux of
+     * BeerOrderDTO objects, newest first, each with its lines and their beers. The customer is only looked up
+     * separately when it has no orders, to answer 404 if it does not exist.
+     *
+     * @param customerId the ID of the customer
+     * @return a Flux containing BeerOrderDTO objects
+     */
+    @GetMapping(CUSTOMER_ORDERS_PATH)
+    Flux<BeerOrderDTO> listCustomerOrders(@PathVariable Integer customerId) {
+        return beerOrderService.listOrdersByCustomerId(customerId)
+                .switchIfEmpty(customerService.getCustomerById(customerId)
+                        .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND,
+                                CustomerController.CUSTOMER_NOT_FOUND)))
+                        .thenMany(Flux.empty()));
+    }
+
+}
@@ -1,9 +1,13 @@
 package guru.springframework.reactive.controllers;
 
+import guru.springframework.reactive.model.CustomerBulkResultDTO;
 import guru.springframework.reactive.model.CustomerDTO;
 import guru.springframework.reactive.services.CustomerService;
+import guru.springframework.reactive.web.IdempotencyKeyStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +16,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 /**
  * REST controller for managing customer-related operations.
  * <p>
@@ -44,21 +50,102 @@ public class CustomerController {
     public static final String CUSTOMER_PATH_ID = CUSTOMER_PATH + "/{customerId}";
     public static final String CUSTOMER_NOT_FOUND = "Customer not found";
 
+    /**
+     * Path of the NDJSON bulk upsert endpoint.
+     */
+    public static final String CUSTOMER_BULK_PATH = CUSTOMER_PATH + "/bulk";
+
+    /**
+     * Batch size of bulk upserts that do not specify one.
+     */
+    public static final int DEFAULT_BULK_BATCH_SIZE = 500;
+
+    /**
+     * Largest batch size of bulk upserts, which bounds the records held in memory per upload.
+     */
+    public static final int MAX_BULK_BATCH_SIZE = 5000;
+
+    /**
+     * Page size of paged customer listings that do not specify one.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 25;
+
+    /**
+     * Largest page size served by paged customer listings.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Page size of delta listings that do not specify one.
+     */
+    public static final int DEFAULT_CHANGES_SIZE = 1000;
+
+    /**
+     * Largest page size served by delta listings.
+     */
+    public static final int MAX_CHANGES_SIZE = 10000;
+
     /**
      * Service for managing customer-related operations.
      */
     private final CustomerService customerService;
 
     /**
-     * Endpoint to list all customers.
+     * Store deduplicating client retries of create requests.
+     */
+    private final IdempotencyKeyStore idempotencyKeyStore;
+
+    /**
+     * Endpoint to list customers.
      * <p>
      * This method handles GET requests to the /api/v2/customer endpoint and returns a Flux of CustomerDTO objects.
+     * Without parameters every customer is returned. With any of them, one page of the customers whose name
+     * starts with {@code name} is returned, ordered by name then ID; the next page is requested by passing the
+     * name and ID of the last customer received as {@code afterName} and {@code afterId}.
      *
+     * @param name      the optional customer name prefix
+     * @param afterName the name of the last customer of the previous page
+     * @param afterId   the ID of the last customer of the previous page
+     * @param size      the page size, capped at {@value #MAX_PAGE_SIZE}
      * @return a Flux containing CustomerDTO objects
      */
     @GetMapping(CUSTOMER_PATH)
-    Flux<CustomerDTO> listCustomers() {
-        return customerService.listCustomers();
+    Flux<CustomerDTO> listCustomers(@RequestParam(name = "name", required = false) String name,
+                                    @RequestParam(name = "afterName", required = false) String afterName,
+                                    @RequestParam(name = "afterId", required = false) Integer afterId,
+                                    @RequestParam(name = "size", required = false) Integer size) {
+        if (name == null && afterName == null && afterId == null && size == null) {
+            return customerService.listCustomers();
+        }
+        if ((afterName == null) != (afterId == null)) {
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "afterName and afterId must be given together"));
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return customerService.listCustomers(name, afterName, afterId, pageSize);
+    }
+
+    /**
+     * Endpoint to list the customers changed since a time.
+     * <p>
+     * This method handles GET requests to the /api/v2/customer endpoint carrying {@code modifiedSince} and streams
+     * the CustomerDTO objects changed at or after that time, deleted ones included with their {@code deletedAt},
+     * ordered by last modified date then ID. The next page is requested by passing the last modified date and ID of
+     * the last customer received as {@code modifiedSince} and {@code afterId}.
+     *
+     * @param modifiedSince the ISO date-time to list changes from
+     * @param afterId       the ID of the last customer of the previous page
+     * @param size          the page size, capped at {@value #MAX_CHANGES_SIZE}
+     * @return a Flux containing the changed CustomerDTO objects
+     */
+    @GetMapping(path = CUSTOMER_PATH, params = "modifiedSince")
+    Flux<CustomerDTO> listCustomersModifiedSince(@RequestParam("modifiedSince")
+                                                 @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                 LocalDateTime modifiedSince,
+                                                 @RequestParam(name = "afterId", required = false) Integer afterId,
+                                                 @RequestParam(name = "size", required = false) Integer size) {
+        int pageSize = size == null ? DEFAULT_CHANGES_SIZE : Math.max(1, Math.min(size, MAX_CHANGES_SIZE));
+        return customerService.listCustomersModifiedSince(modifiedSince, afterId, pageSize);
     }
 
     /**
@@ -79,13 +166,17 @@ public class CustomerController {
      * Endpoint to create a new customer.
      * <p>
      * This method handles POST requests to the /api/v2/customer endpoint and returns a Mono containing a ResponseEntity.
+     * Retries carrying the same Idempotency-Key header are answered with the original result without saving again.
      *
+     * @param idempotencyKey the optional client-chosen idempotency key
      * @param customerDTO the customer data to create
      * @return a Mono containing a ResponseEntity
      */
     @PostMapping(CUSTOMER_PATH)
-    Mono<ResponseEntity<Void>> createCustomer(@Validated @RequestBody CustomerDTO customerDTO) {
-        return customerService.saveCustomer(customerDTO)
+    Mono<ResponseEntity<Void>> createCustomer(@RequestHeader(name = IdempotencyKeyStore.IDEMPOTENCY_KEY_HEADER, required = false)
+                                              String idempotencyKey,
+                                              @Validated @RequestBody CustomerDTO customerDTO) {
+        return idempotencyKeyStore.execute(CUSTOMER_PATH, idempotencyKey, customerDTO, () -> customerService.saveCustomer(customerDTO))
                 .map(saveDto -> ResponseEntity.created(UriComponentsBuilder
                         .fromHttpUrl("http://localhost:8080" + CUSTOMER_PATH
                                 + "/" + saveDto.getId())
@@ -93,6 +184,26 @@ public class CustomerController {
                 .build());
     }
 
+    /**
+     * Endpoint to insert or update customers in bulk.
+     * <p>
+     * This method handles PUT requests to the /api/v2/customer/bulk endpoint. The body is read as
+     * newline-delimited JSON, one customer per line, only as fast as the batches are written. Customers
+     * without an ID are created and customers with an ID update the existing customer. One result per
+     * line is streamed back as newline-delimited JSON as soon as its batch is written.
+     *
+     * @param batchSize the number of customers written per batch, capped at {@value #MAX_BULK_BATCH_SIZE}
+     * @param customers the customers to upsert
+     * @return a Flux containing one CustomerBulkResultDTO per customer, in input order
+     */
+    @PutMapping(path = CUSTOMER_BULK_PATH, consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<CustomerBulkResultDTO> upsertCustomers(@RequestParam(name = "batchSize", required = false) Integer batchSize,
+                                                @RequestBody Flux<CustomerDTO> customers) {
+        int size = batchSize == null ? DEFAULT_BULK_BATCH_SIZE : Math.max(1, Math.min(batchSize, MAX_BULK_BATCH_SIZE));
+        return customerService.upsertCustomers(customers, size);
+    }
+
     /**
      * Endpoint to update a customer.
      * <p>
@@ -137,7 +248,7 @@ public class CustomerController {
     Mono<ResponseEntity<Void>> deleteCustomer(@PathVariable Integer customerId) {
         return customerService.getCustomerById(customerId)
                 .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, CUSTOMER_NOT_FOUND)))
-                .map(customerDTO -> customerService.deleteCustomer(customerDTO.getId()))
+                .flatMap(customerDTO -> customerService.deleteCustomer(customerDTO.getId()))
                 .thenReturn(ResponseEntity.noContent().build());
     }
 
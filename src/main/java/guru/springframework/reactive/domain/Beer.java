@@ -73,4 +73,9 @@ public class Beer {
     @LastModifiedDate
     private LocalDateTime lastModifiedDate;
 
+    /**
+     * The timestamp when the beer was deleted, or null while it exists.
+     */
+    private LocalDateTime deletedAt;
+
 }
@@ -0,0 +1,61 @@
+package guru.springframework.reactive.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Represents an order placed by a customer.
+ * <p>
+ * This class models the beer_order table. Its lines are not persisted with it; they are only
+ * populated by the joined order history query of
+ * {@link guru.springframework.reactive.repositories.BeerOrderViewRepository}.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 17:40
+ * @since jdk 1.17
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BeerOrder {
+
+    /**
+     * The unique identifier for the order.
+     */
+    @Id
+    private Integer id;
+
+    /**
+     * The ID of the customer who placed the order.
+     */
+    private Integer customerId;
+
+    /**
+     * The lines of the order, when loaded by the order history query.
+     */
+    @Transient
+    private List<BeerOrderLine> beerOrderLines;
+
+    /**
+     * The timestamp when the order was created.
+     */
+    @CreatedDate
+    private LocalDateTime createdDate;
+
+    /**
+     * The timestamp when the order was last modified.
+     */
+    @LastModifiedDate
+    private LocalDateTime lastModifiedDate;
+
+}
@@ -0,0 +1,70 @@
+package guru.springframework.reactive.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents one beer of an order.
+ * <p>
+ * This class models the beer_order_line table. The ordered beer is not persisted with it; it is
+ * only populated by the joined order history query of
+ * {@link guru.springframework.reactive.repositories.BeerOrderViewRepository}.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 17:42
+ * @since jdk 1.17
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BeerOrderLine {
+
+    /**
+     * The unique identifier for the order line.
+     */
+    @Id
+    private Integer id;
+
+    /**
+     * The ID of the order this line belongs to.
+     */
+    private Integer beerOrderId;
+
+    /**
+     * The ID of the ordered beer.
+     */
+    private Integer beerId;
+
+    /**
+     * The ordered quantity.
+     */
+    private Integer orderQuantity;
+
+    /**
+     * The ordered beer, when loaded by the order history query.
+     */
+    @Transient
+    private Beer beer;
+
+    /**
+     * The timestamp when the order line was created.
+     */
+    @CreatedDate
+    private LocalDateTime createdDate;
+
+    /**
+     * The timestamp when the order line was last modified.
+     */
+    @LastModifiedDate
+    private LocalDateTime lastModifiedDate;
+
+}
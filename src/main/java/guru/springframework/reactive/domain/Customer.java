@@ -53,4 +53,9 @@ public class Customer {
     @LastModifiedDate
     private LocalDateTime lastModifiedDate;
 
+    /**
+     * The timestamp when the customer was deleted, or null while it exists.
+     */
+    private LocalDateTime deletedAt;
+
 }
@@ -0,0 +1,65 @@
+package guru.springframework.reactive.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a change of a beer or customer waiting in the outbox to be published.
+ * <p>
+ * Written in the transaction of the change itself, so a change is committed together with its
+ * event or not at all, and deleted once the relay has handed it to the sink.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 23:40
+ * @since jdk 1.17
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxEvent {
+
+    /**
+     * The kinds of change.
+     */
+    public enum EventType {
+        CREATED, UPDATED, DELETED
+    }
+
+    /**
+     * The unique identifier of the event, increasing in insertion order.
+     */
+    @Id
+    private Long id;
+
+    /**
+     * The type of the changed entity, such as {@code beer} or {@code customer}.
+     */
+    private String aggregateType;
+
+    /**
+     * The ID of the changed entity.
+     */
+    private Integer aggregateId;
+
+    /**
+     * The kind of change.
+     */
+    private EventType eventType;
+
+    /**
+     * The entity after the change encoded as JSON, or null for a deletion.
+     */
+    private String payload;
+
+    /**
+     * The timestamp when the change was made.
+     */
+    private LocalDateTime createdDate;
+
+}
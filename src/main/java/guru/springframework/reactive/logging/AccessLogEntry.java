@@ -0,0 +1,25 @@
+package guru.springframework.reactive.logging;
+
+import java.time.Instant;
+
+/**
+ * One entry of the access log.
+ *
+ * @param timestamp    when the request was received
+ * @param method       the HTTP method
+ * @param route        the matched route pattern, such as {@code /api/v2/beer/{beerId}}, or null if none matched
+ * @param path         the request path
+ * @param status       the response status, 499 when the client went away first
+ * @param latencyMs    the time from receiving the request to completing the response
+ * @param bytes        the response body bytes written
+ * @param dbTimeMs     the time spent in database statements, summed over parallel statements
+ * @param dbStatements the number of database statements
+ * @param query        the text of the slowest statement, as a sample of the request's queries
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 02:10
+ * @since jdk 1.17
+ */
+public record AccessLogEntry(Instant timestamp, String method, String route, String path, int status,
+                             double latencyMs, long bytes, double dbTimeMs, int dbStatements, String query) {
+}
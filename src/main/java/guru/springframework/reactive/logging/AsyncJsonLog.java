@@ -0,0 +1,156 @@
+package guru.springframework.reactive.logging;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import guru.springframework.reactive.util.MpscRingBuffer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Structured log written off the calling thread.
+ * <p>
+ * {@link #append} only offers the entry to a {@link MpscRingBuffer}, so request threads such as
+ * the Netty event loops never wait for log I/O nor for each other. A dedicated daemon thread
+ * wakes every {@value #FLUSH_INTERVAL_MILLIS} milliseconds, encodes the pending entries as one
+ * JSON object each and writes them at INFO level to the logger named after the log, which the
+ * logging configuration can route to its own appender. When the buffer is full the entry is
+ * dropped and counted rather than blocking the caller.
+ * <p>
+ * {@code log.entries.written} and {@code log.entries.dropped} count the entries per {@code log},
+ * and {@code log.entries.pending} is the number waiting in the buffer.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 01:55
+ * @since jdk 1.17
+ */
+@Slf4j
+public class AsyncJsonLog implements MeterBinder, DisposableBean {
+
+    /**
+     * How long the writer sleeps when the buffer is empty.
+     */
+    static final long FLUSH_INTERVAL_MILLIS = 10;
+
+    private static final int DRAIN_LIMIT = 1024;
+
+    private final String name;
+
+    private final Logger target;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    private final MpscRingBuffer<Object> buffer;
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    /**
+     * Creates a log and starts its writer.
+     *
+     * @param name     the log name, also the name of the logger written to
+     * @param capacity the number of entries buffered before dropping
+     */
+    public AsyncJsonLog(String name, int capacity) {
+        this.name = name;
+        this.target = LoggerFactory.getLogger(name);
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.writer = new Thread(this::write, "log-" + name);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Appends an entry, without ever blocking.
+     *
+     * @param entry the entry, encoded with Jackson by the writer
+     * @return true if the entry was buffered, false if it was dropped
+     */
+    public boolean append(Object entry) {
+        if (buffer.offer(entry)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Cuts a text, such as a statement, to a maximum length.
+     *
+     * @param text      the text, may be null
+     * @param maxLength the maximum length kept
+     * @return the text, followed by {@code ...} if it was cut
+     */
+    public static String cut(String text, int maxLength) {
+        return text == null || text.length() <= maxLength ? text : text.substring(0, maxLength) + "...";
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("log.entries.written", written, LongAdder::sum)
+                .description("Log entries written")
+                .tag("log", name)
+                .register(registry);
+        FunctionCounter.builder("log.entries.dropped", dropped, LongAdder::sum)
+                .description("Log entries dropped because the buffer was full")
+                .tag("log", name)
+                .register(registry);
+        Gauge.builder("log.entries.pending", buffer, MpscRingBuffer::size)
+                .description("Log entries waiting to be written")
+                .tag("log", name)
+                .register(registry);
+    }
+
+    /**
+     * Stops the writer once the pending entries are written.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void write() {
+        while (true) {
+            boolean stopping = !running;
+            int drained = buffer.drain(this::writeEntry, DRAIN_LIMIT);
+            if (drained == 0) {
+                if (stopping) {
+                    return;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MILLIS));
+            }
+        }
+    }
+
+    private void writeEntry(Object entry) {
+        try {
+            target.info(objectMapper.writeValueAsString(entry));
+            written.increment();
+        } catch (Exception exception) {
+            log.warn("Unable to write {} log entry {}", name, entry, exception);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package guru.springframework.reactive.logging;
+
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time a request spent in database statements.
+ * <p>
+ * Written to the Reactor context of the request by the {@code AccessLogFilter} and fed by
+ * {@link QueryTiming} with every statement executed on behalf of the request, including
+ * statements of parallel branches. It also keeps the text of the slowest statement, which the
+ * access log carries as a sample of the queries of the request.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 02:05
+ * @since jdk 1.17
+ */
+public final class DatabaseTime {
+
+    /**
+     * The Reactor context key holding the database time of the current request.
+     */
+    public static final Class<DatabaseTime> CONTEXT_KEY = DatabaseTime.class;
+
+    private final String request;
+
+    private final AtomicInteger statements = new AtomicInteger();
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private long slowestNanos = -1;
+
+    private String slowestQuery;
+
+    /**
+     * Creates the database time of a request.
+     *
+     * @param request the request, as method and path
+     */
+    public DatabaseTime(String request) {
+        this.request = request;
+    }
+
+    /**
+     * Returns the database time of the request of a context.
+     *
+     * @param context the Reactor context
+     * @return the database time, or null outside a logged request
+     */
+    public static DatabaseTime of(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    /**
+     * Records a statement.
+     *
+     * @param query    the statement text
+     * @param duration the time the statement took, in nanoseconds
+     */
+    public void record(String query, long duration) {
+        statements.incrementAndGet();
+        nanos.addAndGet(duration);
+        synchronized (this) {
+            if (duration > slowestNanos) {
+                slowestNanos = duration;
+                slowestQuery = query;
+            }
+        }
+    }
+
+    /**
+     * Returns the request, as method and path.
+     *
+     * @return the request
+     */
+    public String request() {
+        return request;
+    }
+
+    /**
+     * Returns the number of statements recorded.
+     *
+     * @return the number of statements
+     */
+    public int statements() {
+        return statements.get();
+    }
+
+    /**
+     * Returns the total time of the statements recorded, in nanoseconds.
+     *
+     * @return the total time
+     */
+    public long nanos() {
+        return nanos.get();
+    }
+
+    /**
+     * Returns the text of the slowest statement recorded.
+     *
+     * @return the statement text, or null if none was recorded
+     */
+    public synchronized String slowestQuery() {
+        return slowestQuery;
+    }
+
+}
@@ -0,0 +1,250 @@
+package guru.springframework.reactive.logging;
+
+import guru.springframework.reactive.tracing.LayerTracing;
+import guru.springframework.reactive.util.R2dbcDelegatingHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.observation.Observation;
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.ContextView;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Times the statements executed through the R2DBC connection factories.
+ * <p>
+ * Like the {@code R2dbcExecutor}, every {@link ConnectionFactory} bean is wrapped with an
+ * {@link R2dbcDelegatingHandler}, and with it the connections, statements and batches it creates,
+ * which remember their SQL text. A statement is timed from the subscription to its results until the database has returned all of them. The
+ * time is added to the {@link DatabaseTime} of the request found in the Reactor context, and
+ * statements taking {@code app.slow-query-log.threshold} or longer are written to the
+ * {@code slow-query} {@link AsyncJsonLog}, with their text cut to
+ * {@code app.slow-query-log.max-query-length} characters. Bound values are never logged.
+ * <p>
+ * Within a traced request, connection acquisitions and statements are also observed by the
+ * {@link LayerTracing}, as {@code r2dbc.connection.acquire} and {@code r2dbc.query} children of
+ * the observation in the Reactor context; the statement text, cut like above, is kept as the
+ * {@code db.statement} key.
+ * <p>
+ * Replaces {@code logging.level.org.springframework.r2dbc=trace}, which logs every statement
+ * synchronously on the calling thread.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 04:20
+ * @since jdk 1.17
+ */
+@Slf4j
+public class QueryTiming implements BeanPostProcessor, MeterBinder, DisposableBean {
+
+    private final boolean enabled;
+
+    /**
+     * The slow-query log, or null when it is disabled.
+     */
+    private final AsyncJsonLog slowQueryLog;
+
+    private final long slowThresholdNanos;
+
+    private final int maxQueryLength;
+
+    /**
+     * The layer tracing, only looked up once a traced request runs a statement: this post-processor
+     * is created before the observation registry and must not force its creation.
+     */
+    private final ObjectProvider<LayerTracing> tracing;
+
+    /**
+     * Creates the statement timing.
+     *
+     * @param enabled        whether statements are timed at all
+     * @param slowQueryLog   whether slow statements are logged
+     * @param slowThreshold  the duration from which a statement is slow
+     * @param maxQueryLength the length statement texts are cut to
+     * @param capacity       the number of slow-query entries buffered before dropping
+     * @param tracing        the layer tracing, null or disabled not to observe statements
+     */
+    public QueryTiming(boolean enabled, boolean slowQueryLog, Duration slowThreshold, int maxQueryLength,
+                       int capacity, ObjectProvider<LayerTracing> tracing) {
+        this.enabled = enabled || slowQueryLog || tracing != null;
+        this.tracing = tracing;
+        this.slowQueryLog = slowQueryLog ? new AsyncJsonLog("slow-query", capacity) : null;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxQueryLength = maxQueryLength;
+        if (slowQueryLog) {
+            log.info("Statements taking {} or longer written to the slow-query log", slowThreshold);
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return enabled && bean instanceof ConnectionFactory ? new TimingHandler(bean, null).newProxy() : bean;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (slowQueryLog != null) {
+            slowQueryLog.bindTo(registry);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (slowQueryLog != null) {
+            slowQueryLog.destroy();
+        }
+    }
+
+    private Object wrapResult(Object result, Object[] args) {
+        if (result instanceof Connection) {
+            return new TimingHandler(result, null).newProxy();
+        }
+        if (result instanceof Statement) {
+            return new TimingHandler(result, List.of((String) args[0])).newProxy();
+        }
+        if (result instanceof Batch) {
+            return new TimingHandler(result, new ArrayList<>()).newProxy();
+        }
+        return result;
+    }
+
+    /**
+     * Starts the observation of a connection acquisition or a statement.
+     *
+     * @return the observation, or null outside a traced request
+     */
+    private Observation observe(String name, String query, ContextView context) {
+        if (tracing == null || !LayerTracing.isObserved(context)) {
+            return null;
+        }
+        Observation observation = tracing.getObject().child(name, query == null ? "r2dbc acquire" : "r2dbc query",
+                context);
+        if (observation != null && query != null) {
+            observation.highCardinalityKeyValue("db.statement", AsyncJsonLog.cut(query, maxQueryLength));
+        }
+        return observation == null ? null : observation.start();
+    }
+
+    private static void stop(Observation observation, Throwable error) {
+        if (observation != null) {
+            if (error != null) {
+                observation.error(error);
+            }
+            observation.stop();
+        }
+    }
+
+    private void record(DatabaseTime databaseTime, String query, long start, SignalType signal) {
+        long duration = System.nanoTime() - start;
+        if (databaseTime != null) {
+            databaseTime.record(query, duration);
+        }
+        if (slowQueryLog != null && duration >= slowThresholdNanos) {
+            String outcome = switch (signal) {
+                case ON_COMPLETE -> "success";
+                case ON_ERROR -> "error";
+                default -> "cancelled";
+            };
+            String request = databaseTime == null ? null : databaseTime.request();
+            slowQueryLog.append(new SlowQueryEntry(Instant.now().minusNanos(duration), duration / 1_000_000.0,
+                    outcome, request, AsyncJsonLog.cut(query, maxQueryLength)));
+        }
+    }
+
+    /**
+     * Delegates to the driver object, timing the execution of statements and batches and wrapping
+     * the connections, statements and batches it returns.
+     */
+    private final class TimingHandler extends R2dbcDelegatingHandler {
+
+        /**
+         * The SQL of a statement, or the SQL added so far to a batch; null for other objects.
+         */
+        private final List<String> queries;
+
+        private TimingHandler(Object target, List<String> queries) {
+            super(target);
+            this.queries = queries;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            if (queries != null && method.getName().equals("execute") && method.getParameterCount() == 0) {
+                String query = queries.size() == 1 ? queries.get(0) : String.join("; ", queries);
+                return Flux.deferContextual(context -> {
+                    DatabaseTime databaseTime = DatabaseTime.of(context);
+                    Observation observation = observe("r2dbc.query", query, context);
+                    long start = System.nanoTime();
+                    Publisher<?> results;
+                    try {
+                        results = (Publisher<?>) delegate(method, args);
+                    } catch (Throwable throwable) {
+                        stop(observation, throwable);
+                        return Flux.error(throwable);
+                    }
+                    // Recorded before the signal travels on, so the request still sees the statement. Callers
+                    // reading a single row cancel once it arrives, which is still a success.
+                    AtomicBoolean resulted = new AtomicBoolean();
+                    return Flux.from(results)
+                            .doOnNext(result -> resulted.lazySet(true))
+                            .doOnComplete(() -> {
+                                record(databaseTime, query, start, SignalType.ON_COMPLETE);
+                                stop(observation, null);
+                            })
+                            .doOnError(throwable -> {
+                                record(databaseTime, query, start, SignalType.ON_ERROR);
+                                stop(observation, throwable);
+                            })
+                            .doOnCancel(() -> {
+                                record(databaseTime, query, start,
+                                        resulted.get() ? SignalType.ON_COMPLETE : SignalType.CANCEL);
+                                stop(observation, null);
+                            });
+                });
+            }
+            if (target instanceof Batch && method.getName().equals("add")) {
+                queries.add((String) args[0]);
+            }
+
+            Object result = delegate(method, args);
+
+            if (result == target) {
+                return result;
+            }
+            if (target instanceof ConnectionFactory && method.getName().equals("create")) {
+                Publisher<?> connections = (Publisher<?>) result;
+                Flux<Object> wrapped = Flux.deferContextual(context -> {
+                    Observation observation = observe("r2dbc.connection.acquire", null, context);
+                    Flux<Object> acquired = Flux.from(connections).map(connection -> wrapResult(connection, null));
+                    if (observation == null) {
+                        return acquired;
+                    }
+                    // Mono.from cancels once the connection arrives, which must not stop the observation twice
+                    AtomicBoolean stopped = new AtomicBoolean();
+                    return acquired
+                            .doOnNext(connection -> stop(stopped.compareAndSet(false, true) ? observation : null, null))
+                            .doOnError(throwable -> stop(stopped.compareAndSet(false, true) ? observation : null,
+                                    throwable))
+                            .doOnCancel(() -> stop(stopped.compareAndSet(false, true) ? observation : null, null));
+                });
+                return asReturned(method, wrapped);
+            }
+            return target instanceof Connection ? wrapResult(result, args) : result;
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package guru.springframework.reactive.logging;
+
+import java.time.Instant;
+
+/**
+ * One entry of the slow-query log.
+ *
+ * @param timestamp  when the statement started
+ * @param durationMs the time until the database finished returning results
+ * @param outcome    {@code success}, {@code error} or {@code cancelled}
+ * @param request    the request the statement served, as method and path, or null for background work
+ * @param query      the statement text, without its bound values
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 02:10
+ * @since jdk 1.17
+ */
+public record SlowQueryEntry(Instant timestamp, double durationMs, String outcome, String request, String query) {
+}
@@ -2,13 +2,22 @@ package guru.springframework.reactive.mappers;
 
 import guru.springframework.reactive.domain.Beer;
 import guru.springframework.reactive.model.BeerDTO;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Condition;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.TargetPropertyName;
+import org.springframework.util.StringUtils;
 
 /**
  * Mapper interface for converting between Beer and BeerDTO objects.
  * <p>
  * This interface uses MapStruct to generate the implementation code for mapping
- * between Beer entities and BeerDTO data transfer objects.
+ * between Beer entities and BeerDTO data transfer objects, and for applying full and partial
+ * updates in place on an existing Beer entity.
  * <p>
  * Created by jt, Spring Framework Guru.
  *
@@ -36,6 +45,88 @@ public interface BeerMapper {
      * @param beerDTO the BeerDTO to convert
      * @return the converted Beer entity
      */
+    @Mapping(target = "deletedAt", ignore = true)
     Beer beerDTOToBeer(BeerDTO beerDTO);
 
+    /**
+     * Replaces the updatable properties of a Beer entity with those of a BeerDTO.
+     *
+     * @param beerDTO the BeerDTO holding the new values
+     * @param beer    the Beer entity to update
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "lastModifiedDate", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    void updateBeer(BeerDTO beerDTO, @MappingTarget Beer beer);
+
+    /**
+     * Applies the properties present in a BeerDTO to a Beer entity.
+     * <p>
+     * Null and blank values are skipped; every property written is marked in the given field mask.
+     *
+     * @param beerDTO     the BeerDTO holding the patch
+     * @param beer        the Beer entity to patch
+     * @param dirtyFields the field mask collecting the written properties
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "lastModifiedDate", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    void patchBeer(BeerDTO beerDTO, @MappingTarget Beer beer, @Context DirtyFields dirtyFields);
+
+    /**
+     * Decides whether a patched text property is written, marking it dirty if so.
+     *
+     * @param value       the patched value
+     * @param property    the name of the target property
+     * @param dirtyFields the field mask of the patch
+     * @return true if the value has text
+     */
+    @Condition
+    default boolean isPatchedText(String value, @TargetPropertyName String property, @Context DirtyFields dirtyFields) {
+        if (!StringUtils.hasText(value)) {
+            return false;
+        }
+        dirtyFields.mark(property, value);
+        return true;
+    }
+
+    /**
+     * Decides whether a patched integer property is written, marking it dirty if so.
+     *
+     * @param value       the patched value
+     * @param property    the name of the target property
+     * @param dirtyFields the field mask of the patch
+     * @return true if the value is present
+     */
+    @Condition
+    default boolean isPatchedInteger(Integer value, @TargetPropertyName String property,
+                                     @Context DirtyFields dirtyFields) {
+        return markIfPresent(value, property, dirtyFields);
+    }
+
+    /**
+     * Decides whether a patched decimal property is written, marking it dirty if so.
+     *
+     * @param value       the patched value
+     * @param property    the name of the target property
+     * @param dirtyFields the field mask of the patch
+     * @return true if the value is present
+     */
+    @Condition
+    default boolean isPatchedDouble(Double value, @TargetPropertyName String property,
+                                    @Context DirtyFields dirtyFields) {
+        return markIfPresent(value, property, dirtyFields);
+    }
+
+    private static boolean markIfPresent(Object value, String property, DirtyFields dirtyFields) {
+        if (value == null) {
+            return false;
+        }
+        dirtyFields.mark(property, value);
+        return true;
+    }
+
 }
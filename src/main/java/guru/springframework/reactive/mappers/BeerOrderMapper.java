@@ -0,0 +1,38 @@
+package guru.springframework.reactive.mappers;
+
+import guru.springframework.reactive.domain.BeerOrder;
+import guru.springframework.reactive.domain.BeerOrderLine;
+import guru.springframework.reactive.model.BeerOrderDTO;
+import guru.springframework.reactive.model.BeerOrderLineDTO;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper interface for converting BeerOrder entities, with their lines and beers, into DTOs.
+ *
+ * @see guru.springframework.reactive.domain.BeerOrder
+ * @see guru.springframework.reactive.model.BeerOrderDTO
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 17:48
+ * @since jdk 1.17
+ */
+@Mapper(uses = BeerMapper.class)
+public interface BeerOrderMapper {
+
+    /**
+     * Converts a BeerOrder entity to a BeerOrderDTO.
+     *
+     * @param beerOrder the BeerOrder entity to convert
+     * @return the converted BeerOrderDTO
+     */
+    BeerOrderDTO beerOrderToBeerOrderDTO(BeerOrder beerOrder);
+
+    /**
+     * Converts a BeerOrderLine entity to a BeerOrderLineDTO.
+     *
+     * @param beerOrderLine the BeerOrderLine entity to convert
+     * @return the converted BeerOrderLineDTO
+     */
+    BeerOrderLineDTO beerOrderLineToBeerOrderLineDTO(BeerOrderLine beerOrderLine);
+
+}
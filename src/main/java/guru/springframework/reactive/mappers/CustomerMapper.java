@@ -3,6 +3,7 @@ package guru.springframework.reactive.mappers;
 import guru.springframework.reactive.domain.Customer;
 import guru.springframework.reactive.model.CustomerDTO;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 /**
  * Mapper interface for converting between Customer and CustomerDTO objects.
@@ -24,6 +25,7 @@ public interface CustomerMapper {
      * @param customerDTO the CustomerDTO to convert
      * @return the converted Customer entity
      */
+    @Mapping(target = "deletedAt", ignore = true)
     Customer customerDTOToCustomer(CustomerDTO customerDTO);
 
     /**
@@ -0,0 +1,62 @@
+package guru.springframework.reactive.mappers;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Field mask collected while applying a partial update to an entity.
+ * <p>
+ * Partial-update mappers mark each target property they write together with its new value, so the
+ * caller can persist exactly those columns instead of rewriting the whole row.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 16:10
+ * @since jdk 1.17
+ */
+public final class DirtyFields {
+
+    /**
+     * New values by written property name, in mapping order.
+     */
+    private final Map<String, Object> values = new LinkedHashMap<>(8);
+
+    /**
+     * Marks a property as written.
+     *
+     * @param property the name of the target property
+     * @param value    the value written to it
+     */
+    public void mark(String property, Object value) {
+        values.put(property, value);
+    }
+
+    /**
+     * Returns whether a property has been written.
+     *
+     * @param property the name of the target property
+     * @return true if the property has been written
+     */
+    public boolean isDirty(String property) {
+        return values.containsKey(property);
+    }
+
+    /**
+     * Returns whether no property has been written.
+     *
+     * @return true if the update changed nothing
+     */
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * Returns the written properties and their new values, in mapping order.
+     *
+     * @return an unmodifiable view of the new values by property name
+     */
+    public Map<String, Object> asMap() {
+        return Collections.unmodifiableMap(values);
+    }
+
+}
@@ -1,5 +1,6 @@
 package guru.springframework.reactive.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -73,4 +74,10 @@ public class BeerDTO {
      */
     private LocalDateTime lastModifiedDate;
 
+    /**
+     * The timestamp when the beer was deleted, only set in delta listings, which include deletions.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime deletedAt;
+
 }
@@ -0,0 +1,49 @@
+package guru.springframework.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for an order of a customer, with its lines and their beers.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 17:45
+ * @since jdk 1.17
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BeerOrderDTO {
+
+    /**
+     * The unique identifier for the order.
+     */
+    private Integer id;
+
+    /**
+     * The ID of the customer who placed the order.
+     */
+    private Integer customerId;
+
+    /**
+     * The lines of the order.
+     */
+    private List<BeerOrderLineDTO> beerOrderLines;
+
+    /**
+     * The timestamp when the order was created.
+     */
+    private LocalDateTime createdDate;
+
+    /**
+     * The timestamp when the order was last modified.
+     */
+    private LocalDateTime lastModifiedDate;
+
+}
@@ -0,0 +1,41 @@
+package guru.springframework.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for one line of an order, with the ordered beer.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 17:46
+ * @since jdk 1.17
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BeerOrderLineDTO {
+
+    /**
+     * The unique identifier for the order line.
+     */
+    private Integer id;
+
+    /**
+     * The ID of the ordered beer.
+     */
+    private Integer beerId;
+
+    /**
+     * The ordered quantity.
+     */
+    private Integer orderQuantity;
+
+    /**
+     * The ordered beer, null if it no longer exists.
+     */
+    private BeerDTO beer;
+
+}
@@ -0,0 +1,69 @@
+package guru.springframework.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the outcome of one record of a customer bulk upsert.
+ * <p>
+ * One result is streamed back per input line, in input order.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 20:10
+ * @since jdk 1.17
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerBulkResultDTO {
+
+    /**
+     * The outcome of a record.
+     */
+    public enum Outcome {
+
+        /**
+         * The record had no ID and was inserted.
+         */
+        CREATED,
+
+        /**
+         * The record matched an existing customer, which was updated.
+         */
+        UPDATED,
+
+        /**
+         * The record was invalid or named a customer that does not exist, and was skipped.
+         */
+        REJECTED,
+
+        /**
+         * The batch holding the record could not be written; none of its records were saved.
+         */
+        FAILED
+    }
+
+    /**
+     * The zero-based position of the record in the upload.
+     */
+    private long index;
+
+    /**
+     * The ID of the customer, as sent or as generated.
+     */
+    private Integer id;
+
+    /**
+     * The outcome of the record.
+     */
+    private Outcome outcome;
+
+    /**
+     * Why the record was rejected or failed.
+     */
+    private String message;
+
+}
@@ -1,5 +1,6 @@
 package guru.springframework.reactive.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -51,4 +52,10 @@ public class CustomerDTO {
      */
     private LocalDateTime lastModifiedDate;
 
+    /**
+     * The timestamp when the customer was deleted, only set in delta listings, which include deletions.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime deletedAt;
+
 }
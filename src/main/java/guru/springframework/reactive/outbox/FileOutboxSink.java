@@ -0,0 +1,84 @@
+package guru.springframework.reactive.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import guru.springframework.reactive.domain.OutboxEvent;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Stand-in outbox sink appending the published events to a newline-delimited JSON file.
+ * <p>
+ * Each batch is written with one call and forced to disk before it counts as published, so a
+ * batch is never deleted from the outbox before it is durable. The entity is inlined as the
+ * {@code payload} object of each line.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 23:56
+ * @since jdk 1.17
+ */
+public class FileOutboxSink implements OutboxSink, DisposableBean {
+
+    private final ObjectMapper objectMapper;
+
+    private final FileChannel channel;
+
+    /**
+     * Creates a sink appending to a file, created if missing.
+     *
+     * @param file         the file
+     * @param objectMapper the mapper encoding the lines
+     * @throws IOException if the file cannot be opened
+     */
+    public FileOutboxSink(Path file, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public Mono<Void> publish(List<OutboxEvent> events) {
+        return Mono.<Void>fromRunnable(() -> write(events))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        channel.close();
+    }
+
+    private synchronized void write(List<OutboxEvent> events) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (OutboxEvent event : events) {
+                ObjectNode line = objectMapper.createObjectNode()
+                        .put("id", event.getId())
+                        .put("aggregateType", event.getAggregateType())
+                        .put("aggregateId", event.getAggregateId())
+                        .put("eventType", event.getEventType().name())
+                        .put("createdDate", event.getCreatedDate().toString());
+                line.set("payload", event.getPayload() == null ? null : objectMapper.readTree(event.getPayload()));
+                objectMapper.writeValue(lines, line);
+                lines.write('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package guru.springframework.reactive.outbox;
+
+import guru.springframework.reactive.domain.OutboxEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Stand-in outbox sink keeping the latest published events in memory, for tests and local runs.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 23:54
+ * @since jdk 1.17
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final Sinks.Many<OutboxEvent> events;
+
+    /**
+     * Creates a sink.
+     *
+     * @param capacity the number of latest events replayed to new subscribers
+     */
+    public InMemoryOutboxSink(int capacity) {
+        this.events = Sinks.many().replay().limit(capacity);
+    }
+
+    @Override
+    public Mono<Void> publish(List<OutboxEvent> batch) {
+        return Mono.fromRunnable(() -> batch.forEach(event ->
+                events.emitNext(event, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)))));
+    }
+
+    /**
+     * Returns the published events, starting with the latest ones kept.
+     *
+     * @return a hot Flux of events
+     */
+    public Flux<OutboxEvent> events() {
+        return events.asFlux();
+    }
+
+}
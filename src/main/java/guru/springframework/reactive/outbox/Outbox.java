@@ -0,0 +1,123 @@
+package guru.springframework.reactive.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.reactive.domain.OutboxEvent;
+import guru.springframework.reactive.domain.OutboxEvent.EventType;
+import guru.springframework.reactive.repositories.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Records the changes of beers and customers in the outbox, for the {@link OutboxRelay} to publish.
+ * <p>
+ * Services append to the outbox within the transaction of the change, so an event exists if and
+ * only if its change is committed, with no second write to another system that could fail on its
+ * own. Appending costs one INSERT in that transaction; publishing happens later, off the write path.
+ * With {@code app.outbox.enabled=false} nothing is recorded.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 23:50
+ * @since jdk 1.17
+ */
+@Component
+public class Outbox {
+
+    /**
+     * The aggregate type of beer changes.
+     */
+    public static final String BEER = "beer";
+
+    /**
+     * The aggregate type of customer changes.
+     */
+    public static final String CUSTOMER = "customer";
+
+    /**
+     * Repository the events are appended to.
+     */
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * Mapper encoding the changed entities.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Whether changes are recorded.
+     */
+    private final boolean enabled;
+
+    public Outbox(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                  @Value("${app.outbox.enabled:false}") boolean enabled) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Records a change in the current transaction.
+     *
+     * @param aggregateType the type of the changed entity
+     * @param aggregateId   the ID of the changed entity
+     * @param eventType     the kind of change
+     * @param payload       the entity after the change, or null for a deletion
+     * @return a Mono completing once the event is written
+     */
+    public Mono<Void> append(String aggregateType, Integer aggregateId, EventType eventType, Object payload) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> appendAll(List.of(event(aggregateType, aggregateId, eventType, payload))));
+    }
+
+    /**
+     * Records several changes in the current transaction, with one statement.
+     *
+     * @param events the events, built with {@link #event}
+     * @return a Mono completing once the events are written
+     */
+    public Mono<Void> appendAll(List<OutboxEvent> events) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return outboxEventRepository.appendAll(events);
+    }
+
+    /**
+     * Builds the event of a change.
+     *
+     * @param aggregateType the type of the changed entity
+     * @param aggregateId   the ID of the changed entity
+     * @param eventType     the kind of change
+     * @param payload       the entity after the change, or null for a deletion
+     * @return the event, not yet written
+     */
+    public OutboxEvent event(String aggregateType, Integer aggregateId, EventType eventType, Object payload) {
+        try {
+            return OutboxEvent.builder()
+                    .aggregateType(aggregateType)
+                    .aggregateId(aggregateId)
+                    .eventType(eventType)
+                    .payload(payload == null ? null : objectMapper.writeValueAsString(payload))
+                    .createdDate(LocalDateTime.now())
+                    .build();
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Unable to encode the " + aggregateType + " " + aggregateId, exception);
+        }
+    }
+
+    /**
+     * Tells whether changes are recorded.
+     *
+     * @return true when {@code app.outbox.enabled} is set
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+}
@@ -0,0 +1,153 @@
+package guru.springframework.reactive.outbox;
+
+import guru.springframework.reactive.domain.OutboxEvent;
+import guru.springframework.reactive.repositories.OutboxEventRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the events of the outbox to the {@link OutboxSink}.
+ * <p>
+ * Every {@code app.outbox.relay.poll-interval} the relay drains the outbox: it reads the oldest
+ * {@code app.outbox.relay.batch-size} events, publishes them as one batch, deletes them, and goes
+ * on while batches come back full. Ticks arriving during a drain are dropped, so one drain runs at
+ * a time and events are published in ID order. Deleting by ID rather than advancing a watermark
+ * keeps events whose transaction committed after a higher ID from being skipped.
+ * <p>
+ * An event is deleted only after the sink accepted it, so a failure or a crash in between
+ * publishes it again on the next drain: delivery is at least once. Relays of several instances
+ * would publish the same events concurrently, so {@code app.outbox.relay.enabled} should be set on
+ * one instance only.
+ * <p>
+ * Throughput is exported by the relay alone, off the write path: {@code outbox.relay.events} and
+ * {@code outbox.relay.batches} count what was published, {@code outbox.relay.failures} the failed
+ * drains, and {@code outbox.relay.lag} is the age in seconds of the oldest event of the last batch.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 23:58
+ * @since jdk 1.17
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle, MeterBinder {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final OutboxSink outboxSink;
+
+    private final int batchSize;
+
+    private final Duration pollInterval;
+
+    private final LongAdder events = new LongAdder();
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Age of the oldest event of the last batch, in milliseconds.
+     */
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private volatile Disposable relaying;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink outboxSink, int batchSize,
+                       Duration pollInterval) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public void start() {
+        relaying = Flux.interval(Duration.ZERO, pollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> drain(), 1)
+                .subscribe();
+        log.info("Outbox relay started, polling every {}", pollInterval);
+    }
+
+    @Override
+    public void stop() {
+        relaying.dispose();
+        relaying = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return relaying != null;
+    }
+
+    /**
+     * Publishes the events of the outbox until a batch comes back short.
+     *
+     * @return a Mono containing the number of events published, never failing
+     */
+    public Mono<Long> drain() {
+        return relayBatch()
+                .expand(published -> published == batchSize ? relayBatch() : Mono.empty())
+                .reduce(0L, Long::sum)
+                .onErrorResume(throwable -> {
+                    failures.increment();
+                    log.warn("Unable to relay the outbox, retrying in {}", pollInterval, throwable);
+                    return Mono.just(0L);
+                });
+    }
+
+    /**
+     * Publishes the oldest batch of events and deletes it from the outbox.
+     *
+     * @return a Mono containing the number of events published
+     */
+    private Mono<Long> relayBatch() {
+        return outboxEventRepository.findOldest(batchSize)
+                .collectList()
+                .flatMap(batch -> {
+                    if (batch.isEmpty()) {
+                        return Mono.just(0L);
+                    }
+                    List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+                    return outboxSink.publish(batch)
+                            .then(outboxEventRepository.deleteAllById(ids))
+                            .then(Mono.fromSupplier(() -> {
+                                events.add(batch.size());
+                                batches.increment();
+                                lagMillis.set(Duration.between(batch.get(0).getCreatedDate(), LocalDateTime.now())
+                                        .toMillis());
+                                return (long) batch.size();
+                            }));
+                });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("outbox.relay.events", events, LongAdder::sum)
+                .description("Outbox events published")
+                .register(registry);
+        FunctionCounter.builder("outbox.relay.batches", batches, LongAdder::sum)
+                .description("Outbox batches published")
+                .register(registry);
+        FunctionCounter.builder("outbox.relay.failures", failures, LongAdder::sum)
+                .description("Outbox drains that failed and will be retried")
+                .register(registry);
+        Gauge.builder("outbox.relay.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("Age of the oldest event of the last published batch")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+}
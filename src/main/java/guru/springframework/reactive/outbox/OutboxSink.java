@@ -0,0 +1,29 @@
+package guru.springframework.reactive.outbox;
+
+import guru.springframework.reactive.domain.OutboxEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Destination the {@link OutboxRelay} publishes the outbox events to, such as a message broker.
+ * <p>
+ * A batch is deleted from the outbox only once {@link #publish} completes, so a sink must not
+ * complete before the events are durably accepted. A batch that failed, or whose deletion failed,
+ * is published again: consumers receive every event at least once and deduplicate by event ID.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 23:52
+ * @since jdk 1.17
+ */
+public interface OutboxSink {
+
+    /**
+     * Publishes a batch of events.
+     *
+     * @param events the events, in ID order
+     * @return a Mono completing once every event is accepted
+     */
+    Mono<Void> publish(List<OutboxEvent> events);
+
+}
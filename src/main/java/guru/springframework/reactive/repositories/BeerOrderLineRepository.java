@@ -0,0 +1,17 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.BeerOrderLine;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * Repository interface for managing BeerOrderLine entities.
+ * <p>
+ * This interface extends ReactiveCrudRepository to provide CRUD operations
+ * for BeerOrderLine entities in a reactive manner.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 17:59
+ * @since jdk 1.17
+ */
+public interface BeerOrderLineRepository extends ReactiveCrudRepository<BeerOrderLine, Integer> {
+}
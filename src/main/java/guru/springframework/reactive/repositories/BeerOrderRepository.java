@@ -0,0 +1,17 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.BeerOrder;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * Repository interface for managing BeerOrder entities.
+ * <p>
+ * This interface extends ReactiveCrudRepository to provide CRUD operations for BeerOrder entities,
+ * and {@link BeerOrderViewRepository} to read orders with their lines and beers in one query.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 17:58
+ * @since jdk 1.17
+ */
+public interface BeerOrderRepository extends ReactiveCrudRepository<BeerOrder, Integer>, BeerOrderViewRepository {
+}
@@ -0,0 +1,26 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.BeerOrder;
+import reactor.core.publisher.Flux;
+
+/**
+ * Repository fragment reading orders together with their lines and beers.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 17:52
+ * @since jdk 1.17
+ */
+public interface BeerOrderViewRepository {
+
+    /**
+     * Finds the orders of a customer, newest first, each with its lines and their beers.
+     * <p>
+     * The orders are read with a single joined query, so the whole order history costs one round
+     * trip to the database whatever the number of orders and lines.
+     *
+     * @param customerId the ID of the customer
+     * @return a Flux containing the orders, with lines and beers populated
+     */
+    Flux<BeerOrder> findAllWithLinesByCustomerId(Integer customerId);
+
+}
@@ -0,0 +1,115 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.Beer;
+import guru.springframework.reactive.domain.BeerOrder;
+import guru.springframework.reactive.domain.BeerOrderLine;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link DatabaseClient} implementation of {@link BeerOrderViewRepository}.
+ * <p>
+ * The order, line and beer tables are joined in one statement ordered by order, so rows of the
+ * same order arrive together and are folded into one BeerOrder as they stream in; only the rows
+ * of the order being assembled are held in memory. Soft-deleted beers are joined like live ones,
+ * so an order keeps showing the beers it was placed with until their tombstones are purged.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 17:55
+ * @since jdk 1.17
+ */
+@RequiredArgsConstructor
+class BeerOrderViewRepositoryImpl implements BeerOrderViewRepository {
+
+    private static final String ORDERS_WITH_LINES_BY_CUSTOMER = """
+            SELECT o.id AS order_id, o.customer_id, o.created_date AS order_created_date,
+                   o.last_modified_date AS order_last_modified_date,
+                   l.id AS line_id, l.beer_id, l.order_quantity,
+                   b.id AS beer_id_found, b.beer_name, b.beer_style, b.upc, b.quantity_on_hand, b.price,
+                   b.created_date AS beer_created_date, b.last_modified_date AS beer_last_modified_date
+            FROM beer_order o
+            LEFT JOIN beer_order_line l ON l.beer_order_id = o.id
+            LEFT JOIN beer b ON b.id = l.beer_id
+            WHERE o.customer_id = :customerId
+            ORDER BY o.id DESC, l.id
+            """;
+
+    /**
+     * Client executing the joined query.
+     */
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<BeerOrder> findAllWithLinesByCustomerId(Integer customerId) {
+        return databaseClient.sql(ORDERS_WITH_LINES_BY_CUSTOMER)
+                .bind("customerId", customerId)
+                .map((row, metadata) -> toRow(row))
+                .all()
+                .bufferUntilChanged(row -> row.order().getId())
+                .map(BeerOrderViewRepositoryImpl::toBeerOrder);
+    }
+
+    private static OrderRow toRow(Row row) {
+        BeerOrder order = BeerOrder.builder()
+                .id(row.get("order_id", Integer.class))
+                .customerId(row.get("customer_id", Integer.class))
+                .createdDate(row.get("order_created_date", LocalDateTime.class))
+                .lastModifiedDate(row.get("order_last_modified_date", LocalDateTime.class))
+                .build();
+
+        Integer lineId = row.get("line_id", Integer.class);
+        if (lineId == null) {
+            return new OrderRow(order, null);
+        }
+
+        Integer beerId = row.get("beer_id_found", Integer.class);
+        Beer beer = beerId == null ? null : Beer.builder()
+                .id(beerId)
+                .beerName(row.get("beer_name", String.class))
+                .beerStyle(row.get("beer_style", String.class))
+                .upc(row.get("upc", String.class))
+                .quantityOnHand(row.get("quantity_on_hand", Integer.class))
+                .price(toDouble(row.get("price", BigDecimal.class)))
+                .createdDate(row.get("beer_created_date", LocalDateTime.class))
+                .lastModifiedDate(row.get("beer_last_modified_date", LocalDateTime.class))
+                .build();
+        BeerOrderLine line = BeerOrderLine.builder()
+                .id(lineId)
+                .beerOrderId(order.getId())
+                .beerId(row.get("beer_id", Integer.class))
+                .orderQuantity(row.get("order_quantity", Integer.class))
+                .beer(beer)
+                .build();
+        return new OrderRow(order, line);
+    }
+
+    private static Double toDouble(BigDecimal value) {
+        return value == null ? null : value.doubleValue();
+    }
+
+    private static BeerOrder toBeerOrder(List<OrderRow> rows) {
+        BeerOrder order = rows.get(0).order();
+        List<BeerOrderLine> lines = new ArrayList<>(rows.size());
+        for (OrderRow row : rows) {
+            if (row.line() != null) {
+                lines.add(row.line());
+            }
+        }
+        order.setBeerOrderLines(lines);
+        return order;
+    }
+
+    /**
+     * One row of the joined query: an order and one of its lines, if it has any.
+     */
+    private record OrderRow(BeerOrder order, BeerOrderLine line) {
+    }
+
+}
@@ -0,0 +1,24 @@
+package guru.springframework.reactive.repositories;
+
+import org.springframework.data.relational.core.query.Update;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repository fragment writing only some columns of a beer.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 22:40
+ * @since jdk 1.17
+ */
+public interface BeerPatchRepository {
+
+    /**
+     * Updates the given columns of a beer, leaving the others untouched.
+     *
+     * @param beerId the ID of the beer to update
+     * @param update the columns to set, by property name
+     * @return a Mono containing the number of rows updated
+     */
+    Mono<Long> patch(Integer beerId, Update update);
+
+}
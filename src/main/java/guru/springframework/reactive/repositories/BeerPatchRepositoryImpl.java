@@ -0,0 +1,33 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.Beer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link R2dbcEntityOperations} implementation of {@link BeerPatchRepository}.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 22:42
+ * @since jdk 1.17
+ */
+@RequiredArgsConstructor
+class BeerPatchRepositoryImpl implements BeerPatchRepository {
+
+    /**
+     * Entity operations issuing the column-narrow updates.
+     */
+    private final R2dbcEntityOperations entityOperations;
+
+    @Override
+    public Mono<Long> patch(Integer beerId, Update update) {
+        return entityOperations.update(Beer.class)
+                .matching(Query.query(Criteria.where("id").is(beerId).and(SoftDeleteR2dbcRepository.live())))
+                .apply(update);
+    }
+
+}
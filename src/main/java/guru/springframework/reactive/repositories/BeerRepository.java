@@ -1,21 +1,63 @@
 package guru.springframework.reactive.repositories;
 
 import guru.springframework.reactive.domain.Beer;
-import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 
 /**
  * Repository interface for Beer entities.
  * <p>
- * This interface extends ReactiveCrudRepository to provide CRUD operations
- * for Beer entities in a reactive manner.
+ * This interface extends SoftDeleteRepository to provide CRUD and sorted listing operations
+ * for Beer entities in a reactive manner, deleted beers being kept as tombstones hidden from
+ * every read but the delta listing, and BeerPatchRepository for column-narrow updates.
  * <p>
  * Created by jt, Spring Framework Guru.
  *
- * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see guru.springframework.reactive.repositories.SoftDeleteRepository
  * @see guru.springframework.reactive.domain.Beer
 
  * @version 01/10/2024 - 15:58
  * @since jdk 1.21
  */
-public interface BeerRepository extends ReactiveCrudRepository<Beer, Integer> {
+public interface BeerRepository extends SoftDeleteRepository<Beer, Integer>, BeerPatchRepository {
+
+    /**
+     * Finds all beers of the given style, excluding deleted ones.
+     *
+     * @param beerStyle the style of the beers to find
+     * @return a Flux containing the matching Beer entities
+     */
+    @Query("SELECT * FROM beer WHERE beer_style = :beerStyle AND deleted_at IS NULL")
+    Flux<Beer> findAllByBeerStyle(String beerStyle);
+
+    /**
+     * Finds the beers with the given IDs, deleted ones included, as order lines keep showing the
+     * beers they were placed with until their tombstones are purged.
+     *
+     * @param beerIds the IDs of the beers to find, not empty
+     * @return a Flux containing the matching Beer entities
+     */
+    @Query("SELECT * FROM beer WHERE id IN (:beerIds) ORDER BY id")
+    Flux<Beer> findAllByIdIncludingDeleted(Collection<Integer> beerIds);
+
+    /**
+     * Finds the beers changed at or after a time, deleted ones included, ordered by last modified
+     * date then ID.
+     * <p>
+     * Served by the {@code beer_last_modified_idx (last_modified_date, id)} index: each page starts
+     * after the (last modified date, id) of the last beer of the previous page.
+     *
+     * @param modifiedSince the last modified date of the last beer received
+     * @param afterId       the ID of the last beer received, or 0 to include every beer changed at that time
+     * @param size          the maximum number of beers to return
+     * @return a Flux containing the changed Beer entities
+     */
+    @Query("SELECT * FROM beer WHERE last_modified_date >= :modifiedSince "
+            + "AND (last_modified_date > :modifiedSince OR id > :afterId) "
+            + "ORDER BY last_modified_date, id LIMIT :size")
+    Flux<Beer> findChangedSince(LocalDateTime modifiedSince, Integer afterId, int size);
+
 }
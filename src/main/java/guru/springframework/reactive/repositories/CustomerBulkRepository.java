@@ -0,0 +1,36 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.Customer;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Repository fragment writing customers in batches.
+ * <p>
+ * Each method sends all its customers as one multi-binding statement, so a batch costs one round
+ * trip to the database instead of one per customer.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 20:15
+ * @since jdk 1.17
+ */
+public interface CustomerBulkRepository {
+
+    /**
+     * Updates the name and last modified date of existing customers.
+     *
+     * @param customers the customers to update, identified by ID
+     * @return a Flux containing the number of rows updated for each customer, in order
+     */
+    Flux<Long> updateAll(List<Customer> customers);
+
+    /**
+     * Inserts new customers.
+     *
+     * @param customers the customers to insert, without ID
+     * @return a Flux containing the generated ID of each customer, in order
+     */
+    Flux<Integer> insertAll(List<Customer> customers);
+
+}
@@ -0,0 +1,77 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.Customer;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * {@link DatabaseClient} implementation of {@link CustomerBulkRepository}.
+ * <p>
+ * The statements are built on the connection of the current transaction, with one binding per
+ * customer added to the same statement.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 20:18
+ * @since jdk 1.17
+ */
+@RequiredArgsConstructor
+class CustomerBulkRepositoryImpl implements CustomerBulkRepository {
+
+    private static final String UPDATE_CUSTOMER =
+            "UPDATE customer SET customer_name = $1, last_modified_date = $2 WHERE id = $3 AND deleted_at IS NULL";
+
+    private static final String INSERT_CUSTOMER =
+            "INSERT INTO customer (customer_name, created_date, last_modified_date) VALUES ($1, $2, $3)";
+
+    /**
+     * Client providing the transaction-bound connection.
+     */
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<Long> updateAll(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(UPDATE_CUSTOMER);
+            for (int i = 0; i < customers.size(); i++) {
+                Customer customer = customers.get(i);
+                if (i > 0) {
+                    statement.add();
+                }
+                statement.bind(0, customer.getCustomerName())
+                        .bind(1, customer.getLastModifiedDate())
+                        .bind(2, customer.getId());
+            }
+            return Flux.from(statement.execute()).concatMap(Result::getRowsUpdated);
+        });
+    }
+
+    @Override
+    public Flux<Integer> insertAll(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_CUSTOMER).returnGeneratedValues("id");
+            for (int i = 0; i < customers.size(); i++) {
+                Customer customer = customers.get(i);
+                if (i > 0) {
+                    statement.add();
+                }
+                statement.bind(0, customer.getCustomerName())
+                        .bind(1, customer.getCreatedDate())
+                        .bind(2, customer.getLastModifiedDate());
+            }
+            return Flux.from(statement.execute())
+                    .concatMap(result -> result.map((row, metadata) -> row.get("id", Integer.class)));
+        });
+    }
+
+}
@@ -1,13 +1,23 @@
 package guru.springframework.reactive.repositories;
 
 import guru.springframework.reactive.domain.Customer;
-import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 
 /**
  * Repository interface for managing Customer entities.
  * <p>
- * This interface extends ReactiveCrudRepository to provide CRUD operations
- * for Customer entities in a reactive manner.
+ * This interface extends SoftDeleteRepository to provide CRUD operations
+ * for Customer entities in a reactive manner, deleted customers being kept as tombstones hidden
+ * from every read, the queries below included but the delta listing. Paged lookups by name are
+ * served by the {@code customer_name_idx (customer_name, id)} index and use keyset pagination:
+ * each page starts after the (name, id) of the last customer of the previous page, so fetching a
+ * page costs an index seek regardless of how deep it is. On PostgreSQL the name column uses the
+ * {@code "C"} collation, without which a btree cannot serve the prefix {@code LIKE}. Batched
+ * writes come from {@link CustomerBulkRepository}.
  * <p>
  * Created by jt, Spring Framework Guru.
  *
@@ -15,5 +25,55 @@ import org.springframework.data.repository.reactive.ReactiveCrudRepository;
  * @version 05/10/2024 - 11:21
  * @since jdk 1.21
  */
-public interface CustomerRepository extends ReactiveCrudRepository<Customer, Integer> {
+public interface CustomerRepository extends SoftDeleteRepository<Customer, Integer>, CustomerBulkRepository {
+
+    /**
+     * Finds the first page of customers whose name matches a LIKE pattern, ordered by name then ID.
+     *
+     * @param namePattern the LIKE pattern, a name prefix followed by {@code %}
+     * @param size        the maximum number of customers to return
+     * @return a Flux containing the matching customers
+     */
+    @Query("SELECT * FROM customer WHERE customer_name LIKE :namePattern AND deleted_at IS NULL "
+            + "ORDER BY customer_name, id LIMIT :size")
+    Flux<Customer> findPageByCustomerNameLike(String namePattern, int size);
+
+    /**
+     * Finds the page of customers whose name matches a LIKE pattern that follows the given
+     * (name, id) position, ordered by name then ID.
+     *
+     * @param namePattern the LIKE pattern, a name prefix followed by {@code %}
+     * @param afterName   the name of the last customer of the previous page
+     * @param afterId     the ID of the last customer of the previous page
+     * @param size        the maximum number of customers to return
+     * @return a Flux containing the matching customers
+     */
+    @Query("SELECT * FROM customer WHERE customer_name LIKE :namePattern AND deleted_at IS NULL "
+            + "AND customer_name >= :afterName AND (customer_name > :afterName OR id > :afterId) "
+            + "ORDER BY customer_name, id LIMIT :size")
+    Flux<Customer> findPageByCustomerNameLikeAfter(String namePattern, String afterName, Integer afterId, int size);
+
+    /**
+     * Finds which of the given IDs belong to existing customers.
+     *
+     * @param ids the IDs to look up
+     * @return a Flux containing the IDs that exist
+     */
+    @Query("SELECT id FROM customer WHERE id IN (:ids) AND deleted_at IS NULL")
+    Flux<Integer> findExistingIds(Collection<Integer> ids);
+
+    /**
+     * Finds the customers changed at or after a time, deleted ones included, ordered by last
+     * modified date then ID, seeking the {@code customer_last_modified_idx} index.
+     *
+     * @param modifiedSince the last modified date of the last customer received
+     * @param afterId       the ID of the last customer received, or 0 to include every customer changed at that time
+     * @param size          the maximum number of customers to return
+     * @return a Flux containing the changed customers
+     */
+    @Query("SELECT * FROM customer WHERE last_modified_date >= :modifiedSince "
+            + "AND (last_modified_date > :modifiedSince OR id > :afterId) "
+            + "ORDER BY last_modified_date, id LIMIT :size")
+    Flux<Customer> findChangedSince(LocalDateTime modifiedSince, Integer afterId, int size);
+
 }
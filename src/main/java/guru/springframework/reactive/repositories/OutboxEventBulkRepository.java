@@ -0,0 +1,25 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.OutboxEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Repository fragment appending outbox events in batches.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 23:42
+ * @since jdk 1.17
+ */
+public interface OutboxEventBulkRepository {
+
+    /**
+     * Inserts events as one multi-binding statement, in the current transaction.
+     *
+     * @param events the events to insert, without ID
+     * @return a Mono completing once every event is inserted
+     */
+    Mono<Void> appendAll(List<OutboxEvent> events);
+
+}
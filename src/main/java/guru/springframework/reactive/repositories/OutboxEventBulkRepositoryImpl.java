@@ -0,0 +1,60 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.OutboxEvent;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * {@link DatabaseClient} implementation of {@link OutboxEventBulkRepository}.
+ * <p>
+ * The statement is built on the connection of the current transaction, with one binding per
+ * event added to the same statement.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 23:44
+ * @since jdk 1.17
+ */
+@RequiredArgsConstructor
+class OutboxEventBulkRepositoryImpl implements OutboxEventBulkRepository {
+
+    private static final String INSERT_EVENT = "INSERT INTO outbox_event "
+            + "(aggregate_type, aggregate_id, event_type, payload, created_date) VALUES ($1, $2, $3, $4, $5)";
+
+    /**
+     * Client providing the transaction-bound connection.
+     */
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Void> appendAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_EVENT);
+            for (int i = 0; i < events.size(); i++) {
+                OutboxEvent event = events.get(i);
+                if (i > 0) {
+                    statement.add();
+                }
+                statement.bind(0, event.getAggregateType())
+                        .bind(1, event.getAggregateId())
+                        .bind(2, event.getEventType().name())
+                        .bind(4, event.getCreatedDate());
+                if (event.getPayload() == null) {
+                    statement.bindNull(3, String.class);
+                } else {
+                    statement.bind(3, event.getPayload());
+                }
+            }
+            return Flux.from(statement.execute()).concatMap(Result::getRowsUpdated);
+        }).then();
+    }
+
+}
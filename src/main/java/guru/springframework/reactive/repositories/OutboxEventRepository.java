@@ -0,0 +1,29 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.OutboxEvent;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Repository interface for managing the events of the outbox.
+ * <p>
+ * Services append events with {@link OutboxEventBulkRepository#appendAll}, in the transaction of
+ * their change, and the relay reads them in ID order and deletes them once published.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 23:46
+ * @since jdk 1.17
+ */
+public interface OutboxEventRepository extends ReactiveCrudRepository<OutboxEvent, Long>, OutboxEventBulkRepository {
+
+    /**
+     * Finds the oldest events of the outbox.
+     *
+     * @param size the maximum number of events to return
+     * @return a Flux containing the events, in ID order
+     */
+    @Query("SELECT * FROM outbox_event ORDER BY id LIMIT :size")
+    Flux<OutboxEvent> findOldest(int size);
+
+}
@@ -0,0 +1,384 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.Beer;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+
+/**
+ * {@link BeerRepository} spreading the beer table across several databases.
+ * <p>
+ * Beer {@code id} lives on shard {@code (id - 1) mod N}. Every shard generates the ids of its own
+ * residue class: its identity column steps by N from an id of its class, so inserts need no central
+ * id allocation and are spread round-robin across the shards. The identities are aligned once, by
+ * {@link #alignIdentities}, when the shards are set up; at startup the repository only validates
+ * them and fails fast when a shard is not aligned or holds beers of another shard.
+ * Single-id operations go straight to their shard. Listings query every shard in parallel, each
+ * ordered the same way, and merge the streams by that order, holding one pending beer per shard.
+ * <p>
+ * Each statement commits on its own shard; a transaction of the caller only covers the first shard,
+ * which is the application's own database. Like {@link SoftDeleteR2dbcRepository}, reads skip
+ * tombstones and deletes only mark beers deleted, until {@link #purgeTombstones} removes them.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 04:50
+ * @since jdk 1.17
+ */
+@Slf4j
+public class ShardedBeerRepository implements BeerRepository, SmartInitializingSingleton {
+
+    private static final Sort BY_ID = Sort.by(Sort.Direction.ASC, "id");
+
+    private static final Sort BY_LAST_MODIFIED_DATE = Sort.by(Sort.Direction.ASC, "lastModifiedDate", "id");
+
+    /**
+     * One template per shard, the first over the application's own database.
+     */
+    private final List<R2dbcEntityTemplate> shards;
+
+    /**
+     * Mapping metadata of {@link Beer}, used to compare beers by the properties of a {@link Sort}.
+     */
+    private final RelationalPersistentEntity<?> beerEntity;
+
+    /**
+     * Round-robin counter choosing the shard of new beers.
+     */
+    private final AtomicInteger nextInsertShard = new AtomicInteger();
+
+    /**
+     * Whether the identities are aligned at startup, before being validated.
+     */
+    private final boolean alignIdentities;
+
+    public ShardedBeerRepository(List<R2dbcEntityTemplate> shards, boolean alignIdentities) {
+        Assert.notEmpty(shards, "At least one shard is required");
+        this.shards = List.copyOf(shards);
+        this.alignIdentities = alignIdentities;
+        this.beerEntity = shards.get(0).getConverter().getMappingContext().getRequiredPersistentEntity(Beer.class);
+    }
+
+    /**
+     * Validates the identity column of every shard once the schemas exist, aligning it first when
+     * this instance is responsible for the alignment.
+     *
+     * @throws IllegalStateException if the identity of a shard does not step by the number of shards, or a
+     *                               shard holds beers of another shard
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        (alignIdentities ? alignIdentities() : Mono.<Void>empty())
+                .thenMany(Flux.range(0, shards.size()).concatMap(this::validateIdentity))
+                .blockLast();
+        log.info("Beer table sharded across {} databases", shards.size());
+    }
+
+    /**
+     * Restarts the identity of every shard at the next free id of its residue class, stepping by the
+     * number of shards.
+     * <p>
+     * This is a one-off administration step, run when the shards are set up or their number changes:
+     * it needs DDL rights, and must not race with inserts of other instances.
+     *
+     * @return a Mono completing once every shard is aligned
+     */
+    public Mono<Void> alignIdentities() {
+        return Flux.range(0, shards.size())
+                .concatMap(this::alignIdentity)
+                .then();
+    }
+
+    /**
+     * Returns the index of the shard holding a beer id.
+     *
+     * @param beerId the beer id
+     * @return the shard index
+     */
+    public int shardOf(Integer beerId) {
+        return Math.floorMod(beerId - 1, shards.size());
+    }
+
+    @Override
+    public <S extends Beer> Mono<S> save(S beer) {
+        if (beer.getId() == null) {
+            int shard = Math.floorMod(nextInsertShard.getAndIncrement(), shards.size());
+            return shards.get(shard).insert(beer);
+        }
+        return shardFor(beer.getId()).update(beer);
+    }
+
+    @Override
+    public <S extends Beer> Flux<S> saveAll(Iterable<S> beers) {
+        return saveAll(Flux.fromIterable(beers));
+    }
+
+    @Override
+    public <S extends Beer> Flux<S> saveAll(Publisher<S> beers) {
+        return Flux.from(beers).concatMap(this::save);
+    }
+
+    @Override
+    public Mono<Beer> findById(Integer beerId) {
+        return shardFor(beerId).selectOne(byId(beerId), Beer.class);
+    }
+
+    @Override
+    public Mono<Beer> findById(Publisher<Integer> beerId) {
+        return Mono.from(beerId).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Integer beerId) {
+        return shardFor(beerId).exists(byId(beerId), Beer.class);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<Integer> beerId) {
+        return Mono.from(beerId).flatMap(this::existsById);
+    }
+
+    @Override
+    public Flux<Beer> findAll() {
+        return findAll(BY_ID);
+    }
+
+    @Override
+    public Flux<Beer> findAll(Sort sort) {
+        Sort total = totalOrder(sort);
+        return scatter(Query.query(SoftDeleteR2dbcRepository.live()).sort(total), comparator(total));
+    }
+
+    @Override
+    public Flux<Beer> findAllByBeerStyle(String beerStyle) {
+        return scatter(Query.query(where("beerStyle").is(beerStyle).and(SoftDeleteR2dbcRepository.live())).sort(BY_ID),
+                comparator(BY_ID));
+    }
+
+    @Override
+    public Flux<Beer> findChangedSince(LocalDateTime modifiedSince, Integer afterId, int size) {
+        Query query = Query.query(where("lastModifiedDate").greaterThanOrEquals(modifiedSince)
+                        .and(where("lastModifiedDate").greaterThan(modifiedSince).or("id").greaterThan(afterId)))
+                .sort(BY_LAST_MODIFIED_DATE)
+                .limit(size);
+        return scatter(query, comparator(BY_LAST_MODIFIED_DATE)).take(size);
+    }
+
+    @Override
+    public Flux<Beer> findAllById(Iterable<Integer> beerIds) {
+        return gather(beerIds, ids -> where("id").in(ids).and(SoftDeleteR2dbcRepository.live()));
+    }
+
+    @Override
+    public Flux<Beer> findAllByIdIncludingDeleted(Collection<Integer> beerIds) {
+        return gather(beerIds, ids -> where("id").in(ids));
+    }
+
+    @Override
+    public Flux<Beer> findAllById(Publisher<Integer> beerIds) {
+        return Flux.from(beerIds).collectList().flatMapMany(this::findAllById);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return Flux.fromIterable(shards)
+                .flatMap(shard -> shard.count(Query.query(SoftDeleteR2dbcRepository.live()), Beer.class))
+                .reduce(0L, Long::sum);
+    }
+
+    @Override
+    public Mono<Long> patch(Integer beerId, Update update) {
+        return shardFor(beerId).update(byId(beerId), update, Beer.class);
+    }
+
+    @Override
+    public Mono<Void> deleteById(Integer beerId) {
+        return deleteLiveById(beerId).then();
+    }
+
+    @Override
+    public Mono<Long> deleteLiveById(Integer beerId) {
+        return Mono.defer(() -> shardFor(beerId).update(byId(beerId), SoftDeleteR2dbcRepository.tombstone(),
+                Beer.class));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<Integer> beerId) {
+        return Mono.from(beerId).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(Beer beer) {
+        return deleteById(beer.getId());
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Iterable<? extends Integer> beerIds) {
+        return Flux.fromIterable(beerIds).concatMap(this::deleteById).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends Beer> beers) {
+        return deleteAll(Flux.fromIterable(beers));
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends Beer> beers) {
+        return Flux.from(beers).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return Flux.fromIterable(shards)
+                .flatMap(shard -> shard.update(Query.query(SoftDeleteR2dbcRepository.live()),
+                        SoftDeleteR2dbcRepository.tombstone(), Beer.class))
+                .then();
+    }
+
+    @Override
+    public Mono<Long> purgeTombstones(LocalDateTime deletedBefore, int limit) {
+        return Flux.fromIterable(shards)
+                .flatMap(shard -> SoftDeleteR2dbcRepository.purgeTombstones(shard.getDatabaseClient(),
+                        beerEntity.getTableName(), deletedBefore, limit))
+                .reduce(0L, Long::sum);
+    }
+
+    private R2dbcEntityTemplate shardFor(Integer beerId) {
+        return shards.get(shardOf(beerId));
+    }
+
+    private static Query byId(Integer beerId) {
+        return Query.query(where("id").is(beerId).and(SoftDeleteR2dbcRepository.live()));
+    }
+
+    /**
+     * Looks beers up by id on the shards holding them only and merges the results by id.
+     */
+    private Flux<Beer> gather(Iterable<Integer> beerIds, Function<List<Integer>, Criteria> criteria) {
+        Map<Integer, List<Integer>> idsByShard = new TreeMap<>();
+        for (Integer beerId : beerIds) {
+            idsByShard.computeIfAbsent(shardOf(beerId), shard -> new ArrayList<>()).add(beerId);
+        }
+        List<Flux<Beer>> sources = new ArrayList<>(idsByShard.size());
+        idsByShard.forEach((shard, ids) -> sources.add(shards.get(shard)
+                .select(Query.query(criteria.apply(ids)).sort(BY_ID), Beer.class)));
+        return mergeOrdered(sources, comparator(BY_ID));
+    }
+
+    /**
+     * Runs a query on every shard and merges the results, each shard returning them in comparator order.
+     */
+    private Flux<Beer> scatter(Query query, Comparator<Beer> comparator) {
+        List<Flux<Beer>> sources = new ArrayList<>(shards.size());
+        for (R2dbcEntityTemplate shard : shards) {
+            sources.add(shard.select(query, Beer.class));
+        }
+        return mergeOrdered(sources, comparator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Flux<Beer> mergeOrdered(List<Flux<Beer>> sources, Comparator<Beer> comparator) {
+        return sources.size() == 1 ? sources.get(0)
+                : Flux.mergeComparing(comparator, sources.toArray(Flux[]::new));
+    }
+
+    /**
+     * Makes a sort total and portable: nulls are placed explicitly, as databases differ, and ties
+     * are broken by id, so every shard returns rows in exactly the order the merge expects.
+     */
+    private static Sort totalOrder(Sort sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+        boolean byId = false;
+        for (Sort.Order order : sort) {
+            orders.add(order.getNullHandling() == Sort.NullHandling.NATIVE ? order.nullsLast() : order);
+            byId |= order.getProperty().equals("id");
+        }
+        if (!byId) {
+            orders.add(Sort.Order.asc("id"));
+        }
+        return Sort.by(orders);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparator<Beer> comparator(Sort sort) {
+        Comparator<Beer> comparator = null;
+        for (Sort.Order order : sort) {
+            RelationalPersistentProperty property = beerEntity.getRequiredPersistentProperty(order.getProperty());
+            Comparator<Comparable> values = order.isAscending() ? Comparator.naturalOrder() : Comparator.reverseOrder();
+            values = order.getNullHandling() == Sort.NullHandling.NULLS_FIRST
+                    ? Comparator.nullsFirst(values) : Comparator.nullsLast(values);
+            Comparator<Beer> next = Comparator.comparing(
+                    beer -> (Comparable) beerEntity.getPropertyAccessor(beer).getProperty(property), values);
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    /**
+     * Restarts the identity of a shard at the next free id of its residue class, stepping by the
+     * number of shards.
+     */
+    private Mono<Void> alignIdentity(int shard) {
+        int count = shards.size();
+        var client = shards.get(shard).getDatabaseClient();
+        return client.sql("SELECT COALESCE(MAX(id), 0) FROM beer")
+                .map(row -> row.get(0, Number.class).longValue())
+                .one()
+                .flatMap(maxId -> {
+                    long next = maxId + 1;
+                    next += Math.floorMod(shard - (next - 1), count);
+                    return client.sql("ALTER TABLE beer ALTER COLUMN id SET INCREMENT BY " + count).then()
+                            .then(client.sql("ALTER TABLE beer ALTER COLUMN id RESTART WITH " + next).then());
+                });
+    }
+
+    /**
+     * Checks that the identity of a shard steps by the number of shards, and that the shard holds no
+     * beer of another shard.
+     */
+    private Mono<Void> validateIdentity(int shard) {
+        int count = shards.size();
+        var client = shards.get(shard).getDatabaseClient();
+        Mono<Long> increment = client.sql("SELECT CAST(identity_increment AS BIGINT) FROM information_schema.columns"
+                        + " WHERE table_schema = CURRENT_SCHEMA AND UPPER(table_name) = 'BEER' AND UPPER(column_name) = 'ID'")
+                .map(row -> row.get(0, Number.class).longValue())
+                .one();
+        Mono<Long> misplaced = client.sql("SELECT COUNT(*) FROM beer WHERE MOD(id - 1, " + count + ") <> " + shard)
+                .map(row -> row.get(0, Number.class).longValue())
+                .one();
+        return increment.zipWith(misplaced).flatMap(found -> {
+            if (found.getT1() != count) {
+                return Mono.error(new IllegalStateException("Identity of beer shard " + shard + " steps by "
+                        + found.getT1() + " instead of " + count
+                        + "; align the shards once with app.beer-shards.align-identity=true"));
+            }
+            if (found.getT2() > 0) {
+                return Mono.error(new IllegalStateException("Beer shard " + shard + " holds " + found.getT2()
+                        + " beers of other shards, which must be moved before sharding is enabled"));
+            }
+            return Mono.empty();
+        });
+    }
+
+}
@@ -0,0 +1,273 @@
+package guru.springframework.reactive.repositories;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.repository.query.RelationalEntityInformation;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+
+/**
+ * Repository base class soft-deleting the entities that have a {@code deletedAt} property.
+ * <p>
+ * For such entities every CRUD and sorting read adds {@code deleted_at IS NULL} to its query, and
+ * every delete becomes an UPDATE setting {@code deleted_at} and {@code last_modified_date} to the
+ * same timestamp, so the deletion is visible to whoever syncs on the last modified date. Entities
+ * without the property, such as orders, keep the plain {@link SimpleR2dbcRepository} behaviour.
+ * Query methods and query-by-example are not filtered: their queries must filter themselves.
+ *
+ * @param <T>  the entity type
+ * @param <ID> the ID type
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 03:55
+ * @since jdk 1.17
+ */
+@Transactional(readOnly = true)
+public class SoftDeleteR2dbcRepository<T, ID> extends SimpleR2dbcRepository<T, ID> {
+
+    /**
+     * The property marking deleted entities.
+     */
+    static final String DELETED_AT = "deletedAt";
+
+    private static final String LAST_MODIFIED_DATE = "lastModifiedDate";
+
+    private final RelationalEntityInformation<T, ID> entity;
+
+    private final R2dbcEntityOperations entityOperations;
+
+    private final SqlIdentifier idProperty;
+
+    private final boolean softDeleted;
+
+    public SoftDeleteR2dbcRepository(RelationalEntityInformation<T, ID> entity, R2dbcEntityOperations entityOperations,
+                                     R2dbcConverter converter) {
+        super(entity, entityOperations, converter);
+        this.entity = entity;
+        this.entityOperations = entityOperations;
+        RelationalPersistentEntity<?> persistentEntity = converter.getMappingContext()
+                .getRequiredPersistentEntity(entity.getJavaType());
+        this.idProperty = SqlIdentifier.unquoted(persistentEntity.getRequiredIdProperty().getName());
+        this.softDeleted = persistentEntity.getPersistentProperty(DELETED_AT) != null;
+    }
+
+    @Override
+    public Mono<T> findById(ID id) {
+        if (!softDeleted) {
+            return super.findById(id);
+        }
+        return entityOperations.selectOne(Query.query(byId(id)), entity.getJavaType());
+    }
+
+    @Override
+    public Mono<T> findById(Publisher<ID> id) {
+        return Mono.from(id).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(ID id) {
+        if (!softDeleted) {
+            return super.existsById(id);
+        }
+        return entityOperations.exists(Query.query(byId(id)), entity.getJavaType());
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<ID> id) {
+        return Mono.from(id).flatMap(this::existsById);
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        if (!softDeleted) {
+            return super.findAll();
+        }
+        return entityOperations.select(Query.query(live()), entity.getJavaType());
+    }
+
+    @Override
+    public Flux<T> findAll(Sort sort) {
+        if (!softDeleted) {
+            return super.findAll(sort);
+        }
+        return entityOperations.select(Query.query(live()).sort(sort), entity.getJavaType());
+    }
+
+    @Override
+    public Flux<T> findAllById(Iterable<ID> ids) {
+        if (!softDeleted) {
+            return super.findAllById(ids);
+        }
+        List<ID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        if (idList.isEmpty()) {
+            return Flux.empty();
+        }
+        return entityOperations.select(Query.query(where(idProperty.getReference()).in(idList).and(live())),
+                entity.getJavaType());
+    }
+
+    @Override
+    public Flux<T> findAllById(Publisher<ID> ids) {
+        return Flux.from(ids).collectList().flatMapMany(this::findAllById);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        if (!softDeleted) {
+            return super.count();
+        }
+        return entityOperations.count(Query.query(live()), entity.getJavaType());
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteById(ID id) {
+        if (!softDeleted) {
+            return super.deleteById(id);
+        }
+        return deleteLiveById(id).then();
+    }
+
+    /**
+     * Deletes the live entity with an ID, telling whether there was one.
+     *
+     * @param id the entity ID
+     * @return a Mono containing the number of entities deleted, 0 if none with that ID is live
+     */
+    @Transactional
+    public Mono<Long> deleteLiveById(ID id) {
+        if (!softDeleted) {
+            return entityOperations.delete(Query.query(where(idProperty.getReference()).is(id)), entity.getJavaType());
+        }
+        return Mono.defer(() -> entityOperations.update(Query.query(byId(id)), tombstone(), entity.getJavaType()));
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteById(Publisher<ID> id) {
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> delete(T deleted) {
+        return deleteById(entity.getRequiredId(deleted));
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+        if (!softDeleted) {
+            return super.deleteAllById(ids);
+        }
+        List<ID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        if (idList.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> entityOperations.update(
+                        Query.query(where(idProperty.getReference()).in(idList).and(live())), tombstone(),
+                        entity.getJavaType()))
+                .then();
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteAll(Iterable<? extends T> deleted) {
+        List<ID> ids = new ArrayList<>();
+        deleted.forEach(item -> ids.add(entity.getRequiredId(item)));
+        return deleteAllById(ids);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteAll(Publisher<? extends T> deleted) {
+        return Flux.from(deleted).collectList().flatMap(this::deleteAll);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteAll() {
+        if (!softDeleted) {
+            return super.deleteAll();
+        }
+        return Mono.defer(() -> entityOperations.update(Query.query(live()), tombstone(), entity.getJavaType()))
+                .then();
+    }
+
+    /**
+     * Removes the oldest tombstones deleted before a cutoff.
+     *
+     * @param deletedBefore the cutoff
+     * @param limit         the maximum number of rows removed
+     * @return a Mono containing the number of rows removed, always 0 for entities without tombstones
+     */
+    @Transactional
+    public Mono<Long> purgeTombstones(LocalDateTime deletedBefore, int limit) {
+        if (!softDeleted) {
+            return Mono.just(0L);
+        }
+        return purgeTombstones(entityOperations.getDatabaseClient(), entity.getTableName(), deletedBefore, limit);
+    }
+
+    /**
+     * Removes the oldest tombstones of a table deleted before a cutoff, with one statement.
+     *
+     * @param databaseClient the client of the database holding the table
+     * @param table          the table
+     * @param deletedBefore  the cutoff
+     * @param limit          the maximum number of rows removed
+     * @return a Mono containing the number of rows removed
+     */
+    static Mono<Long> purgeTombstones(DatabaseClient databaseClient, SqlIdentifier table, LocalDateTime deletedBefore,
+                                      int limit) {
+        String name = table.toSql(IdentifierProcessing.NONE);
+        return databaseClient.sql("DELETE FROM " + name + " WHERE id IN (SELECT id FROM " + name
+                        + " WHERE deleted_at < :deletedBefore ORDER BY deleted_at, id LIMIT :limit)")
+                .bind("deletedBefore", deletedBefore)
+                .bind("limit", limit)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Matches the live entity with an ID.
+     */
+    private Criteria byId(ID id) {
+        return where(idProperty.getReference()).is(id).and(live());
+    }
+
+    /**
+     * Matches the entities not deleted.
+     */
+    static Criteria live() {
+        return where(DELETED_AT).isNull();
+    }
+
+    /**
+     * Marks entities deleted now.
+     */
+    static Update tombstone() {
+        LocalDateTime now = LocalDateTime.now();
+        return Update.update(DELETED_AT, now).set(LAST_MODIFIED_DATE, now);
+    }
+
+}
@@ -0,0 +1,45 @@
+package guru.springframework.reactive.repositories;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository of entities deleted by marking them with a {@code deletedAt} timestamp.
+ * <p>
+ * Backed by {@link SoftDeleteR2dbcRepository}: the CRUD and sorting reads only see rows whose
+ * {@code deleted_at} is null, and the deletes set {@code deleted_at} and {@code last_modified_date}
+ * instead of removing the rows. The tombstones left behind let consumers syncing on the last
+ * modified date notice deletions, until {@link #purgeTombstones} removes them for good.
+ *
+ * @param <T>  the entity type
+ * @param <ID> the ID type
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 03:55
+ * @since jdk 1.17
+ */
+@NoRepositoryBean
+public interface SoftDeleteRepository<T, ID> extends ReactiveCrudRepository<T, ID>, ReactiveSortingRepository<T, ID> {
+
+    /**
+     * Deletes the live entity with an ID, telling whether there was one.
+     *
+     * @param id the entity ID
+     * @return a Mono containing the number of entities deleted, 0 if none with that ID is live
+     */
+    Mono<Long> deleteLiveById(ID id);
+
+    /**
+     * Removes the oldest tombstones deleted before a cutoff.
+     *
+     * @param deletedBefore the cutoff
+     * @param limit         the maximum number of rows removed
+     * @return a Mono containing the number of rows removed
+     */
+    Mono<Long> purgeTombstones(LocalDateTime deletedBefore, int limit);
+
+}
@@ -0,0 +1,189 @@
+package guru.springframework.reactive.services;
+
+import guru.springframework.reactive.model.BeerDTO;
+import guru.springframework.reactive.repositories.BeerRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-replica of the beer table held as a columnar in-memory snapshot.
+ * <p>
+ * When enabled with {@code app.beer-catalog.columnar.enabled=true}, the catalog snapshots the
+ * beer table into a {@link BeerCatalogSnapshot} once the application is ready and serves the
+ * read path of {@link BeerServiceImpl} from it. The writes of this instance are applied to the
+ * snapshot copy-on-write once committed, so they are read back at once. They also mark the
+ * snapshot stale, and it is rebuilt off the request path every
+ * {@code app.beer-catalog.columnar.refresh-interval}, which bounds how long the writes of other
+ * instances take to show. A rebuild that raced with a write is discarded rather than swapped in
+ * over the write, and retried on the next tick.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 04:35
+ * @since jdk 1.17
+ */
+@Slf4j
+@Component
+public class BeerCatalog {
+
+    /**
+     * Repository used to snapshot the beer table.
+     */
+    private final BeerRepository beerRepository;
+
+    /**
+     * Publisher of the {@link BeerChangedEvent} signalling that a new snapshot serves reads.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Whether the read path is served from the columnar snapshot.
+     */
+    private final boolean enabled;
+
+    /**
+     * How often a stale snapshot is rebuilt.
+     */
+    private final Duration refreshInterval;
+
+    /**
+     * Set when a write has happened since the current snapshot was taken.
+     */
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+
+    /**
+     * Writes applied to the snapshot, to discard a rebuild that read the table before one of them.
+     */
+    private final AtomicLong writes = new AtomicLong();
+
+    /**
+     * The snapshot currently serving reads, null until the first one has been built.
+     */
+    private volatile BeerCatalogSnapshot snapshot;
+
+    /**
+     * Subscription to the periodic refresh, null when the catalog is disabled.
+     */
+    private Disposable refresher;
+
+    public BeerCatalog(BeerRepository beerRepository, ApplicationEventPublisher eventPublisher,
+                       @Value("${app.beer-catalog.columnar.enabled:false}") boolean enabled,
+                       @Value("${app.beer-catalog.columnar.refresh-interval:5s}") Duration refreshInterval) {
+        this.beerRepository = beerRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Takes the first snapshot and schedules the refresh of stale snapshots.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .filter(tick -> stale.get())
+                .concatMap(tick -> refresh()
+                        .onErrorResume(throwable -> {
+                            log.error("Unable to refresh the beer catalog snapshot", throwable);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    /**
+     * Stops the periodic refresh.
+     */
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot from the beer table and swaps it in.
+     *
+     * @return a Mono completing when the new snapshot serves reads
+     */
+    public Mono<Void> refresh() {
+        return Mono.defer(() -> {
+            stale.set(false);
+            long writesBefore = writes.get();
+            return beerRepository.findAll(Sort.by(Sort.Direction.ASC, "id"))
+                    .reduce(BeerCatalogSnapshot.builder(), BeerCatalogSnapshot.Builder::add)
+                    .map(BeerCatalogSnapshot.Builder::build)
+                    .doOnNext(built -> {
+                        synchronized (this) {
+                            if (writes.get() != writesBefore) {
+                                stale.set(true);
+                                return;
+                            }
+                            snapshot = built;
+                        }
+                        eventPublisher.publishEvent(new BeerChangedEvent(null));
+                        log.debug("Beer catalog snapshot refreshed with {} beers", built.size());
+                    })
+                    .doOnError(throwable -> stale.set(true))
+                    .then();
+        });
+    }
+
+    /**
+     * Flags the current snapshot as stale after a write to the beer table.
+     */
+    public void markStale() {
+        stale.set(true);
+    }
+
+    /**
+     * Applies a committed write of a beer to the snapshot, and flags it as stale.
+     *
+     * @param beerDTO the written beer
+     */
+    public synchronized void apply(BeerDTO beerDTO) {
+        writes.incrementAndGet();
+        stale.set(true);
+        if (snapshot != null) {
+            snapshot = snapshot.with(beerDTO);
+        }
+    }
+
+    /**
+     * Removes a committed deletion of a beer from the snapshot, and flags it as stale.
+     *
+     * @param beerId the ID of the deleted beer
+     */
+    public synchronized void remove(Integer beerId) {
+        writes.incrementAndGet();
+        stale.set(true);
+        if (snapshot != null) {
+            snapshot = snapshot.without(beerId);
+        }
+    }
+
+    /**
+     * Returns the snapshot serving reads.
+     *
+     * @return the current snapshot, or null when the catalog is disabled or not built yet
+     */
+    public BeerCatalogSnapshot snapshot() {
+        return enabled ? snapshot : null;
+    }
+
+}
@@ -0,0 +1,351 @@
+package guru.springframework.reactive.services;
+
+import guru.springframework.reactive.domain.Beer;
+import guru.springframework.reactive.model.BeerDTO;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable columnar snapshot of the beer catalog.
+ * <p>
+ * Every beer attribute is stored in its own primitive array indexed by row, with rows sorted by
+ * beer ID so lookups are a binary search. Names and UPCs are packed as UTF-8 into a single byte
+ * array per column, the beer style is dictionary encoded, and timestamps are stored as epoch
+ * nanoseconds. Holding the catalog this way costs a handful of arrays instead of several objects
+ * per beer, and reading it allocates nothing but the returned BeerDTO. A write is applied by
+ * copying the snapshot with the beer added, replaced or removed.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 04:35
+ * @since jdk 1.17
+ */
+public final class BeerCatalogSnapshot {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+    private static final int NULL_CODE = -1;
+
+    private final int size;
+    private final int[] ids;
+    private final StringColumn beerNames;
+    private final StringColumn upcs;
+    private final String[] styleDictionary;
+    private final Map<String, Integer> styleCodes;
+    private final int[] beerStyles;
+    private final int[] quantitiesOnHand;
+    private final BitSet quantityNulls;
+    private final double[] prices;
+    private final BitSet priceNulls;
+    private final long[] createdDates;
+    private final long[] lastModifiedDates;
+
+    private BeerCatalogSnapshot(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.beerNames = builder.beerNames.build();
+        this.upcs = builder.upcs.build();
+        this.styleDictionary = builder.styleDictionary.toArray(String[]::new);
+        this.styleCodes = Map.copyOf(builder.styleCodes);
+        this.beerStyles = Arrays.copyOf(builder.beerStyles, size);
+        this.quantitiesOnHand = Arrays.copyOf(builder.quantitiesOnHand, size);
+        this.quantityNulls = (BitSet) builder.quantityNulls.clone();
+        this.prices = Arrays.copyOf(builder.prices, size);
+        this.priceNulls = (BitSet) builder.priceNulls.clone();
+        this.createdDates = Arrays.copyOf(builder.createdDates, size);
+        this.lastModifiedDates = Arrays.copyOf(builder.lastModifiedDates, size);
+    }
+
+    /**
+     * Creates a builder for a new snapshot.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of beers in the snapshot.
+     *
+     * @return the number of beers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds a beer by its ID.
+     *
+     * @param beerId the ID of the beer
+     * @return the beer, or null if it is not part of the snapshot
+     */
+    public BeerDTO findById(Integer beerId) {
+        if (beerId == null) {
+            return null;
+        }
+        int row = Arrays.binarySearch(ids, 0, size, beerId);
+        return row >= 0 ? beerAt(row) : null;
+    }
+
+    /**
+     * Streams every beer of the snapshot in ID order.
+     *
+     * @return a Flux containing BeerDTO objects
+     */
+    public Flux<BeerDTO> beers() {
+        return Flux.range(0, size).map(this::beerAt);
+    }
+
+    /**
+     * Streams the beers of the given style in ID order.
+     * <p>
+     * The style is resolved once against the dictionary, so the scan compares int codes only.
+     *
+     * @param beerStyle the style to filter by
+     * @return a Flux containing the matching BeerDTO objects
+     */
+    public Flux<BeerDTO> beersByStyle(String beerStyle) {
+        Integer code = beerStyle == null ? null : styleCodes.get(beerStyle);
+        if (code == null) {
+            return Flux.empty();
+        }
+        int styleCode = code;
+        return Flux.range(0, size)
+                .filter(row -> beerStyles[row] == styleCode)
+                .map(this::beerAt);
+    }
+
+    /**
+     * Returns a copy of this snapshot with a beer added, or replacing the beer with its ID.
+     *
+     * @param beer the written beer
+     * @return the new snapshot, this one left untouched
+     */
+    public BeerCatalogSnapshot with(BeerDTO beer) {
+        Builder builder = builder();
+        int row = 0;
+        while (row < size && ids[row] < beer.getId()) {
+            builder.add(beerAt(row++));
+        }
+        builder.add(beer);
+        if (row < size && ids[row] == beer.getId()) {
+            row++;
+        }
+        while (row < size) {
+            builder.add(beerAt(row++));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a copy of this snapshot without the beer with an ID.
+     *
+     * @param beerId the ID of the deleted beer
+     * @return the new snapshot, or this one if it does not hold the beer
+     */
+    public BeerCatalogSnapshot without(Integer beerId) {
+        int removed = beerId == null ? -1 : Arrays.binarySearch(ids, 0, size, beerId);
+        if (removed < 0) {
+            return this;
+        }
+        Builder builder = builder();
+        for (int row = 0; row < size; row++) {
+            if (row != removed) {
+                builder.add(beerAt(row));
+            }
+        }
+        return builder.build();
+    }
+
+    private BeerDTO beerAt(int row) {
+        int styleCode = beerStyles[row];
+        return BeerDTO.builder()
+                .id(ids[row])
+                .beerName(beerNames.get(row))
+                .beerStyle(styleCode == NULL_CODE ? null : styleDictionary[styleCode])
+                .upc(upcs.get(row))
+                .quantityOnHand(quantityNulls.get(row) ? null : quantitiesOnHand[row])
+                .price(priceNulls.get(row) ? null : prices[row])
+                .createdDate(decodeTimestamp(createdDates[row]))
+                .lastModifiedDate(decodeTimestamp(lastModifiedDates[row]))
+                .build();
+    }
+
+    private static long encodeTimestamp(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return NULL_TIMESTAMP;
+        }
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + timestamp.getNano();
+    }
+
+    private static LocalDateTime decodeTimestamp(long value) {
+        if (value == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(value, NANOS_PER_SECOND),
+                (int) Math.floorMod(value, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    /**
+     * Builder accumulating beers, in ascending ID order, into growable column arrays.
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private int size;
+        private int[] ids = new int[INITIAL_CAPACITY];
+        private final StringColumn.Builder beerNames = new StringColumn.Builder();
+        private final StringColumn.Builder upcs = new StringColumn.Builder();
+        private final List<String> styleDictionary = new ArrayList<>();
+        private final Map<String, Integer> styleCodes = new HashMap<>();
+        private int[] beerStyles = new int[INITIAL_CAPACITY];
+        private int[] quantitiesOnHand = new int[INITIAL_CAPACITY];
+        private final BitSet quantityNulls = new BitSet();
+        private double[] prices = new double[INITIAL_CAPACITY];
+        private final BitSet priceNulls = new BitSet();
+        private long[] createdDates = new long[INITIAL_CAPACITY];
+        private long[] lastModifiedDates = new long[INITIAL_CAPACITY];
+
+        private Builder() {
+        }
+
+        /**
+         * Appends a beer to the snapshot.
+         *
+         * @param beer the beer to append; its ID must be greater than the previous one
+         * @return this builder
+         * @throws IllegalArgumentException if the beer is out of ID order
+         */
+        public Builder add(Beer beer) {
+            return add(beer.getId(), beer.getBeerName(), beer.getBeerStyle(), beer.getUpc(), beer.getQuantityOnHand(),
+                    beer.getPrice(), beer.getCreatedDate(), beer.getLastModifiedDate());
+        }
+
+        private Builder add(BeerDTO beer) {
+            return add(beer.getId(), beer.getBeerName(), beer.getBeerStyle(), beer.getUpc(), beer.getQuantityOnHand(),
+                    beer.getPrice(), beer.getCreatedDate(), beer.getLastModifiedDate());
+        }
+
+        private Builder add(Integer id, String beerName, String beerStyle, String upc, Integer quantityOnHand,
+                            Double price, LocalDateTime createdDate, LocalDateTime lastModifiedDate) {
+            if (id == null || (size > 0 && id <= ids[size - 1])) {
+                throw new IllegalArgumentException("Beers must be added in ascending id order: " + id);
+            }
+            if (size == ids.length) {
+                grow();
+            }
+
+            ids[size] = id;
+            beerNames.add(beerName);
+            upcs.add(upc);
+            beerStyles[size] = beerStyle == null ? NULL_CODE
+                    : styleCodes.computeIfAbsent(beerStyle, style -> {
+                        styleDictionary.add(style);
+                        return styleDictionary.size() - 1;
+                    });
+            if (quantityOnHand == null) {
+                quantityNulls.set(size);
+            } else {
+                quantitiesOnHand[size] = quantityOnHand;
+            }
+            if (price == null) {
+                priceNulls.set(size);
+            } else {
+                prices[size] = price;
+            }
+            createdDates[size] = encodeTimestamp(createdDate);
+            lastModifiedDates[size] = encodeTimestamp(lastModifiedDate);
+            size++;
+
+            return this;
+        }
+
+        /**
+         * Builds the snapshot, trimming every column to the number of beers added.
+         *
+         * @return the immutable snapshot
+         */
+        public BeerCatalogSnapshot build() {
+            return new BeerCatalogSnapshot(this);
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            beerStyles = Arrays.copyOf(beerStyles, capacity);
+            quantitiesOnHand = Arrays.copyOf(quantitiesOnHand, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            createdDates = Arrays.copyOf(createdDates, capacity);
+            lastModifiedDates = Arrays.copyOf(lastModifiedDates, capacity);
+        }
+    }
+
+    /**
+     * String column packing every value as UTF-8 into one byte array, addressed by row offsets.
+     */
+    private static final class StringColumn {
+
+        private final byte[] data;
+        private final int[] offsets;
+        private final BitSet nulls;
+
+        private StringColumn(byte[] data, int[] offsets, BitSet nulls) {
+            this.data = data;
+            this.offsets = offsets;
+            this.nulls = nulls;
+        }
+
+        private String get(int row) {
+            if (nulls.get(row)) {
+                return null;
+            }
+            return new String(data, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+        }
+
+        private static final class Builder {
+
+            private static final int INITIAL_DATA_CAPACITY = 16 * 1024;
+            private static final int INITIAL_ROW_CAPACITY = 1024;
+
+            private byte[] data = new byte[INITIAL_DATA_CAPACITY];
+            private int length;
+            private int[] offsets = new int[INITIAL_ROW_CAPACITY + 1];
+            private int rows;
+            private final BitSet nulls = new BitSet();
+
+            private void add(String value) {
+                if (rows + 1 == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                if (value == null) {
+                    nulls.set(rows);
+                } else {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    if (length + bytes.length > data.length) {
+                        data = Arrays.copyOf(data, Math.max(data.length * 2, length + bytes.length));
+                    }
+                    System.arraycopy(bytes, 0, data, length, bytes.length);
+                    length += bytes.length;
+                }
+                rows++;
+                offsets[rows] = length;
+            }
+
+            private StringColumn build() {
+                return new StringColumn(Arrays.copyOf(data, length), Arrays.copyOf(offsets, rows + 1),
+                        (BitSet) nulls.clone());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package guru.springframework.reactive.services;
+
+/**
+ * Application event published when beers served by {@link BeerService} may have changed.
+ * <p>
+ * {@link BeerServiceImpl} publishes it after every committed write, and {@link BeerCatalog}
+ * after it swaps in a new snapshot, so caches of beer reads can be invalidated precisely.
+ *
+ * @param beerId the ID of the changed beer, or null when any beer may have changed
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 18:30
+ * @since jdk 1.17
+ */
+public record BeerChangedEvent(Integer beerId) {
+}
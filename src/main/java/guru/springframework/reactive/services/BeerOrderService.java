@@ -0,0 +1,25 @@
+package guru.springframework.reactive.services;
+
+import guru.springframework.reactive.model.BeerOrderDTO;
+import reactor.core.publisher.Flux;
+
+/**
+ * Service interface for reading customer orders.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 18:02
+ * @since jdk 1.17
+ */
+public interface BeerOrderService {
+
+    /**
+     * Lists the orders of a customer.
+     * <p>
+     * This method retrieves a Flux stream of BeerOrderDTO objects, newest first, each with its lines and their beers.
+     *
+     * @param customerId the ID of the customer
+     * @return a Flux containing BeerOrderDTO objects
+     */
+    Flux<BeerOrderDTO> listOrdersByCustomerId(Integer customerId);
+
+}
@@ -0,0 +1,109 @@
+package guru.springframework.reactive.services;
+
+import guru.springframework.reactive.domain.Beer;
+import guru.springframework.reactive.domain.BeerOrder;
+import guru.springframework.reactive.domain.BeerOrderLine;
+import guru.springframework.reactive.mappers.BeerOrderMapper;
+import guru.springframework.reactive.model.BeerOrderDTO;
+import guru.springframework.reactive.repositories.BeerOrderRepository;
+import guru.springframework.reactive.repositories.BeerRepository;
+import guru.springframework.reactive.tracing.LayerTracing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Service implementation for reading customer orders.
+ * <p>
+ * Orders are read with their lines and beers in a single joined query, bounded by the
+ * {@link RequestDeadline} of the request being served. When the beer table is sharded the join
+ * only finds the beers of the application's own database; the others are fetched by id, with one
+ * lookup per batch of {@value #MISSING_BEERS_BATCH} orders that has any. Both paths show soft-deleted
+ * beers, until their tombstones are purged. Each call is observed as an {@code order.service} span
+ * of the request.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 05:15
+ * @since jdk 1.17
+ */
+@Service
+@RequiredArgsConstructor
+public class BeerOrderServiceImpl implements BeerOrderService {
+
+    /**
+     * Number of orders whose missing beers are fetched with one lookup.
+     */
+    static final int MISSING_BEERS_BATCH = 64;
+
+    private static final String OBSERVATION = "order.service";
+
+    /**
+     * Repository for accessing order data.
+     */
+    private final BeerOrderRepository beerOrderRepository;
+
+    /**
+     * Mapper for converting BeerOrder entities into BeerOrderDTO objects.
+     */
+    private final BeerOrderMapper beerOrderMapper;
+
+    /**
+     * Repository for fetching the beers the joined query did not find.
+     */
+    private final BeerRepository beerRepository;
+
+    /**
+     * Observations of the service calls.
+     */
+    private final LayerTracing layerTracing;
+
+    /**
+     * Lists the orders of a customer.
+     * <p>
+     * This method retrieves a Flux stream of BeerOrderDTO objects, newest first, each with its lines and their beers.
+     *
+     * @param customerId the ID of the customer
+     * @return a Flux containing BeerOrderDTO objects
+     */
+    @Override
+    public Flux<BeerOrderDTO> listOrdersByCustomerId(Integer customerId) {
+        return beerOrderRepository.findAllWithLinesByCustomerId(customerId)
+                .buffer(MISSING_BEERS_BATCH)
+                .concatMap(this::withMissingBeers)
+                .flatMapIterable(orders -> orders)
+                .transform(RequestDeadline::boundMany)
+                .map(beerOrderMapper::beerOrderToBeerOrderDTO)
+                .transform(layerTracing.observeMany(OBSERVATION, "listOrdersByCustomerId"));
+    }
+
+    /**
+     * Fetches the beers of the lines the joined query left without one, such as beers of other shards,
+     * across a batch of orders. Deleted beers are fetched too, as the join finds them on the
+     * application's own database.
+     */
+    private Mono<List<BeerOrder>> withMissingBeers(List<BeerOrder> orders) {
+        List<Integer> missing = orders.stream()
+                .flatMap(order -> order.getBeerOrderLines().stream())
+                .filter(line -> line.getBeer() == null && line.getBeerId() != null)
+                .map(BeerOrderLine::getBeerId)
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return Mono.just(orders);
+        }
+        return beerRepository.findAllByIdIncludingDeleted(missing)
+                .collectMap(Beer::getId)
+                .map(beers -> {
+                    orders.forEach(order -> order.getBeerOrderLines().forEach(line -> {
+                        if (line.getBeer() == null) {
+                            line.setBeer(beers.get(line.getBeerId()));
+                        }
+                    }));
+                    return orders;
+                });
+    }
+
+}
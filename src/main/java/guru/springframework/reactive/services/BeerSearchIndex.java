@@ -0,0 +1,277 @@
+package guru.springframework.reactive.services;
+
+import guru.springframework.reactive.mappers.BeerMapper;
+import guru.springframework.reactive.model.BeerDTO;
+import guru.springframework.reactive.repositories.BeerRepository;
+import guru.springframework.reactive.util.ConcurrentIntObjectMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process inverted index over the beer catalog.
+ * <p>
+ * Beer names and styles are tokenized into lower-case terms kept in sorted term dictionaries,
+ * so a query term is resolved as a prefix range scan over the dictionary instead of a
+ * {@code LIKE '%x%'} scan over the beer table. Results are ranked by how well each query term
+ * matches: exact name terms rank above name prefixes, which rank above style matches.
+ * <p>
+ * The index is built from {@link BeerRepository#findAll()} once the application is ready and
+ * kept current by the writes going through {@link BeerServiceImpl}. Lookups are lock free;
+ * writes are serialized so a document and its postings are always updated together. Only the
+ * documents hold beers: a posting list is a sorted {@code int[]} of beer IDs, replaced on write,
+ * as most terms match one or two beers.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 04:25
+ * @since jdk 1.17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BeerSearchIndex {
+
+    private static final int EXACT_NAME_SCORE = 4;
+    private static final int PREFIX_NAME_SCORE = 3;
+    private static final int EXACT_STYLE_SCORE = 2;
+    private static final int PREFIX_STYLE_SCORE = 1;
+
+    /**
+     * Repository used to build the index at startup.
+     */
+    private final BeerRepository beerRepository;
+
+    /**
+     * Mapper for converting Beer entities into the indexed BeerDTO documents.
+     */
+    private final BeerMapper beerMapper;
+
+    /**
+     * Indexed documents by beer ID.
+     */
+    private final ConcurrentIntObjectMap<BeerDTO> documents = new ConcurrentIntObjectMap<>();
+
+    /**
+     * Term dictionary for beer names, mapping each term to the sorted IDs of the beers containing it.
+     */
+    private final ConcurrentSkipListMap<String, int[]> nameTerms = new ConcurrentSkipListMap<>();
+
+    /**
+     * Term dictionary for beer styles, mapping each term to the sorted IDs of the beers containing it.
+     */
+    private final ConcurrentSkipListMap<String, int[]> styleTerms = new ConcurrentSkipListMap<>();
+
+    /**
+     * Builds the index from the beer table once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild().subscribe(null, throwable -> log.error("Unable to build the beer search index", throwable));
+    }
+
+    /**
+     * Loads every beer from the repository into the index.
+     *
+     * @return a Mono completing when all beers have been indexed
+     */
+    public Mono<Void> rebuild() {
+        return beerRepository.findAll()
+                .map(beerMapper::beerToBeerDTO)
+                .doOnNext(this::upsert)
+                .then()
+                .doOnSuccess(unused -> log.info("Beer search index built with {} beers", documents.size()));
+    }
+
+    /**
+     * Adds a beer to the index, replacing any previously indexed version of it.
+     *
+     * @param beerDTO the beer to index
+     */
+    public synchronized void upsert(BeerDTO beerDTO) {
+        if (beerDTO == null || beerDTO.getId() == null) {
+            return;
+        }
+        remove(beerDTO.getId());
+        documents.put(beerDTO.getId(), beerDTO);
+        addPostings(nameTerms, beerDTO.getBeerName(), beerDTO.getId());
+        addPostings(styleTerms, beerDTO.getBeerStyle(), beerDTO.getId());
+    }
+
+    /**
+     * Removes a beer from the index.
+     *
+     * @param beerId the ID of the beer to remove
+     */
+    public synchronized void remove(Integer beerId) {
+        if (beerId == null) {
+            return;
+        }
+        BeerDTO previous = documents.remove(beerId);
+        if (previous != null) {
+            removePostings(nameTerms, previous.getBeerName(), beerId);
+            removePostings(styleTerms, previous.getBeerStyle(), beerId);
+        }
+    }
+
+    /**
+     * Searches the index.
+     * <p>
+     * Every query term must match, either exactly or as a prefix, a term of the beer name or
+     * style. Matches are returned by descending score, then by beer name.
+     *
+     * @param query the free-text query
+     * @param limit the maximum number of results
+     * @return the ranked matching beers
+     */
+    public List<BeerDTO> search(String query, int limit) {
+        Set<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Integer, Integer> scores = null;
+        for (String term : queryTerms) {
+            Map<Integer, Integer> termScores = new HashMap<>();
+            collect(nameTerms, term, EXACT_NAME_SCORE, PREFIX_NAME_SCORE, scores, termScores);
+            collect(styleTerms, term, EXACT_STYLE_SCORE, PREFIX_STYLE_SCORE, scores, termScores);
+
+            if (scores != null) {
+                Map<Integer, Integer> previousScores = scores;
+                termScores.replaceAll((id, score) -> score + previousScores.get(id));
+            }
+            scores = termScores;
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        Map<Integer, Integer> ranked = scores;
+        List<BeerDTO> results = new ArrayList<>(ranked.size());
+        ranked.keySet().forEach(id -> {
+            BeerDTO beerDTO = documents.get(id);
+            if (beerDTO != null) {
+                results.add(beerDTO);
+            }
+        });
+        results.sort(Comparator.<BeerDTO>comparingInt(beerDTO -> ranked.get(beerDTO.getId())).reversed()
+                .thenComparing(BeerDTO::getBeerName, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(BeerDTO::getId));
+
+        return results.size() > limit ? List.copyOf(results.subList(0, limit)) : results;
+    }
+
+    /**
+     * Returns the number of indexed beers.
+     *
+     * @return the number of indexed beers
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Collects the best score per beer for a query term over one term dictionary.
+     *
+     * @param terms       the term dictionary to scan
+     * @param term        the query term, matched exactly or as a prefix
+     * @param exactScore  the score of an exact term match
+     * @param prefixScore the score of a prefix match
+     * @param candidates  the beers matching all previous query terms, or null for the first term
+     * @param termScores  the scores collected so far for this query term
+     */
+    private static void collect(ConcurrentSkipListMap<String, int[]> terms, String term, int exactScore,
+                                int prefixScore, Map<Integer, Integer> candidates, Map<Integer, Integer> termScores) {
+        NavigableMap<String, int[]> range = terms.subMap(term, true, term + Character.MAX_VALUE, false);
+        range.forEach((indexedTerm, beerIds) -> {
+            int score = indexedTerm.equals(term) ? exactScore : prefixScore;
+            for (int beerId : beerIds) {
+                if (candidates == null || candidates.containsKey(beerId)) {
+                    termScores.merge(beerId, score, Math::max);
+                }
+            }
+        });
+    }
+
+    /**
+     * Adds a beer to the postings of the terms of a text. Postings are never modified in place:
+     * each write publishes a new array, so readers always scan a consistent one.
+     */
+    private static void addPostings(ConcurrentSkipListMap<String, int[]> terms, String text, int beerId) {
+        for (String term : tokenize(text)) {
+            terms.compute(term, (key, beerIds) -> {
+                if (beerIds == null) {
+                    return new int[]{beerId};
+                }
+                int position = Arrays.binarySearch(beerIds, beerId);
+                if (position >= 0) {
+                    return beerIds;
+                }
+                int insertion = -position - 1;
+                int[] added = new int[beerIds.length + 1];
+                System.arraycopy(beerIds, 0, added, 0, insertion);
+                added[insertion] = beerId;
+                System.arraycopy(beerIds, insertion, added, insertion + 1, beerIds.length - insertion);
+                return added;
+            });
+        }
+    }
+
+    private static void removePostings(ConcurrentSkipListMap<String, int[]> terms, String text, int beerId) {
+        for (String term : tokenize(text)) {
+            terms.computeIfPresent(term, (key, beerIds) -> {
+                int position = Arrays.binarySearch(beerIds, beerId);
+                if (position < 0) {
+                    return beerIds;
+                }
+                if (beerIds.length == 1) {
+                    return null;
+                }
+                int[] removed = new int[beerIds.length - 1];
+                System.arraycopy(beerIds, 0, removed, 0, position);
+                System.arraycopy(beerIds, position + 1, removed, position, beerIds.length - position - 1);
+                return removed;
+            });
+        }
+    }
+
+    /**
+     * Splits a text into distinct lower-case terms on any non letter or digit character.
+     *
+     * @param text the text to tokenize
+     * @return the distinct terms, in order of appearance
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean partOfToken = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (partOfToken && start < 0) {
+                start = i;
+            } else if (!partOfToken && start >= 0) {
+                tokens.add(lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+}
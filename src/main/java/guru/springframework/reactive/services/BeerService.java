@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -27,6 +28,30 @@ public interface BeerService {
      */
     Flux<BeerDTO> listBeers();
 
+    /**
+     * Lists the beers of a style.
+     * <p>
+     * This method retrieves a Flux stream of BeerDTO objects representing all beers of the given style.
+     *
+     * @param beerStyle the style of the beers to list
+     * @return a Flux containing BeerDTO objects
+     */
+    Flux<BeerDTO> listBeersByStyle(String beerStyle);
+
+    /**
+     * Lists the beers changed since a time, deleted ones included.
+     * <p>
+     * Beers are ordered by last modified date, then by ID. The next page is requested with the last
+     * modified date and ID of the last beer of the current page; deleted beers carry their
+     * {@code deletedAt}.
+     *
+     * @param modifiedSince the time to list changes from, inclusive on the first page
+     * @param afterId       the ID of the last beer of the previous page, or null for the first page
+     * @param size          the maximum number of beers to return
+     * @return a Flux containing BeerDTO objects
+     */
+    Flux<BeerDTO> listBeersModifiedSince(LocalDateTime modifiedSince, Integer afterId, int size);
+
     /**
      * Retrieves a beer by its ID.
      * <p>
@@ -37,6 +62,18 @@ public interface BeerService {
      */
     Mono<BeerDTO> getBeerById(Integer beerId);
 
+    /**
+     * Searches beers by name and style.
+     * <p>
+     * This method retrieves a Flux stream of BeerDTO objects whose name or style terms match
+     * every term of the query, either exactly or as a prefix, ordered by relevance.
+     *
+     * @param query the free-text query
+     * @param limit the maximum number of results
+     * @return a Flux containing the matching BeerDTO objects
+     */
+    Flux<BeerDTO> searchBeers(String query, int limit);
+
     /**
      * Saves a beer.
      * <p>
@@ -75,8 +112,8 @@ public interface BeerService {
      * This method deletes the beer with the given ID.
      *
      * @param beerId the ID of the beer to delete
-     * @return a Mono<Void> indicating the completion of the operation
+     * @return a Mono containing true if a live beer was deleted, false if there was none with that ID
      */
-    Mono<Void> deleteBeer(Integer beerId);
+    Mono<Boolean> deleteBeer(Integer beerId);
 
 }
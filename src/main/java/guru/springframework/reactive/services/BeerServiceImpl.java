@@ -1,21 +1,33 @@
 package guru.springframework.reactive.services;
 
+import guru.springframework.reactive.cache.LookupCache;
+import guru.springframework.reactive.domain.OutboxEvent.EventType;
 import guru.springframework.reactive.mappers.BeerMapper;
+import guru.springframework.reactive.mappers.DirtyFields;
 import guru.springframework.reactive.model.BeerDTO;
+import guru.springframework.reactive.outbox.Outbox;
 import guru.springframework.reactive.repositories.BeerRepository;
+import guru.springframework.reactive.tracing.LayerTracing;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * Service implementation for managing beer-related operations.
  * <p>
  * This class provides the implementation of the BeerService interface,
- * handling the retrieval of beer data in a reactive manner.
+ * handling the retrieval of beer data in a reactive manner. Repository calls are bounded by the
+ * {@link RequestDeadline} of the request being served. Every write records its change in the
+ * {@link Outbox} within its transaction. Each call is observed as {@code beer.service} by the
+ * {@link LayerTracing}, so its span sits between the HTTP request and the R2DBC statements; the time
+ * it spends outside those statements is row decoding and mapping.
  * <p>
  * Created by jt, Spring Framework Guru.
  * <p>
@@ -27,6 +39,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class BeerServiceImpl implements BeerService {
 
+    private static final String LAST_MODIFIED_DATE = "lastModifiedDate";
+
+    private static final String OBSERVATION = "beer.service";
+
     /**
      * Repository for accessing beer data.
      */
@@ -37,30 +53,145 @@ public class BeerServiceImpl implements BeerService {
      */
     private final BeerMapper beerMapper;
 
+    /**
+     * Operator demarcating transactions around multi-statement operations.
+     */
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * In-memory search index kept current by the writes of this service.
+     */
+    private final BeerSearchIndex beerSearchIndex;
+
+    /**
+     * Columnar read-replica of the beer table, serving reads when enabled.
+     */
+    private final BeerCatalog beerCatalog;
+
+    /**
+     * Publisher of the {@link BeerChangedEvent} invalidating caches of beer reads.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Cache of beer lookups shared with the other instances.
+     */
+    private final LookupCache lookupCache;
+
+    /**
+     * Outbox recording each change in its own transaction.
+     */
+    private final Outbox outbox;
+
+    /**
+     * Observations of the service calls.
+     */
+    private final LayerTracing layerTracing;
+
     /**
      * Lists all beers.
      * <p>
-     * This method retrieves a Flux stream of BeerDTO objects representing all beers.
+     * This method retrieves a Flux stream of BeerDTO objects representing all beers,
+     * served from the columnar catalog when it is enabled.
      *
      * @return a Flux containing BeerDTO objects
      */
     @Override
     public Flux<BeerDTO> listBeers() {
-        return beerRepository.findAll().map(beerMapper::beerToBeerDTO);
+        return Flux.defer(() -> {
+            BeerCatalogSnapshot snapshot = beerCatalog.snapshot();
+            if (snapshot != null) {
+                return snapshot.beers();
+            }
+            return beerRepository.findAll()
+                    .transform(ReadWriteRouting::readOnlyMany)
+                    .transform(RequestDeadline::boundMany)
+                    .map(beerMapper::beerToBeerDTO);
+        }).transform(layerTracing.observeMany(OBSERVATION, "listBeers"));
+    }
+
+    /**
+     * Lists the beers of a style.
+     * <p>
+     * This method retrieves a Flux stream of BeerDTO objects representing all beers of the given style,
+     * served from the columnar catalog when it is enabled.
+     *
+     * @param beerStyle the style of the beers to list
+     * @return a Flux containing BeerDTO objects
+     */
+    @Override
+    public Flux<BeerDTO> listBeersByStyle(String beerStyle) {
+        return Flux.defer(() -> {
+            BeerCatalogSnapshot snapshot = beerCatalog.snapshot();
+            if (snapshot != null) {
+                return snapshot.beersByStyle(beerStyle);
+            }
+            return beerRepository.findAllByBeerStyle(beerStyle)
+                    .transform(ReadWriteRouting::readOnlyMany)
+                    .transform(RequestDeadline::boundMany)
+                    .map(beerMapper::beerToBeerDTO);
+        }).transform(layerTracing.observeMany(OBSERVATION, "listBeersByStyle"));
+    }
+
+    /**
+     * Lists the beers changed since a time, deleted ones included.
+     * <p>
+     * This method seeks the last_modified_date index from the given (last modified date, id)
+     * position, so every page costs the same whatever its depth. It always reads the database, as
+     * the columnar catalog holds neither deleted beers nor their order of change.
+     *
+     * @param modifiedSince the time to list changes from, inclusive on the first page
+     * @param afterId       the ID of the last beer of the previous page, or null for the first page
+     * @param size          the maximum number of beers to return
+     * @return a Flux containing BeerDTO objects
+     */
+    @Override
+    public Flux<BeerDTO> listBeersModifiedSince(LocalDateTime modifiedSince, Integer afterId, int size) {
+        return beerRepository.findChangedSince(modifiedSince, afterId == null ? 0 : afterId, size)
+                .transform(ReadWriteRouting::readOnlyMany)
+                .transform(RequestDeadline::boundMany)
+                .map(beerMapper::beerToBeerDTO)
+                .transform(layerTracing.observeMany(OBSERVATION, "listBeersModifiedSince"));
     }
 
     /**
      * Retrieves a beer by its ID.
      * <p>
-     * This method retrieves a Mono containing a BeerDTO object representing the beer with the given ID.
+     * This method retrieves a Mono containing a BeerDTO object representing the beer with the given ID,
+     * served from the columnar catalog when it is enabled, otherwise through the lookup cache. Beers missing
+     * from the catalog, such as those created on another instance since its last refresh, and reads pinned to
+     * the primary after a write go through the lookup cache as well.
      *
      * @param beerId the ID of the beer to retrieve
      * @return a Mono containing a BeerDTO object
      */
     @Override
     public Mono<BeerDTO> getBeerById(Integer beerId) {
-        return beerRepository.findById(beerId)
-                .map(beerMapper::beerToBeerDTO);
+        return Mono.deferContextual(context -> {
+            BeerCatalogSnapshot snapshot = ReadWriteRouting.isPrimaryPinned(context) ? null : beerCatalog.snapshot();
+            BeerDTO snapshotted = snapshot == null ? null : snapshot.findById(beerId);
+            if (snapshotted != null) {
+                return Mono.just(snapshotted);
+            }
+            return lookupCache.get(LookupCache.BEERS, beerId, BeerDTO.class, () -> beerRepository.findById(beerId)
+                    .transform(ReadWriteRouting::readOnly)
+                    .transform(RequestDeadline::bound)
+                    .map(beerMapper::beerToBeerDTO));
+        }).transform(layerTracing.observe(OBSERVATION, "getBeerById"));
+    }
+
+    /**
+     * Searches beers by name and style.
+     * <p>
+     * This method serves the query from the in-memory search index without hitting the database.
+     *
+     * @param query the free-text query
+     * @param limit the maximum number of results
+     * @return a Flux containing the matching BeerDTO objects
+     */
+    @Override
+    public Flux<BeerDTO> searchBeers(String query, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(beerSearchIndex.search(query, limit)));
     }
 
     /**
@@ -74,13 +205,19 @@ public class BeerServiceImpl implements BeerService {
     @Override
     public Mono<BeerDTO> saveBeer(BeerDTO beerDTO) {
         return beerRepository.save(beerMapper.beerDTOToBeer(beerDTO))
-                .map(beerMapper::beerToBeerDTO);
+                .map(beerMapper::beerToBeerDTO)
+                .flatMap(saved -> outbox.append(Outbox.BEER, saved.getId(), EventType.CREATED, saved).thenReturn(saved))
+                .as(transactionalOperator::transactional)
+                .transform(RequestDeadline::bound)
+                .doOnNext(this::onBeerChanged)
+                .transform(layerTracing.observe(OBSERVATION, "saveBeer"));
     }
 
     /**
      * Updates a beer.
      * <p>
      * This method updates the beer with the given ID using the provided BeerDTO object and returns a Mono containing the updated BeerDTO object.
+     * A beer deleted before the update is written is not found.
      *
      * @param beerId the ID of the beer to update
      * @param beerDTO the BeerDTO object with the updated data
@@ -88,22 +225,35 @@ public class BeerServiceImpl implements BeerService {
      */
     @Override
     public Mono<BeerDTO> updateBeer(Integer beerId, BeerDTO beerDTO) {
-        return beerRepository.findById(beerId).map(foundBeer -> {
-            foundBeer.setBeerName(beerDTO.getBeerName());
-            foundBeer.setBeerStyle(beerDTO.getBeerStyle());
-            foundBeer.setUpc(beerDTO.getUpc());
-            foundBeer.setQuantityOnHand(beerDTO.getQuantityOnHand());
-            foundBeer.setPrice(beerDTO.getPrice());
-
-            return foundBeer;
-        }).flatMap(beerRepository::save)
-                .map(beerMapper::beerToBeerDTO);
+        return beerRepository.findById(beerId).flatMap(foundBeer -> {
+            beerMapper.updateBeer(beerDTO, foundBeer);
+            foundBeer.setLastModifiedDate(LocalDateTime.now());
+
+            // Unlike save, the update only matches a live row, so a delete committed since the read is not undone
+            return beerRepository.patch(beerId, Update.update("beerName", foundBeer.getBeerName())
+                            .set("beerStyle", foundBeer.getBeerStyle())
+                            .set("upc", foundBeer.getUpc())
+                            .set("quantityOnHand", foundBeer.getQuantityOnHand())
+                            .set("price", foundBeer.getPrice())
+                            .set(LAST_MODIFIED_DATE, foundBeer.getLastModifiedDate()))
+                    .filter(rows -> rows > 0)
+                    .map(rows -> foundBeer);
+        }).map(beerMapper::beerToBeerDTO)
+                .flatMap(updated -> outbox.append(Outbox.BEER, beerId, EventType.UPDATED, updated).thenReturn(updated))
+                .as(transactionalOperator::transactional)
+                .transform(RequestDeadline::bound)
+                .doOnNext(this::onBeerChanged)
+                .flatMap(beer -> lookupCache.invalidate(LookupCache.BEERS, beerId).thenReturn(beer))
+                .transform(layerTracing.observe(OBSERVATION, "updateBeer"));
     }
 
     /**
      * Patches a beer.
      * <p>
-     * This method updates the beer with the given ID using the provided BeerDTO object and returns a Mono containing the updated BeerDTO object.
+     * This method applies the non-empty properties of the provided BeerDTO object to the beer with the given ID and
+     * returns a Mono containing the patched BeerDTO object. Only the columns present in the patch, plus the last
+     * modified date, are written; a patch without any property writes nothing. A beer deleted
+     * before the patch is written is not found.
      *
      * @param beerId  the ID of the beer to patch
      * @param beerDTO the BeerDTO object with the updated data
@@ -111,38 +261,68 @@ public class BeerServiceImpl implements BeerService {
      */
     @Override
     public Mono<BeerDTO> patchBeer(Integer beerId, BeerDTO beerDTO) {
-        return beerRepository.findById(beerId).map(foundBeer -> {
-            if (StringUtils.hasText(beerDTO.getBeerName())) {
-                foundBeer.setBeerName(beerDTO.getBeerName());
-            }
-            if (StringUtils.hasText(beerDTO.getBeerStyle())) {
-                foundBeer.setBeerStyle(beerDTO.getBeerStyle());
-            }
-            if (StringUtils.hasText(beerDTO.getUpc())) {
-                foundBeer.setUpc(beerDTO.getUpc());
+        return beerRepository.findById(beerId).flatMap(foundBeer -> {
+            DirtyFields dirtyFields = new DirtyFields();
+            beerMapper.patchBeer(beerDTO, foundBeer, dirtyFields);
+            if (dirtyFields.isEmpty()) {
+                return Mono.just(foundBeer);
             }
-            if (beerDTO.getQuantityOnHand() != null) {
-                    foundBeer.setQuantityOnHand(beerDTO.getQuantityOnHand());
-            }
-            if (beerDTO.getPrice() != null) {
-                foundBeer.setPrice(beerDTO.getPrice());
+
+            foundBeer.setLastModifiedDate(LocalDateTime.now());
+            Update update = Update.update(LAST_MODIFIED_DATE, foundBeer.getLastModifiedDate());
+            for (Map.Entry<String, Object> dirtyField : dirtyFields.asMap().entrySet()) {
+                update = update.set(dirtyField.getKey(), dirtyField.getValue());
             }
-            return foundBeer;
-        }).flatMap(beerRepository::save)
-                .map(beerMapper::beerToBeerDTO);
+            // A delete committed since the read leaves no live row to patch
+            return beerRepository.patch(beerId, update)
+                    .filter(rows -> rows > 0)
+                    .map(rows -> foundBeer);
+        }).map(beerMapper::beerToBeerDTO)
+                .flatMap(patched -> outbox.append(Outbox.BEER, beerId, EventType.UPDATED, patched).thenReturn(patched))
+                .as(transactionalOperator::transactional)
+                .transform(RequestDeadline::bound)
+                .doOnNext(this::onBeerChanged)
+                .flatMap(beer -> lookupCache.invalidate(LookupCache.BEERS, beerId).thenReturn(beer))
+                .transform(layerTracing.observe(OBSERVATION, "patchBeer"));
     }
 
     /**
      * Deletes a beer.
      * <p>
-     * This method deletes the beer with the given ID.
+     * This method deletes the beer with the given ID. The DELETED change event is only recorded
+     * when a live beer was deleted, not for an unknown or already deleted ID.
      *
      * @param beerId the ID of the beer to delete
-     * @return a Mono<Void> indicating the completion of the operation
+     * @return a Mono containing true if a live beer was deleted, false if there was none with that ID
      */
     @Override
-    public Mono<Void> deleteBeer(Integer beerId) {
-        return beerRepository.deleteById(beerId);
+    public Mono<Boolean> deleteBeer(Integer beerId) {
+        return beerRepository.deleteLiveById(beerId)
+                .flatMap(deleted -> deleted > 0
+                        ? outbox.append(Outbox.BEER, beerId, EventType.DELETED, null).thenReturn(true)
+                        : Mono.just(false))
+                .as(transactionalOperator::transactional)
+                .transform(RequestDeadline::bound)
+                .doOnNext(deleted -> {
+                    if (deleted) {
+                        beerSearchIndex.remove(beerId);
+                        beerCatalog.remove(beerId);
+                        eventPublisher.publishEvent(new BeerChangedEvent(beerId));
+                    }
+                })
+                .flatMap(deleted -> lookupCache.invalidate(LookupCache.BEERS, beerId).thenReturn(deleted))
+                .transform(layerTracing.observe(OBSERVATION, "deleteBeer"));
+    }
+
+    /**
+     * Propagates a committed beer write to the in-memory read structures.
+     *
+     * @param beerDTO the written beer
+     */
+    private void onBeerChanged(BeerDTO beerDTO) {
+        beerSearchIndex.upsert(beerDTO);
+        beerCatalog.apply(beerDTO);
+        eventPublisher.publishEvent(new BeerChangedEvent(beerDTO.getId()));
     }
 
 }
@@ -1,9 +1,12 @@
 package guru.springframework.reactive.services;
 
+import guru.springframework.reactive.model.CustomerBulkResultDTO;
 import guru.springframework.reactive.model.CustomerDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 /**
  * Service interface for managing customer-related operations.
  * <p>
@@ -26,6 +29,34 @@ public interface CustomerService {
      */
     Flux<CustomerDTO> listCustomers();
 
+    /**
+     * Lists one page of customers whose name starts with a prefix.
+     * <p>
+     * Customers are ordered by name, then by ID. The next page is requested with the name and ID
+     * of the last customer of the current page.
+     *
+     * @param namePrefix the name prefix to match, or null to match every named customer
+     * @param afterName  the name of the last customer of the previous page, or null for the first page
+     * @param afterId    the ID of the last customer of the previous page, or null for the first page
+     * @param size       the maximum number of customers to return
+     * @return a Flux containing CustomerDTO objects
+     */
+    Flux<CustomerDTO> listCustomers(String namePrefix, String afterName, Integer afterId, int size);
+
+    /**
+     * Lists the customers changed since a time, deleted ones included.
+     * <p>
+     * Customers are ordered by last modified date, then by ID. The next page is requested with the
+     * last modified date and ID of the last customer of the current page; deleted customers carry
+     * their {@code deletedAt}.
+     *
+     * @param modifiedSince the time to list changes from, inclusive on the first page
+     * @param afterId       the ID of the last customer of the previous page, or null for the first page
+     * @param size          the maximum number of customers to return
+     * @return a Flux containing CustomerDTO objects
+     */
+    Flux<CustomerDTO> listCustomersModifiedSince(LocalDateTime modifiedSince, Integer afterId, int size);
+
     /**
      * Retrieves a customer by its ID.
      * <p>
@@ -78,4 +109,16 @@ public interface CustomerService {
      */
     Mono<Void> deleteCustomer(Integer customerId);
 
+    /**
+     * Inserts or updates a stream of customers in batches.
+     * <p>
+     * Customers without an ID are inserted; customers with the ID of an existing customer update
+     * it. Invalid customers and unknown IDs are rejected without affecting the rest of the batch.
+     *
+     * @param customers the customers to upsert
+     * @param batchSize the number of customers written per batch
+     * @return a Flux containing one result per customer, in input order
+     */
+    Flux<CustomerBulkResultDTO> upsertCustomers(Flux<CustomerDTO> customers, int batchSize);
+
 }
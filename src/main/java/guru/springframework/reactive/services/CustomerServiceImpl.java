@@ -1,20 +1,43 @@
 package guru.springframework.reactive.services;
 
+import guru.springframework.reactive.cache.LookupCache;
+import guru.springframework.reactive.domain.Customer;
+import guru.springframework.reactive.domain.OutboxEvent;
+import guru.springframework.reactive.domain.OutboxEvent.EventType;
 import guru.springframework.reactive.mappers.CustomerMapper;
+import guru.springframework.reactive.model.CustomerBulkResultDTO;
+import guru.springframework.reactive.model.CustomerBulkResultDTO.Outcome;
 import guru.springframework.reactive.model.CustomerDTO;
+import guru.springframework.reactive.outbox.Outbox;
 import guru.springframework.reactive.repositories.CustomerRepository;
+import guru.springframework.reactive.tracing.LayerTracing;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing customer-related operations.
  * <p>
  * This class provides the implementation of the CustomerService interface,
  * handling the retrieval, saving, updating, patching, and deleting of customer data
- * in a reactive manner.
+ * in a reactive manner. Repository calls are bounded by the {@link RequestDeadline} of the
+ * request being served, except those of bulk upserts, whose duration grows with the upload.
+ * Every write records its changes in the {@link Outbox} within its transaction. Each call is
+ * observed as a {@code customer.service} span of the request.
  * <p>
  * Created by jt, Spring Framework Guru.
  * <p>
@@ -23,13 +46,20 @@ import reactor.core.publisher.Mono;
  * @see reactor.core.publisher.Flux
  * @see reactor.core.publisher.Mono
  * @author architecture - rperezv
- * @version 05/10/2024 - 11:32
+ * @version 20/10/2026 - 05:15
  * @since jdk 1.17
  */
 @Service
 @RequiredArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
 
+    /**
+     * Message of bulk records naming a customer that does not exist.
+     */
+    static final String CUSTOMER_NOT_FOUND = "Customer not found";
+
+    private static final String OBSERVATION = "customer.service";
+
     /**
      * Repository for accessing customer data.
      */
@@ -40,6 +70,31 @@ public class CustomerServiceImpl implements CustomerService {
      */
     private final CustomerMapper customerMapper;
 
+    /**
+     * Operator demarcating transactions around multi-statement operations.
+     */
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * Validator applied to each record of a bulk upsert.
+     */
+    private final Validator validator;
+
+    /**
+     * Cache of customer lookups shared with the other instances.
+     */
+    private final LookupCache lookupCache;
+
+    /**
+     * Outbox recording each change in its own transaction.
+     */
+    private final Outbox outbox;
+
+    /**
+     * Observations of the service calls.
+     */
+    private final LayerTracing layerTracing;
+
     /**
      * Lists all customers.
      * <p>
@@ -50,21 +105,73 @@ public class CustomerServiceImpl implements CustomerService {
     @Override
     public Flux<CustomerDTO> listCustomers() {
         return customerRepository.findAll()
-                .map(customerMapper::customerToCustomerDTO);
+                .transform(ReadWriteRouting::readOnlyMany)
+                .transform(RequestDeadline::boundMany)
+                .map(customerMapper::customerToCustomerDTO)
+                .transform(layerTracing.observeMany(OBSERVATION, "listCustomers"));
+    }
+
+    /**
+     * Lists one page of customers whose name starts with a prefix.
+     * <p>
+     * This method seeks the customer_name index from the given (name, id) position, so every page
+     * costs the same whatever its depth. LIKE wildcards in the prefix are matched literally.
+     *
+     * @param namePrefix the name prefix to match, or null to match every named customer
+     * @param afterName  the name of the last customer of the previous page, or null for the first page
+     * @param afterId    the ID of the last customer of the previous page, or null for the first page
+     * @param size       the maximum number of customers to return
+     * @return a Flux containing CustomerDTO objects
+     */
+    @Override
+    public Flux<CustomerDTO> listCustomers(String namePrefix, String afterName, Integer afterId, int size) {
+        String namePattern = likePrefix(namePrefix);
+        Flux<Customer> page = afterName == null || afterId == null
+                ? customerRepository.findPageByCustomerNameLike(namePattern, size)
+                : customerRepository.findPageByCustomerNameLikeAfter(namePattern, afterName, afterId, size);
+        return page.transform(ReadWriteRouting::readOnlyMany)
+                .transform(RequestDeadline::boundMany)
+                .map(customerMapper::customerToCustomerDTO)
+                .transform(layerTracing.observeMany(OBSERVATION, "listCustomersPage"));
+    }
+
+    /**
+     * Lists the customers changed since a time, deleted ones included.
+     * <p>
+     * This method seeks the last_modified_date index from the given (last modified date, id)
+     * position, so every page costs the same whatever its depth.
+     *
+     * @param modifiedSince the time to list changes from, inclusive on the first page
+     * @param afterId       the ID of the last customer of the previous page, or null for the first page
+     * @param size          the maximum number of customers to return
+     * @return a Flux containing CustomerDTO objects
+     */
+    @Override
+    public Flux<CustomerDTO> listCustomersModifiedSince(LocalDateTime modifiedSince, Integer afterId, int size) {
+        return customerRepository.findChangedSince(modifiedSince, afterId == null ? 0 : afterId, size)
+                .transform(ReadWriteRouting::readOnlyMany)
+                .transform(RequestDeadline::boundMany)
+                .map(customerMapper::customerToCustomerDTO)
+                .transform(layerTracing.observeMany(OBSERVATION, "listCustomersModifiedSince"));
     }
 
     /**
      * Retrieves a customer by its ID.
      * <p>
-     * This method retrieves a Mono containing a CustomerDTO object representing the customer with the specified ID.
+     * This method retrieves a Mono containing a CustomerDTO object representing the customer with the specified ID,
+     * served through the lookup cache.
      *
      * @param customerId the ID of the customer to retrieve
      * @return a Mono containing the CustomerDTO object
      */
     @Override
     public Mono<CustomerDTO> getCustomerById(Integer customerId) {
-        return customerRepository.findById(customerId)
-                .map(customerMapper::customerToCustomerDTO);
+        return lookupCache.get(LookupCache.CUSTOMERS, customerId, CustomerDTO.class,
+                () -> customerRepository.findById(customerId)
+                        .transform(ReadWriteRouting::readOnly)
+                        .transform(RequestDeadline::bound)
+                        .map(customerMapper::customerToCustomerDTO))
+                .transform(layerTracing.observe(OBSERVATION, "getCustomerById"));
     }
 
     /**
@@ -78,13 +185,19 @@ public class CustomerServiceImpl implements CustomerService {
     @Override
     public Mono<CustomerDTO> saveCustomer(CustomerDTO customerDTO) {
         return customerRepository.save(customerMapper.customerDTOToCustomer(customerDTO))
-                .map(customerMapper::customerToCustomerDTO);
+                .map(customerMapper::customerToCustomerDTO)
+                .flatMap(saved -> outbox.append(Outbox.CUSTOMER, saved.getId(), EventType.CREATED, saved)
+                        .thenReturn(saved))
+                .as(transactionalOperator::transactional)
+                .transform(RequestDeadline::bound)
+                .transform(layerTracing.observe(OBSERVATION, "saveCustomer"));
     }
 
     /**
      * Updates an existing customer.
      * <p>
      * This method updates an existing customer with the specified ID using the provided CustomerDTO object.
+     * A customer deleted before the update is written is not found.
      *
      * @param customerId  the ID of the customer to update
      * @param customerDTO the CustomerDTO object representing the updated customer
@@ -96,14 +209,21 @@ public class CustomerServiceImpl implements CustomerService {
             customer.setCustomerName(customerDTO.getCustomerName());
 
             return customer;
-        }).flatMap(customerRepository::save)
-                .map(customerMapper::customerToCustomerDTO);
+        }).flatMap(this::updateLive)
+                .map(customerMapper::customerToCustomerDTO)
+                .flatMap(updated -> outbox.append(Outbox.CUSTOMER, customerId, EventType.UPDATED, updated)
+                        .thenReturn(updated))
+                .as(transactionalOperator::transactional)
+                .transform(RequestDeadline::bound)
+                .flatMap(customer -> lookupCache.invalidate(LookupCache.CUSTOMERS, customerId).thenReturn(customer))
+                .transform(layerTracing.observe(OBSERVATION, "updateCustomer"));
     }
 
     /**
      * Patches an existing customer.
      * <p>
      * This method updates an existing customer with the specified ID using the provided CustomerDTO object.
+     * A customer deleted before the update is written is not found.
      *
      * @param customerId  the ID of the customer to update
      * @param customerDTO the CustomerDTO object representing the updated customer
@@ -117,22 +237,187 @@ public class CustomerServiceImpl implements CustomerService {
             }
 
             return customer;
-        }).flatMap(customerRepository::save)
-                .map(customerMapper::customerToCustomerDTO);
+        }).flatMap(this::updateLive)
+                .map(customerMapper::customerToCustomerDTO)
+                .flatMap(updated -> outbox.append(Outbox.CUSTOMER, customerId, EventType.UPDATED, updated)
+                        .thenReturn(updated))
+                .as(transactionalOperator::transactional)
+                .transform(RequestDeadline::bound)
+                .flatMap(customer -> lookupCache.invalidate(LookupCache.CUSTOMERS, customerId).thenReturn(customer))
+                .transform(layerTracing.observe(OBSERVATION, "patchCustomer"));
+    }
+
+    /**
+     * Writes a changed customer, unless it was deleted since it was read: unlike save, the update
+     * only matches a live row, so a committed delete is not undone.
+     *
+     * @return a Mono containing the customer, empty if it is no longer live
+     */
+    private Mono<Customer> updateLive(Customer customer) {
+        customer.setLastModifiedDate(LocalDateTime.now());
+        return customerRepository.updateAll(List.of(customer))
+                .next()
+                .filter(rows -> rows > 0)
+                .map(rows -> customer);
     }
 
     /**
      * Deletes a customer.
      * <p>
-     * This method deletes the customer with the specified ID.
+     * This method deletes the customer with the specified ID. The DELETED change event is only
+     * recorded when a live customer was deleted, not for an unknown or already deleted ID.
      *
      * @param customerId the ID of the customer to delete
      * @return a Mono indicating when the operation has completed
      */
     @Override
     public Mono<Void> deleteCustomer(Integer customerId) {
-        return customerRepository.findById(customerId)
-                .flatMap(customerRepository::delete);
+        return customerRepository.deleteLiveById(customerId)
+                .filter(deleted -> deleted > 0)
+                .flatMap(deleted -> outbox.append(Outbox.CUSTOMER, customerId, EventType.DELETED, null))
+                .as(transactionalOperator::transactional)
+                .transform(RequestDeadline::bound)
+                .then(lookupCache.invalidate(LookupCache.CUSTOMERS, customerId))
+                .transform(layerTracing.observe(OBSERVATION, "deleteCustomer"));
+    }
+
+    /**
+     * Inserts or updates a stream of customers in batches.
+     * <p>
+     * Records are buffered {@code batchSize} at a time, and the next batch is only requested from
+     * the upload once the current one is written, so memory is bounded by the batch size whatever
+     * the upload size. Each batch runs in one transaction: one query finds which of its IDs exist,
+     * then one multi-binding UPDATE and one multi-binding INSERT write it.
+     *
+     * @param customers the customers to upsert
+     * @param batchSize the number of customers written per batch
+     * @return a Flux containing one result per customer, in input order
+     */
+    @Override
+    public Flux<CustomerBulkResultDTO> upsertCustomers(Flux<CustomerDTO> customers, int batchSize) {
+        return customers.index()
+                .buffer(batchSize)
+                .concatMap(this::upsertBatch, 1)
+                .transform(layerTracing.observeMany(OBSERVATION, "upsertCustomers"));
+    }
+
+    private Flux<CustomerBulkResultDTO> upsertBatch(List<Tuple2<Long, CustomerDTO>> records) {
+        CustomerBulkResultDTO[] results = new CustomerBulkResultDTO[records.size()];
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            Tuple2<Long, CustomerDTO> record = records.get(i);
+            Set<ConstraintViolation<CustomerDTO>> violations = validator.validate(record.getT2());
+            if (!violations.isEmpty()) {
+                results[i] = result(record, record.getT2().getId(), Outcome.REJECTED, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            } else if (record.getT2().getId() != null) {
+                ids.add(record.getT2().getId());
+            }
+        }
+
+        Mono<Set<Integer>> existingIds = ids.isEmpty() ? Mono.just(Set.of())
+                : customerRepository.findExistingIds(ids).collect(Collectors.toSet());
+
+        return existingIds.flatMap(existing -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    List<Integer> updated = new ArrayList<>();
+                    List<Integer> inserted = new ArrayList<>();
+                    for (int i = 0; i < records.size(); i++) {
+                        Integer id = records.get(i).getT2().getId();
+                        if (results[i] != null) {
+                            continue;
+                        }
+                        if (id == null) {
+                            inserted.add(i);
+                        } else if (existing.contains(id)) {
+                            updated.add(i);
+                        } else {
+                            results[i] = result(records.get(i), id, Outcome.REJECTED, CUSTOMER_NOT_FOUND);
+                        }
+                    }
+
+                    List<Customer> updates = updated.stream()
+                            .map(i -> toCustomer(records.get(i).getT2(), now))
+                            .toList();
+                    List<Customer> inserts = inserted.stream()
+                            .map(i -> toCustomer(records.get(i).getT2(), now))
+                            .toList();
+
+                    // One transactional connection runs one statement at a time, so the INSERT waits for the UPDATE
+                    return customerRepository.updateAll(updates).collectList()
+                            .flatMap(rows -> customerRepository.insertAll(inserts).collectList()
+                                    .map(keys -> Tuples.of(rows, keys)))
+                            .flatMap(written -> {
+                                List<OutboxEvent> events = new ArrayList<>();
+                                for (int j = 0; j < updated.size(); j++) {
+                                    int i = updated.get(j);
+                                    boolean found = written.getT1().get(j) > 0;
+                                    results[i] = result(records.get(i), updates.get(j).getId(),
+                                            found ? Outcome.UPDATED : Outcome.REJECTED,
+                                            found ? null : CUSTOMER_NOT_FOUND);
+                                    if (found && outbox.isEnabled()) {
+                                        events.add(changeEvent(updates.get(j), EventType.UPDATED));
+                                    }
+                                }
+                                for (int j = 0; j < inserted.size(); j++) {
+                                    int i = inserted.get(j);
+                                    results[i] = result(records.get(i), written.getT2().get(j), Outcome.CREATED, null);
+                                    if (outbox.isEnabled()) {
+                                        inserts.get(j).setId(written.getT2().get(j));
+                                        events.add(changeEvent(inserts.get(j), EventType.CREATED));
+                                    }
+                                }
+                                return outbox.appendAll(events);
+                            });
+                })
+                .as(transactionalOperator::transactional)
+                .then(lookupCache.invalidateAll(LookupCache.CUSTOMERS, ids))
+                .thenMany(Flux.defer(() -> Flux.fromArray(results)))
+                .onErrorResume(throwable -> Flux.range(0, records.size())
+                        .map(i -> results[i] != null && results[i].getOutcome() == Outcome.REJECTED ? results[i]
+                                : result(records.get(i), records.get(i).getT2().getId(), Outcome.FAILED,
+                                throwable.getMessage())));
+    }
+
+    private OutboxEvent changeEvent(Customer customer, EventType eventType) {
+        return outbox.event(Outbox.CUSTOMER, customer.getId(), eventType, customerMapper.customerToCustomerDTO(customer));
+    }
+
+    private static Customer toCustomer(CustomerDTO customerDTO, LocalDateTime now) {
+        return Customer.builder()
+                .id(customerDTO.getId())
+                .customerName(customerDTO.getCustomerName())
+                .createdDate(now)
+                .lastModifiedDate(now)
+                .build();
+    }
+
+    private static CustomerBulkResultDTO result(Tuple2<Long, CustomerDTO> record, Integer id, Outcome outcome,
+                                               String message) {
+        return CustomerBulkResultDTO.builder()
+                .index(record.getT1())
+                .id(id)
+                .outcome(outcome)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Builds the LIKE pattern matching names starting with a prefix, escaping the LIKE wildcards
+     * and the default escape character of the prefix.
+     *
+     * @param prefix the name prefix, or null
+     * @return the LIKE pattern
+     */
+    private static String likePrefix(String prefix) {
+        if (prefix == null) {
+            return "%";
+        }
+        return prefix.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
     }
 
 }
@@ -0,0 +1,27 @@
+package guru.springframework.reactive.services;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+
+/**
+ * Signalled when a call is abandoned because the deadline of the request it serves expired.
+ *
+ * @see RequestDeadline
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 04:05
+ * @since jdk 1.17
+ */
+@ResponseStatus(value = HttpStatus.GATEWAY_TIMEOUT, reason = "Request deadline exceeded")
+public class DeadlineExceededException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public DeadlineExceededException() {
+        super("Request deadline exceeded", null, false, false);
+    }
+
+}
@@ -0,0 +1,95 @@
+package guru.springframework.reactive.services;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Database a call is routed to, decided from the Reactor {@link Context}.
+ * <p>
+ * Read-only service calls are marked with {@link #readOnly(Mono)} and {@link #readOnlyMany(Flux)}
+ * and may be served by the read replica. Everything else, and read-only calls made in a context
+ * pinned with {@link #pinPrimary(Context)}, such as the reads of a client that has just written,
+ * goes to the primary. Without a replica configured every call goes to the primary anyway.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 20:40
+ * @since jdk 1.17
+ */
+public final class ReadWriteRouting {
+
+    /**
+     * The databases a connection may be acquired from.
+     */
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    /**
+     * The Reactor context key marking read-only calls.
+     */
+    private static final String READ_ONLY_KEY = ReadWriteRouting.class.getName() + ".readOnly";
+
+    /**
+     * The Reactor context key forcing calls to the primary.
+     */
+    private static final String PRIMARY_PINNED_KEY = ReadWriteRouting.class.getName() + ".primaryPinned";
+
+    private ReadWriteRouting() {
+    }
+
+    /**
+     * Marks a single-valued call as read-only, allowing it to be served by the replica.
+     *
+     * @param call the call to mark
+     * @param <T>  the type of the call result
+     * @return the marked call
+     */
+    public static <T> Mono<T> readOnly(Mono<T> call) {
+        return call.contextWrite(context -> context.put(READ_ONLY_KEY, Boolean.TRUE));
+    }
+
+    /**
+     * Marks a multi-valued call as read-only, allowing it to be served by the replica.
+     *
+     * @param call the call to mark
+     * @param <T>  the type of the call elements
+     * @return the marked call
+     */
+    public static <T> Flux<T> readOnlyMany(Flux<T> call) {
+        return call.contextWrite(context -> context.put(READ_ONLY_KEY, Boolean.TRUE));
+    }
+
+    /**
+     * Pins every call made within a context to the primary, read-only or not.
+     *
+     * @param context the context to pin
+     * @return the pinned context
+     */
+    public static Context pinPrimary(Context context) {
+        return context.put(PRIMARY_PINNED_KEY, Boolean.TRUE);
+    }
+
+    /**
+     * Tells whether calls made within a context are pinned to the primary.
+     *
+     * @param context the subscriber context of the call
+     * @return true when the context was pinned with {@link #pinPrimary(Context)}
+     */
+    public static boolean isPrimaryPinned(ContextView context) {
+        return context.getOrDefault(PRIMARY_PINNED_KEY, Boolean.FALSE);
+    }
+
+    /**
+     * Returns the database a call made within a context is routed to.
+     *
+     * @param context the subscriber context of the call
+     * @return {@link Target#REPLICA} for read-only calls outside a pinned context, otherwise {@link Target#PRIMARY}
+     */
+    public static Target targetOf(ContextView context) {
+        boolean readOnly = context.getOrDefault(READ_ONLY_KEY, Boolean.FALSE);
+        return readOnly && !isPrimaryPinned(context) ? Target.REPLICA : Target.PRIMARY;
+    }
+
+}
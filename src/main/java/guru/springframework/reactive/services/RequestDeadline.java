@@ -0,0 +1,105 @@
+package guru.springframework.reactive.services;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+
+/**
+ * Deadline of the request being served, carried in the Reactor {@link reactor.util.context.Context}.
+ * <p>
+ * Repository calls made on behalf of a request are bounded with {@link #bound(Mono)} and
+ * {@link #boundMany(Flux)}: when the remaining budget runs out the call is cancelled, which
+ * cancels the running statement and releases its connection, and a
+ * {@link DeadlineExceededException} is signalled instead. Pipelines without a deadline in their
+ * context are left unbounded.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 15:05
+ * @since jdk 1.17
+ */
+public final class RequestDeadline {
+
+    /**
+     * The Reactor context key under which the deadline is stored.
+     */
+    public static final Class<RequestDeadline> CONTEXT_KEY = RequestDeadline.class;
+
+    /**
+     * The deadline, as a {@link System#nanoTime()} value.
+     */
+    private final long deadlineNanos;
+
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a deadline expiring after the given budget from now.
+     *
+     * @param budget the time budget
+     * @return the deadline
+     */
+    public static RequestDeadline after(Duration budget) {
+        return new RequestDeadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Returns the time left before the deadline expires.
+     *
+     * @return the remaining budget, zero or negative once expired
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * Bounds a single-valued call by the deadline found in the subscriber context.
+     *
+     * @param call the call to bound
+     * @param <T>  the type of the call result
+     * @return the bounded call
+     */
+    public static <T> Mono<T> bound(Mono<T> call) {
+        return Mono.deferContextual(context -> {
+            RequestDeadline deadline = from(context);
+            if (deadline == null) {
+                return call;
+            }
+            Duration remaining = deadline.remaining();
+            if (remaining.isNegative() || remaining.isZero()) {
+                return Mono.error(new DeadlineExceededException());
+            }
+            return call.timeout(remaining, Mono.error(DeadlineExceededException::new));
+        });
+    }
+
+    /**
+     * Bounds a multi-valued call by the deadline found in the subscriber context. The whole
+     * stream, not each element, must complete before the deadline.
+     *
+     * @param call the call to bound
+     * @param <T>  the type of the call elements
+     * @return the bounded call
+     */
+    public static <T> Flux<T> boundMany(Flux<T> call) {
+        return Flux.deferContextual(context -> {
+            RequestDeadline deadline = from(context);
+            if (deadline == null) {
+                return call;
+            }
+            Duration remaining = deadline.remaining();
+            if (remaining.isNegative() || remaining.isZero()) {
+                return Flux.error(new DeadlineExceededException());
+            }
+            return call.takeUntilOther(Mono.delay(remaining)
+                    .then(Mono.error(DeadlineExceededException::new)));
+        });
+    }
+
+    private static RequestDeadline from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+}
@@ -0,0 +1,127 @@
+package guru.springframework.reactive.services;
+
+import guru.springframework.reactive.repositories.BeerRepository;
+import guru.springframework.reactive.repositories.CustomerRepository;
+import guru.springframework.reactive.repositories.SoftDeleteRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Removes for good the beers and customers soft-deleted longer ago than the retention period.
+ * <p>
+ * Every {@code app.tombstones.compaction-interval} the compactor purges the tombstones older than
+ * {@code app.tombstones.retention}, table by table, {@code app.tombstones.batch-size} rows per
+ * statement, going on while statements remove a full batch. Short statements keep locks and undo
+ * small next to the live traffic, and ticks arriving during a compaction are dropped. Clients
+ * syncing on the last modified date must sync within the retention period to see every deletion.
+ * <p>
+ * The {@code tombstones.purged} counter is tagged with the {@code table} purged.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 01:10
+ * @since jdk 1.17
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.tombstones.compaction.enabled", havingValue = "true", matchIfMissing = true)
+public class TombstoneCompactor implements SmartLifecycle, MeterBinder {
+
+    private final Map<String, SoftDeleteRepository<?, ?>> repositories;
+
+    private final Duration compactionInterval;
+
+    private final Duration retention;
+
+    private final int batchSize;
+
+    /**
+     * Tombstones removed, by table.
+     */
+    private final Map<String, LongAdder> purged;
+
+    private volatile Disposable compacting;
+
+    public TombstoneCompactor(BeerRepository beerRepository, CustomerRepository customerRepository,
+                              @Value("${app.tombstones.compaction-interval:1h}") Duration compactionInterval,
+                              @Value("${app.tombstones.retention:7d}") Duration retention,
+                              @Value("${app.tombstones.batch-size:1000}") int batchSize) {
+        this.repositories = Map.of("beer", beerRepository, "customer", customerRepository);
+        this.compactionInterval = compactionInterval;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.purged = Map.of("beer", new LongAdder(), "customer", new LongAdder());
+    }
+
+    @Override
+    public void start() {
+        compacting = Flux.interval(compactionInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> compact(), 1)
+                .subscribe();
+        log.info("Tombstones older than {} purged every {}", retention, compactionInterval);
+    }
+
+    @Override
+    public void stop() {
+        compacting.dispose();
+        compacting = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return compacting != null;
+    }
+
+    /**
+     * Purges the tombstones older than the retention period from every table.
+     *
+     * @return a Mono containing the number of rows removed, never failing
+     */
+    public Mono<Long> compact() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+        return Flux.fromIterable(repositories.keySet())
+                .sort()
+                .concatMap(table -> purge(table, deletedBefore))
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * Purges the tombstones of one table, batch after batch.
+     */
+    private Mono<Long> purge(String table, LocalDateTime deletedBefore) {
+        SoftDeleteRepository<?, ?> repository = repositories.get(table);
+        return repository.purgeTombstones(deletedBefore, batchSize)
+                .expand(removed -> removed >= batchSize
+                        ? repository.purgeTombstones(deletedBefore, batchSize) : Mono.empty())
+                .doOnNext(removed -> purged.get(table).add(removed))
+                .reduce(0L, Long::sum)
+                .onErrorResume(throwable -> {
+                    log.warn("Unable to purge the {} tombstones, retrying in {}", table, compactionInterval,
+                            throwable);
+                    return Mono.just(0L);
+                });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        purged.forEach((table, count) -> FunctionCounter.builder("tombstones.purged", count, LongAdder::sum)
+                .description("Soft-deleted rows removed for good")
+                .tag("table", table)
+                .register(registry));
+    }
+
+}
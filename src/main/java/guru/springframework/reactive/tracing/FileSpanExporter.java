@@ -0,0 +1,101 @@
+package guru.springframework.reactive.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Stand-in span exporter appending the exported spans to a newline-delimited JSON file.
+ * <p>
+ * The exporter is called by the batch span processor on its own thread, one batch per write.
+ * Each line holds the trace, span and parent ids, the span name and kind, its start, its duration
+ * in milliseconds, its status and its attributes.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 02:57
+ * @since jdk 1.17
+ */
+@Slf4j
+public class FileSpanExporter implements SpanExporter {
+
+    private final ObjectMapper objectMapper;
+
+    private final FileChannel channel;
+
+    /**
+     * Creates an exporter appending to a file, created if missing.
+     *
+     * @param file         the file
+     * @param objectMapper the mapper encoding the lines
+     * @throws IOException if the file cannot be opened
+     */
+    public FileSpanExporter(Path file, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (SpanData span : spans) {
+                ObjectNode line = objectMapper.createObjectNode()
+                        .put("traceId", span.getTraceId())
+                        .put("spanId", span.getSpanId())
+                        .put("parentSpanId", SpanId.isValid(span.getParentSpanId()) ? span.getParentSpanId() : null)
+                        .put("name", span.getName())
+                        .put("kind", span.getKind().name())
+                        .put("start", Instant.ofEpochSecond(0, span.getStartEpochNanos()).toString())
+                        .put("durationMs", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000_000.0)
+                        .put("status", span.getStatus().getStatusCode().name());
+                ObjectNode attributes = line.putObject("attributes");
+                span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+                objectMapper.writeValue(lines, line);
+                lines.write('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException exception) {
+            log.warn("Unable to export {} spans", spans.size(), exception);
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            channel.force(false);
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException exception) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            channel.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException exception) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package guru.springframework.reactive.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.function.Function;
+
+/**
+ * Observations of the layers a request goes through below the HTTP server.
+ * <p>
+ * WebFlux observes each request and stores its observation in the Reactor context under
+ * {@link ObservationThreadLocalAccessor#KEY}. The service calls bounded with {@link #observe} and
+ * {@link #observeMany}, and the connection acquisitions and statements timed by the
+ * {@code QueryTiming}, open a child observation of the one found there and put their own in the
+ * context of what they subscribe to, so the spans nest without thread-local propagation. Work
+ * outside a request, such as the outbox relay or the tombstone compaction, has no observation in
+ * its context and is not observed, nor is anything with {@code app.tracing.enabled=false}.
+ * <p>
+ * Whether an observation becomes an exported span is decided by the sampler, so the cost of an
+ * unsampled request is that of its observations' timers.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 02:50
+ * @since jdk 1.17
+ */
+public class LayerTracing {
+
+    private final ObservationRegistry registry;
+
+    /**
+     * Creates the layer tracing.
+     *
+     * @param registry the registry observations are made in, {@link ObservationRegistry#NOOP} to disable them
+     */
+    public LayerTracing(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns whether observations are made at all.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return !registry.isNoop();
+    }
+
+    /**
+     * Returns whether a context belongs to an observed request.
+     *
+     * @param context the subscriber context
+     * @return true if the context holds an observation
+     */
+    public static boolean isObserved(ContextView context) {
+        return context.hasKey(ObservationThreadLocalAccessor.KEY);
+    }
+
+    /**
+     * Creates a child of the observation found in a subscriber context, to be started by the caller.
+     *
+     * @param name           the observation name, also the name of its timer
+     * @param contextualName the span name
+     * @param context        the subscriber context
+     * @return the observation, or null if the context holds no observation or tracing is disabled
+     */
+    public Observation child(String name, String contextualName, ContextView context) {
+        Observation parent = context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+        if (parent == null || registry.isNoop()) {
+            return null;
+        }
+        return Observation.createNotStarted(name, registry)
+                .contextualName(contextualName)
+                .parentObservation(parent);
+    }
+
+    /**
+     * Observes a single-valued call, for use with {@link Mono#transform}.
+     *
+     * @param name      the observation name, such as {@code beer.service}
+     * @param operation the operation, kept as the {@code operation} key and in the span name
+     * @param <T>       the type of the call result
+     * @return the function observing the call
+     */
+    public <T> Function<Mono<T>, Mono<T>> observe(String name, String operation) {
+        if (registry.isNoop()) {
+            return Function.identity();
+        }
+        return call -> Mono.deferContextual(context -> {
+            Observation observation = child(name, name + ' ' + operation, context);
+            if (observation == null) {
+                return call;
+            }
+            observation.lowCardinalityKeyValue("operation", operation).start();
+            return call.doOnError(observation::error)
+                    .doOnTerminate(observation::stop)
+                    .doOnCancel(observation::stop)
+                    .contextWrite(inner -> inner.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    /**
+     * Observes a multi-valued call until its last element, for use with {@link Flux#transform}.
+     *
+     * @param name      the observation name, such as {@code beer.service}
+     * @param operation the operation, kept as the {@code operation} key and in the span name
+     * @param <T>       the type of the call elements
+     * @return the function observing the call
+     */
+    public <T> Function<Flux<T>, Flux<T>> observeMany(String name, String operation) {
+        if (registry.isNoop()) {
+            return Function.identity();
+        }
+        return call -> Flux.deferContextual(context -> {
+            Observation observation = child(name, name + ' ' + operation, context);
+            if (observation == null) {
+                return call;
+            }
+            observation.lowCardinalityKeyValue("operation", operation).start();
+            return call.doOnError(observation::error)
+                    .doOnTerminate(observation::stop)
+                    .doOnCancel(observation::stop)
+                    .contextWrite(inner -> inner.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+}
@@ -0,0 +1,260 @@
+package guru.springframework.reactive.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Open-addressing hash map keyed by primitive {@code int}, safe for concurrent readers.
+ * <p>
+ * Keys are stored unboxed in an {@code int[]} and values in a parallel array probed linearly,
+ * so an entry costs two array slots instead of a boxed key plus a node object. Writes are
+ * serialized on the map; reads are lock free and never block writers.
+ * <p>
+ * Once a slot is claimed by a key it keeps that key for the lifetime of the table: removal
+ * leaves a tombstone that only the same key can reuse, and tombstones are dropped when the
+ * table is rehashed into a new array, published through a volatile reference. This keeps a
+ * reader from ever pairing a key with a value written for another key. Iteration is weakly
+ * consistent, as with {@link java.util.concurrent.ConcurrentHashMap}.
+ *
+ * @param <V> the type of mapped values
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 11:20
+ * @since jdk 1.17
+ */
+public final class ConcurrentIntObjectMap<V> {
+
+    private static final Object TOMBSTONE = new Object();
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    /**
+     * The table serving reads; replaced as a whole when the map is rehashed.
+     */
+    private volatile Table table;
+
+    /**
+     * The number of live entries, maintained by writers.
+     */
+    private volatile int size;
+
+    public ConcurrentIntObjectMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates a map sized to hold the expected number of entries without rehashing.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public ConcurrentIntObjectMap(int expectedSize) {
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the value mapped to a key.
+     *
+     * @param key the key
+     * @return the mapped value, or null if the key is not mapped
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        Table current = table;
+        int index = current.indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object value = current.values.get(index);
+        return value == TOMBSTONE ? null : (V) value;
+    }
+
+    /**
+     * Returns whether a key is mapped.
+     *
+     * @param key the key
+     * @return true if the key is mapped
+     */
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps a key to a value.
+     *
+     * @param key   the key
+     * @param value the value, not null
+     * @return the previously mapped value, or null if the key was not mapped
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+        Table current = table;
+        int index = current.indexOf(key);
+        if (index < 0) {
+            if (current.used + 1 > current.threshold) {
+                current = rehash(current, size + 1);
+            }
+            index = current.claim(key);
+        }
+        Object previous = current.values.get(index);
+        current.values.set(index, value);
+        if (previous == null || previous == TOMBSTONE) {
+            size++;
+            return null;
+        }
+        return (V) previous;
+    }
+
+    /**
+     * Removes the mapping of a key.
+     *
+     * @param key the key
+     * @return the previously mapped value, or null if the key was not mapped
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(int key) {
+        Table current = table;
+        int index = current.indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object previous = current.values.get(index);
+        if (previous == TOMBSTONE) {
+            return null;
+        }
+        current.values.set(index, TOMBSTONE);
+        size--;
+        return (V) previous;
+    }
+
+    /**
+     * Removes every mapping.
+     */
+    public synchronized void clear() {
+        table = new Table(MIN_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of mapped keys.
+     *
+     * @return the number of mapped keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the map is empty.
+     *
+     * @return true if no key is mapped
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Performs an action for each mapping, without boxing the keys.
+     *
+     * @param action the action to perform
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjectConsumer<? super V> action) {
+        Table current = table;
+        for (int index = 0; index < current.keys.length; index++) {
+            Object value = current.values.get(index);
+            if (value != null && value != TOMBSTONE) {
+                action.accept(current.keys[index], (V) value);
+            }
+        }
+    }
+
+    private Table rehash(Table current, int minimumSize) {
+        Table rehashed = new Table(capacityFor(Math.max(minimumSize, size * 2)));
+        for (int index = 0; index < current.keys.length; index++) {
+            Object value = current.values.get(index);
+            if (value != null && value != TOMBSTONE) {
+                rehashed.values.set(rehashed.claim(current.keys[index]), value);
+            }
+        }
+        table = rehashed;
+        return rehashed;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Spreads the key bits so sequential ids do not cluster.
+     */
+    private static int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Consumer of a primitive int key and an object value.
+     *
+     * @param <V> the type of the value
+     */
+    @FunctionalInterface
+    public interface IntObjectConsumer<V> {
+
+        /**
+         * Performs this operation on a mapping.
+         *
+         * @param key   the key
+         * @param value the value
+         */
+        void accept(int key, V value);
+    }
+
+    /**
+     * Arrays backing the map. A slot is free while its value is null; the key is written
+     * before the value is published, and never changes afterwards.
+     */
+    private static final class Table {
+
+        private final int[] keys;
+        private final AtomicReferenceArray<Object> values;
+        private final int mask;
+        private final int threshold;
+        private int used;
+
+        private Table(int capacity) {
+            this.keys = new int[capacity];
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        private int indexOf(int key) {
+            int index = hash(key) & mask;
+            while (true) {
+                if (values.get(index) == null) {
+                    return -1;
+                }
+                if (keys[index] == key) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private int claim(int key) {
+            int index = hash(key) & mask;
+            while (values.get(index) != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            used++;
+            return index;
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+package guru.springframework.reactive.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * <p>
+ * Each slot carries a sequence number telling whose turn it is: a producer claims the next
+ * position with one compare-and-set on the tail, stores its element and publishes it by advancing
+ * the slot sequence; the consumer takes the element once the sequence says it is published and
+ * hands the slot back to the producers of the next lap. Producers never wait for the consumer:
+ * when the buffer is full {@link #offer} returns false at once, leaving the caller to drop the
+ * element.
+ * <p>
+ * {@link #poll} and {@link #drain} must only be called from one thread at a time.
+ *
+ * @param <E> the type of elements
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 01:40
+ * @since jdk 1.17
+ */
+public final class MpscRingBuffer<E> {
+
+    private final Object[] elements;
+
+    /**
+     * Per slot, the position a producer may fill when equal to it, or the position the consumer may
+     * take when one past it.
+     */
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    /**
+     * The next position producers claim.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next position the consumer takes, only written by the consumer.
+     */
+    private volatile long head;
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param capacity the minimum number of elements held, rounded up to a power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int slot = 0; slot < size; slot++) {
+            sequences.set(slot, slot);
+        }
+    }
+
+    /**
+     * Adds an element, without ever blocking.
+     *
+     * @param element the element, not null
+     * @return true if the element was added, false if the buffer is full
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long turn = sequences.get(slot) - position;
+            if (turn == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[slot] = element;
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (turn < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest published element.
+     *
+     * @return the element, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = head;
+        int slot = (int) position & mask;
+        if (sequences.get(slot) != position + 1) {
+            return null;
+        }
+        E element = (E) elements[slot];
+        elements[slot] = null;
+        sequences.set(slot, position + elements.length);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Takes the published elements, oldest first.
+     *
+     * @param consumer receives each element
+     * @param limit    the maximum number of elements taken
+     * @return the number of elements taken
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Returns the number of elements the buffer holds.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the number of elements claimed and not yet taken, which may be momentarily stale.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(elements.length, tail.get() - head));
+    }
+
+}
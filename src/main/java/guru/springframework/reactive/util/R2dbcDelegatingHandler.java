@@ -0,0 +1,105 @@
+package guru.springframework.reactive.util;
+
+import io.r2dbc.spi.Wrapped;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Base of the dynamic proxies wrapping R2DBC driver objects, such as connection factories,
+ * connections, statements and results.
+ * <p>
+ * A proxy implements every interface of its target plus {@link Wrapped}: {@code unwrap()} returns
+ * the target, and {@code unwrap(Class)} keeps the default behaviour of the SPI: the proxy if it is
+ * an instance of the class, else what a wrapped target unwraps to, else null. {@code equals} and
+ * {@code hashCode} are those of the proxy, and methods returning the target itself, such as the
+ * fluent {@code bind} of a statement, return the proxy. Subclasses handle every other call.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 04:20
+ * @since jdk 1.17
+ */
+public abstract class R2dbcDelegatingHandler implements InvocationHandler {
+
+    /**
+     * The driver object wrapped.
+     */
+    protected final Object target;
+
+    protected R2dbcDelegatingHandler(Object target) {
+        this.target = target;
+    }
+
+    /**
+     * Creates the proxy of the target delegating to this handler.
+     *
+     * @return the proxy
+     */
+    public Object newProxy() {
+        Set<Class<?>> interfaces = new LinkedHashSet<>(ClassUtils.getAllInterfacesAsSet(target));
+        interfaces.add(Wrapped.class);
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces.toArray(Class<?>[]::new), this);
+    }
+
+    @Override
+    public final Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Wrapped.class) {
+            return method.getParameterCount() == 0 ? target : InvocationHandler.invokeDefault(proxy, method, args);
+        }
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> method.invoke(target, args);
+            };
+        }
+        Object result = handle(proxy, method, args);
+        return result == target ? proxy : result;
+    }
+
+    /**
+     * Handles a call of a driver method.
+     *
+     * @param proxy  the proxy called
+     * @param method the driver method
+     * @param args   the arguments of the call
+     * @return the result of the call
+     * @throws Throwable whatever the driver throws
+     */
+    protected abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+    /**
+     * Calls the driver method on the target, rethrowing what it throws as is.
+     *
+     * @param method the driver method
+     * @param args   the arguments of the call
+     * @return the result of the driver method
+     * @throws Throwable whatever the driver throws
+     */
+    protected final Object delegate(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getTargetException();
+        }
+    }
+
+    /**
+     * Adapts a publisher replacing the one a driver method returned to the declared return type.
+     *
+     * @param method    the driver method
+     * @param publisher the replacing publisher
+     * @return a Mono if the method returns one, the publisher otherwise
+     */
+    protected static Object asReturned(Method method, Flux<?> publisher) {
+        return Mono.class.isAssignableFrom(method.getReturnType()) ? publisher.singleOrEmpty() : publisher;
+    }
+
+}
@@ -0,0 +1,165 @@
+package guru.springframework.reactive.web;
+
+import guru.springframework.reactive.logging.AccessLogEntry;
+import guru.springframework.reactive.logging.AsyncJsonLog;
+import guru.springframework.reactive.logging.DatabaseTime;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.HttpHandlerDecoratorFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Structured access log of every HTTP request.
+ * <p>
+ * As an {@link HttpHandlerDecoratorFactory} it wraps the whole HTTP handler, error handling
+ * included, so each entry holds the final status, the latency until the response is complete and
+ * the response body bytes. It also writes a {@link DatabaseTime} to the Reactor context, which the
+ * {@code QueryTiming} of the connection factories feeds with the statements of the request. As a
+ * {@link WebFilter} it notes the exchange, whose matched route pattern is read once the response
+ * is complete. Entries are handed to the {@code access} {@link AsyncJsonLog}, so logging never
+ * blocks the event loop; with {@code app.access-log.enabled=false} none of this is installed.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 02:35
+ * @since jdk 1.17
+ */
+@Component
+@ConditionalOnProperty(name = "app.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogFilter implements WebFilter, HttpHandlerDecoratorFactory, MeterBinder, DisposableBean {
+
+    /**
+     * Status logged when the client went away before the response was complete.
+     */
+    static final int CLIENT_CLOSED_REQUEST = 499;
+
+    private final AsyncJsonLog accessLog;
+
+    private final int maxQueryLength;
+
+    public AccessLogFilter(@Value("${app.access-log.buffer-capacity:8192}") int capacity,
+                           @Value("${app.slow-query-log.max-query-length:1000}") int maxQueryLength) {
+        this.accessLog = new AsyncJsonLog("access", capacity);
+        this.maxQueryLength = maxQueryLength;
+    }
+
+    @Override
+    public HttpHandler apply(HttpHandler handler) {
+        return (request, response) -> {
+            long start = System.nanoTime();
+            LoggedRequest logged = new LoggedRequest(request.getMethod().name() + ' ' + request.getPath().value());
+            return handler.handle(request, new CountingResponse(response, logged.bytes))
+                    .doFinally(signal -> log(logged, request, response, start, signal))
+                    .contextWrite(context -> context.put(LoggedRequest.class, logged)
+                            .put(DatabaseTime.CONTEXT_KEY, logged.databaseTime));
+        };
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return Mono.deferContextual(context -> {
+            LoggedRequest logged = context.getOrDefault(LoggedRequest.class, null);
+            if (logged != null) {
+                logged.exchange = exchange;
+            }
+            return chain.filter(exchange);
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        accessLog.bindTo(registry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        accessLog.destroy();
+    }
+
+    private void log(LoggedRequest logged, ServerHttpRequest request, ServerHttpResponse response, long start,
+                     SignalType signal) {
+        long latency = System.nanoTime() - start;
+        HttpStatusCode status = response.getStatusCode();
+        DatabaseTime databaseTime = logged.databaseTime;
+        accessLog.append(new AccessLogEntry(Instant.now().minusNanos(latency), request.getMethod().name(),
+                routeOf(logged.exchange), request.getPath().value(),
+                signal == SignalType.CANCEL ? CLIENT_CLOSED_REQUEST : status == null ? 200 : status.value(),
+                latency / 1_000_000.0, logged.bytes.get(), databaseTime.nanos() / 1_000_000.0,
+                databaseTime.statements(), AsyncJsonLog.cut(databaseTime.slowestQuery(), maxQueryLength)));
+    }
+
+    private static String routeOf(ServerWebExchange exchange) {
+        if (exchange == null) {
+            return null;
+        }
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? null : pattern.toString();
+    }
+
+    /**
+     * What the access log gathers about a request while it is served.
+     */
+    private static final class LoggedRequest {
+
+        private final DatabaseTime databaseTime;
+
+        private final AtomicLong bytes = new AtomicLong();
+
+        private volatile ServerWebExchange exchange;
+
+        private LoggedRequest(String request) {
+            this.databaseTime = new DatabaseTime(request);
+        }
+    }
+
+    /**
+     * Counts the response body bytes, keeping single-buffer bodies as a Mono so they are still
+     * written with a content length.
+     */
+    private static final class CountingResponse extends ServerHttpResponseDecorator {
+
+        private final AtomicLong bytes;
+
+        private CountingResponse(ServerHttpResponse delegate, AtomicLong bytes) {
+            super(delegate);
+            this.bytes = bytes;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(count(body));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(this::count));
+        }
+
+        private Publisher<? extends DataBuffer> count(Publisher<? extends DataBuffer> body) {
+            if (body instanceof Mono<? extends DataBuffer> mono) {
+                return mono.doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()));
+            }
+            return Flux.from(body).doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()));
+        }
+    }
+
+}
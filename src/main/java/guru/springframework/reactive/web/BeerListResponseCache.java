@@ -0,0 +1,264 @@
+package guru.springframework.reactive.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.reactive.cache.CacheInvalidatedEvent;
+import guru.springframework.reactive.cache.LookupCache;
+import guru.springframework.reactive.services.BeerChangedEvent;
+import guru.springframework.reactive.services.BeerService;
+import guru.springframework.reactive.services.ReadWriteRouting;
+import guru.springframework.reactive.services.RequestDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the beer list responses, held already encoded as JSON.
+ * <p>
+ * Each distinct list query, every beer or the beers of one style, maps to the encoded body of its
+ * response and an ETag derived from it, so repeated identical queries skip both the database and
+ * JSON encoding, and clients revalidating with {@code If-None-Match} get a 304 without a body.
+ * <p>
+ * Every {@link BeerChangedEvent}, and every beer invalidation broadcast by the lookup cache on
+ * behalf of any instance, advances a generation counter; an entry built at an older
+ * generation is rebuilt on its next use. Rebuilds are single-flight: concurrent requests for the
+ * same query share one database read and encoding, detached from any one request so a client
+ * that gives up does not abort it. A request only joins a rebuild started at the current
+ * generation, never one that may have read the beers before the latest change. With
+ * {@code app.beer-list-cache.max-staleness} above zero an outdated entry younger than that keeps
+ * being served while it is rebuilt in the background.
+ * <p>
+ * At most {@code app.beer-list-cache.max-entries} queries are cached, the oldest entry making room
+ * for a new one, and lists longer than {@code app.beer-list-cache.max-list-size} beers are not
+ * cached at all. For those, and with {@code app.beer-list-cache.enabled=false}, {@link #get}
+ * completes empty and the caller streams the list from the service instead.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 03:35
+ * @since jdk 1.17
+ */
+@Slf4j
+@Component
+public class BeerListResponseCache {
+
+    /**
+     * Cache key of the query listing every beer.
+     */
+    private static final String ALL_BEERS = "";
+
+    /**
+     * Service the lists are read from.
+     */
+    private final BeerService beerService;
+
+    /**
+     * Mapper encoding the lists, configured like the one encoding WebFlux responses.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Whether responses are cached.
+     */
+    private final boolean enabled;
+
+    /**
+     * How long an outdated entry may still be served while it is rebuilt.
+     */
+    private final long maxStalenessNanos;
+
+    /**
+     * The maximum number of cached queries.
+     */
+    private final int maxEntries;
+
+    /**
+     * The maximum number of beers of a cached list.
+     */
+    private final int maxListSize;
+
+    /**
+     * Incremented whenever a beer may have changed.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Encoded responses by query.
+     */
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Rebuilds in flight by query.
+     */
+    private final Map<String, Rebuild> rebuilds = new ConcurrentHashMap<>();
+
+    public BeerListResponseCache(BeerService beerService, ObjectMapper objectMapper,
+                                 @Value("${app.beer-list-cache.enabled:true}") boolean enabled,
+                                 @Value("${app.beer-list-cache.max-staleness:0s}") Duration maxStaleness,
+                                 @Value("${app.beer-list-cache.max-entries:64}") int maxEntries,
+                                 @Value("${app.beer-list-cache.max-list-size:1000}") int maxListSize) {
+        this.beerService = beerService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.maxEntries = maxEntries;
+        this.maxListSize = maxListSize;
+    }
+
+    /**
+     * Returns the encoded response listing the beers of a style, or every beer.
+     *
+     * @param beerStyle the style to list, or null to list every beer
+     * @return a Mono emitting the encoded response, or completing empty if the list is not cached
+     */
+    public Mono<CachedResponse> get(String beerStyle) {
+        String key = beerStyle == null ? ALL_BEERS : beerStyle;
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            CachedResponse cached = entries.get(key);
+            if (cached != null && cached.generation == generation.get()) {
+                return Mono.justOrEmpty(cached.cacheable() ? cached : null);
+            }
+            CompletableFuture<CachedResponse> rebuild = rebuild(key);
+            if (cached != null && cached.cacheable() && System.nanoTime() - cached.builtAt <= maxStalenessNanos) {
+                return Mono.just(cached);
+            }
+            return RequestDeadline.bound(Mono.fromFuture(rebuild, true)).filter(CachedResponse::cacheable);
+        });
+    }
+
+    /**
+     * Outdates every cached response.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Outdates every cached response when a beer changes.
+     *
+     * @param event the change event
+     */
+    @EventListener
+    public void onBeerChanged(BeerChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Outdates every cached response when any instance invalidates a cached beer.
+     *
+     * @param event the invalidation event
+     */
+    @EventListener(condition = "#event.cache() == '" + LookupCache.BEERS + "'")
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Starts rebuilding the response of a query, unless a rebuild started at the current generation
+     * is already in flight. An older rebuild is superseded rather than joined, as it may have read
+     * the beers before the change that advanced the generation.
+     */
+    private CompletableFuture<CachedResponse> rebuild(String key) {
+        long buildGeneration = generation.get();
+        Rebuild created = new Rebuild(buildGeneration, new CompletableFuture<>());
+        while (true) {
+            Rebuild running = rebuilds.get(key);
+            if (running != null && running.generation() >= buildGeneration) {
+                return running.result();
+            }
+            if (running == null ? rebuilds.putIfAbsent(key, created) == null
+                    : rebuilds.replace(key, running, created)) {
+                break;
+            }
+        }
+
+        build(key, buildGeneration).toFuture().whenComplete((response, throwable) -> {
+            rebuilds.remove(key, created);
+            if (throwable != null) {
+                log.warn("Unable to rebuild the beer list response for '{}'", key, throwable);
+                created.result().completeExceptionally(throwable);
+                return;
+            }
+            store(key, response);
+            created.result().complete(response);
+        });
+        return created.result();
+    }
+
+    /**
+     * Stores a built response unless a newer one is cached, evicting the oldest entry when full.
+     */
+    private void store(String key, CachedResponse response) {
+        if (!entries.containsKey(key) && entries.size() >= maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().builtAt))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+        entries.merge(key, response, (previous, built) -> built.generation >= previous.generation ? built : previous);
+    }
+
+    /**
+     * Reads and encodes the response of a query, tagging it with the generation it reflects. Reads
+     * from the primary, as a lagging replica would cache a body older than its generation. Reads at
+     * most one beer more than a cached list may hold, and a longer list yields a response without
+     * body, remembering for this generation that the query is streamed instead.
+     */
+    private Mono<CachedResponse> build(String key, long buildGeneration) {
+        Flux<?> beers = key.equals(ALL_BEERS) ? beerService.listBeers() : beerService.listBeersByStyle(key);
+        Mono<? extends List<?>> read = beers.take(maxListSize + 1L).collectList();
+        return read.contextWrite(ReadWriteRouting::pinPrimary).handle((list, sink) -> {
+            if (list.size() > maxListSize) {
+                sink.next(new CachedResponse(null, null, buildGeneration, System.nanoTime()));
+                return;
+            }
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(list);
+                sink.next(new CachedResponse(body, '"' + DigestUtils.md5DigestAsHex(body) + '"',
+                        buildGeneration, System.nanoTime()));
+            } catch (JsonProcessingException exception) {
+                sink.error(exception);
+            }
+        });
+    }
+
+    /**
+     * An encoded list response.
+     *
+     * @param body       the JSON body, null if the list is too long to be cached
+     * @param eTag       the strong ETag of the body
+     * @param generation the generation the body reflects
+     * @param builtAt    when the body was built, as a {@link System#nanoTime()} value
+     */
+    public record CachedResponse(byte[] body, String eTag, long generation, long builtAt) {
+
+        /**
+         * Returns whether the response holds a body to serve.
+         *
+         * @return false if the list is too long to be cached
+         */
+        public boolean cacheable() {
+            return body != null;
+        }
+    }
+
+    /**
+     * A rebuild in flight and the generation it started at.
+     */
+    private record Rebuild(long generation, CompletableFuture<CachedResponse> result) {
+    }
+
+}
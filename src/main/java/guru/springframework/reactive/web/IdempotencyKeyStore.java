@@ -0,0 +1,193 @@
+package guru.springframework.reactive.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-evicting store of idempotency keys for non-idempotent requests.
+ * <p>
+ * The first request carrying a given {@value #IDEMPOTENCY_KEY_HEADER} header runs the operation;
+ * retries with the same key, including concurrent ones still in flight, receive the outcome of
+ * that first execution without running it again. The operation is detached from the caller, so
+ * a client that times out does not abort the write its retry will be answered with. Each key is
+ * bound to a SHA-256 hash of the request it was first used with: reusing it for a different
+ * request is a client error, answered with 422 Unprocessable Entity rather than with the outcome
+ * of an unrelated request.
+ * <p>
+ * Keys expire {@code app.idempotency.ttl} after their first use and at most
+ * {@code app.idempotency.max-keys} are retained, the oldest being evicted first. Failed
+ * executions are forgotten immediately so a retry can run the operation again.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 03:10
+ * @since jdk 1.17
+ */
+@Component
+public class IdempotencyKeyStore {
+
+    /**
+     * The request header carrying the client-chosen idempotency key.
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    static final String KEY_REUSED = "Idempotency-Key already used with a different request";
+
+    /**
+     * How long a key is remembered after its first use.
+     */
+    private final Duration ttl;
+
+    /**
+     * The maximum number of keys remembered.
+     */
+    private final int maxKeys;
+
+    /**
+     * Outcomes by scoped key.
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Entries in insertion order, which is also expiration order as the TTL is uniform.
+     */
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Encodes the requests before hashing them.
+     */
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyKeyStore(@Value("${app.idempotency.ttl:10m}") Duration ttl,
+                               @Value("${app.idempotency.max-keys:100000}") int maxKeys,
+                               ObjectMapper objectMapper) {
+        this.ttl = ttl;
+        this.maxKeys = maxKeys;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Executes an operation at most once per idempotency key.
+     *
+     * @param scope          the scope of the key, typically the request route
+     * @param idempotencyKey the client-chosen key, or null to execute the operation unconditionally
+     * @param request        the request body the key is bound to
+     * @param operation      supplies the operation to execute
+     * @param <T>            the type of the operation result
+     * @return a Mono emitting the outcome of the first execution for this key, or failing with a
+     * 422 {@link ResponseStatusException} if the key was first used with a different request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String scope, String idempotencyKey, Object request, Supplier<Mono<T>> operation) {
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return operation.get();
+        }
+        return Mono.deferContextual(context -> {
+            String scopedKey = scope + ':' + idempotencyKey;
+            byte[] requestHash = hash(request);
+            Entry entry = lookup(scopedKey, requestHash, () -> operation.get().contextWrite(context).toFuture());
+            if (!MessageDigest.isEqual(entry.requestHash, requestHash)) {
+                return Mono.error(new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, KEY_REUSED));
+            }
+            return Mono.fromFuture((CompletableFuture<T>) entry.result, true);
+        });
+    }
+
+    /**
+     * Returns the number of keys currently remembered.
+     *
+     * @return the number of keys
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private byte[] hash(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException | NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("Unable to hash the request", exception);
+        }
+    }
+
+    private Entry lookup(String scopedKey, byte[] requestHash, Supplier<CompletableFuture<?>> execution) {
+        long now = System.nanoTime();
+        Entry existing = entries.get(scopedKey);
+        if (existing != null && !existing.isExpired(now)) {
+            return existing;
+        }
+
+        evict(now);
+        Entry created = new Entry(scopedKey, requestHash, now + ttl.toNanos());
+        Entry winner = existing == null
+                ? entries.putIfAbsent(scopedKey, created)
+                : (entries.replace(scopedKey, existing, created) ? null : entries.get(scopedKey));
+        if (winner != null) {
+            return winner;
+        }
+
+        insertionOrder.add(created);
+        execution.get().whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                entries.remove(scopedKey, created);
+                created.result.completeExceptionally(throwable);
+            } else {
+                created.result.complete(result);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Drops expired keys, then the oldest keys while the store is over capacity.
+     */
+    private void evict(long now) {
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null) {
+            boolean current = entries.get(oldest.key) == oldest;
+            if (current && !oldest.isExpired(now) && entries.size() < maxKeys) {
+                return;
+            }
+            if (insertionOrder.remove(oldest) && current) {
+                entries.remove(oldest.key, oldest);
+            }
+        }
+    }
+
+    /**
+     * The outcome of the first execution for a key.
+     */
+    private static final class Entry {
+
+        private final String key;
+        private final byte[] requestHash;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final long expiresAt;
+
+        private Entry(String key, byte[] requestHash, long expiresAt) {
+            this.key = key;
+            this.requestHash = requestHash;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+}
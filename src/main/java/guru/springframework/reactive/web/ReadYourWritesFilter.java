@@ -0,0 +1,89 @@
+package guru.springframework.reactive.web;
+
+import guru.springframework.reactive.services.ReadWriteRouting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Web filter giving clients read-your-writes consistency while reads go to the replica.
+ * <p>
+ * Successful mutations set the {@value #LAST_WRITE_COOKIE} cookie to the time they completed, for
+ * {@code app.r2dbc.replica.read-your-writes-window}. Requests carrying it within that window are
+ * pinned to the primary with {@link ReadWriteRouting#pinPrimary}, so a client reads its own writes
+ * however far the replica lags behind, as long as the lag is shorter than the window. The cookie
+ * holds no server-side state, so the window spans every instance of the application.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 04:00
+ * @since jdk 1.17
+ */
+@Component
+@ConditionalOnProperty(name = "app.r2dbc.replica.enabled", havingValue = "true")
+public class ReadYourWritesFilter implements WebFilter {
+
+    /**
+     * The cookie holding the time of the client's last write, in epoch milliseconds.
+     */
+    public static final String LAST_WRITE_COOKIE = "last-write";
+
+    private static final Set<HttpMethod> SAFE_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    /**
+     * How long after a write the client's reads go to the primary.
+     */
+    private final Duration window;
+
+    public ReadYourWritesFilter(@Value("${app.r2dbc.replica.read-your-writes-window:5s}") Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!SAFE_METHODS.contains(exchange.getRequest().getMethod())) {
+            ServerHttpResponse response = exchange.getResponse();
+            response.beforeCommit(() -> {
+                HttpStatusCode status = response.getStatusCode();
+                if (status == null || !status.isError()) {
+                    response.addCookie(ResponseCookie.from(LAST_WRITE_COOKIE, String.valueOf(System.currentTimeMillis()))
+                            .path("/")
+                            .maxAge(window)
+                            .httpOnly(true)
+                            .build());
+                }
+                return Mono.empty();
+            });
+        }
+        if (!wroteRecently(exchange)) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).contextWrite(ReadWriteRouting::pinPrimary);
+    }
+
+    private boolean wroteRecently(ServerWebExchange exchange) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(LAST_WRITE_COOKIE);
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            // A time in the future, from a skewed or forged cookie, would pin the client forever
+            long age = System.currentTimeMillis() - Long.parseLong(cookie.getValue());
+            return age >= 0 && age < window.toMillis();
+        } catch (NumberFormatException exception) {
+            return false;
+        }
+    }
+
+}
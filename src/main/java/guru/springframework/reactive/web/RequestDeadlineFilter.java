@@ -0,0 +1,82 @@
+package guru.springframework.reactive.web;
+
+import guru.springframework.reactive.services.RequestDeadline;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Web filter establishing the deadline of each request.
+ * <p>
+ * Callers propagate their own remaining budget, in milliseconds, with the
+ * {@value #REQUEST_TIMEOUT_HEADER} header; requests without it get
+ * {@code app.deadline.default-timeout}. Budgets are capped at {@code app.deadline.max-timeout}.
+ * A header that is not a positive number of milliseconds is a client error, answered with 400
+ * Bad Request rather than with a deadline that has already expired. The resulting
+ * {@link RequestDeadline} is written to the Reactor context for the services to bound their
+ * repository calls with.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 04:05
+ * @since jdk 1.17
+ */
+@Component
+public class RequestDeadlineFilter implements WebFilter {
+
+    /**
+     * The request header carrying the caller's remaining budget in milliseconds.
+     */
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+    /**
+     * Budget of requests that do not carry their own.
+     */
+    private final Duration defaultTimeout;
+
+    /**
+     * Upper bound of any budget.
+     */
+    private final Duration maxTimeout;
+
+    public RequestDeadlineFilter(@Value("${app.deadline.default-timeout:10s}") Duration defaultTimeout,
+                                 @Value("${app.deadline.max-timeout:30s}") Duration maxTimeout) {
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(REQUEST_TIMEOUT_HEADER);
+        Duration budget = defaultTimeout;
+        if (header != null) {
+            long millis = millisOf(header);
+            if (millis <= 0) {
+                return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Invalid " + REQUEST_TIMEOUT_HEADER + " header: " + header));
+            }
+            budget = Duration.ofMillis(millis);
+        }
+        RequestDeadline deadline = RequestDeadline.after(budget.compareTo(maxTimeout) > 0 ? maxTimeout : budget);
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, deadline));
+    }
+
+    /**
+     * Parses a budget header, returning 0 when it is not a number.
+     */
+    private static long millisOf(String header) {
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException exception) {
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package guru.springframework.reactive.web;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports how long the application took to become ready and to serve its first request, both
+ * measured from JVM start, together with the memory in use at each point.
+ * <p>
+ * These are the numbers that decide how fast a freshly scheduled instance adds capacity, and the
+ * ones to compare when starting with the AOT, CDS, lazy-initialization or native builds described
+ * in the README. Memory is reported as used heap, committed non-heap and, on Linux, the resident
+ * set size of the process. Reading the latter is file I/O, so for the first request it is done on
+ * the bounded-elastic scheduler rather than on the event loop that served the request.
+ *
+ * @author architecture - rperezv
+ * @version 20/10/2026 - 03:25
+ * @since jdk 1.17
+ */
+@Slf4j
+@Component
+public class StartupReporter implements WebFilter {
+
+    private static final long MEGABYTE = 1024 * 1024;
+    private static final Path PROC_STATUS = Path.of("/proc/self/status");
+
+    /**
+     * Set once the first request has been reported.
+     */
+    private final AtomicBoolean firstRequestReported = new AtomicBoolean();
+
+    /**
+     * Reports the startup time once the application is ready to serve requests.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        log.info("Application ready {} ms after JVM start, {}", uptimeMillis(), memoryUsage());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (firstRequestReported.get()) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+                .doFinally(signalType -> {
+                    if (firstRequestReported.compareAndSet(false, true)) {
+                        long uptimeMillis = uptimeMillis();
+                        String jvmMemoryUsage = jvmMemoryUsage();
+                        Schedulers.boundedElastic().schedule(() -> log.info("First request served {} ms after JVM "
+                                + "start, {}", uptimeMillis, withResidentSet(jvmMemoryUsage)));
+                    }
+                });
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+
+    private static String memoryUsage() {
+        return withResidentSet(jvmMemoryUsage());
+    }
+
+    private static String jvmMemoryUsage() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        return "heap used " + memory.getHeapMemoryUsage().getUsed() / MEGABYTE + " MB, non-heap committed "
+                + memory.getNonHeapMemoryUsage().getCommitted() / MEGABYTE + " MB";
+    }
+
+    /**
+     * Appends the resident set size, read from /proc, which blocks.
+     */
+    private static String withResidentSet(String usage) {
+        long residentKilobytes = residentSetKilobytes();
+        return residentKilobytes < 0 ? usage : usage + ", RSS " + residentKilobytes / 1024 + " MB";
+    }
+
+    /**
+     * Reads the resident set size of the process.
+     *
+     * @return the resident set size in kilobytes, or -1 where /proc is not available
+     */
+    private static long residentSetKilobytes() {
+        if (!Files.isReadable(PROC_STATUS)) {
+            return -1;
+        }
+        try {
+            List<String> lines = Files.readAllLines(PROC_STATUS);
+            for (String line : lines) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException exception) {
+            log.debug("Unable to read the resident set size", exception);
+        }
+        return -1;
+    }
+
+}
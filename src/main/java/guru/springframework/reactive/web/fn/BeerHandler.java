@@ -0,0 +1,73 @@
+package guru.springframework.reactive.web.fn;
+
+import guru.springframework.reactive.controllers.BeerController;
+import guru.springframework.reactive.model.BeerDTO;
+import guru.springframework.reactive.services.BeerService;
+import guru.springframework.reactive.web.BeerListResponseCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Functional handler for the hot beer read routes.
+ * <p>
+ * Mirrors {@link BeerController#listBeers(String)} and {@code BeerController#getBeerById(Integer)}
+ * without annotation-driven argument resolution, producing the same bodies, statuses and errors.
+ *
+ * @see RouterConfig
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 13:10
+ * @since jdk 1.17
+ */
+@RequiredArgsConstructor
+public class BeerHandler {
+
+    /**
+     * Service for managing beer-related operations.
+     */
+    private final BeerService beerService;
+
+    /**
+     * Cache of the encoded list responses.
+     */
+    private final BeerListResponseCache beerListResponseCache;
+
+    /**
+     * Handles GET requests to the /api/v2/beer endpoint.
+     *
+     * @param request the server request
+     * @return a Mono containing the response with every beer, served pre-encoded or streamed when not cached
+     */
+    public Mono<ServerResponse> listBeers(ServerRequest request) {
+        return beerListResponseCache.get(null)
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag(response.eTag())
+                        .bodyValue(response.body()))
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(beerService.listBeers(), BeerDTO.class)));
+    }
+
+    /**
+     * Handles GET requests to the /api/v2/beer/{beerId} endpoint.
+     *
+     * @param request the server request
+     * @return a Mono containing the response with the beer, or a 404 error if it does not exist
+     */
+    public Mono<ServerResponse> getBeerById(ServerRequest request) {
+        return RouterSupport.integerPathVariable(request, "beerId")
+                .flatMap(beerService::getBeerById)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        BeerController.BEER_NOT_FOUND)))
+                .flatMap(beerDTO -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(beerDTO));
+    }
+
+}
@@ -0,0 +1,62 @@
+package guru.springframework.reactive.web.fn;
+
+import guru.springframework.reactive.controllers.CustomerController;
+import guru.springframework.reactive.model.CustomerDTO;
+import guru.springframework.reactive.services.CustomerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Functional handler for the hot customer read routes.
+ * <p>
+ * Mirrors the list and get-by-id endpoints of {@link CustomerController} without
+ * annotation-driven argument resolution, producing the same bodies, statuses and errors.
+ *
+ * @see RouterConfig
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 13:10
+ * @since jdk 1.17
+ */
+@RequiredArgsConstructor
+public class CustomerHandler {
+
+    /**
+     * Service for managing customer-related operations.
+     */
+    private final CustomerService customerService;
+
+    /**
+     * Handles GET requests to the /api/v2/customer endpoint.
+     *
+     * @param request the server request
+     * @return a Mono containing the response with every customer
+     */
+    public Mono<ServerResponse> listCustomers(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(customerService.listCustomers(), CustomerDTO.class);
+    }
+
+    /**
+     * Handles GET requests to the /api/v2/customer/{customerId} endpoint.
+     *
+     * @param request the server request
+     * @return a Mono containing the response with the customer, or a 404 error if it does not exist
+     */
+    public Mono<ServerResponse> getCustomerById(ServerRequest request) {
+        return RouterSupport.integerPathVariable(request, "customerId")
+                .flatMap(customerService::getCustomerById)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        CustomerController.CUSTOMER_NOT_FOUND)))
+                .flatMap(customerDTO -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(customerDTO));
+    }
+
+}
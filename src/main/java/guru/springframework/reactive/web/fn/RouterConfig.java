@@ -0,0 +1,93 @@
+package guru.springframework.reactive.web.fn;
+
+import guru.springframework.reactive.controllers.BeerController;
+import guru.springframework.reactive.controllers.CustomerController;
+import guru.springframework.reactive.services.BeerService;
+import guru.springframework.reactive.services.CustomerService;
+import guru.springframework.reactive.web.BeerListResponseCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Configuration of the functional routes for the hottest read endpoints.
+ * <p>
+ * Enabled with {@code app.web.functional-routes.enabled=true}. Router functions are consulted
+ * before annotated controllers, so when enabled the plain JSON list and get-by-id requests for
+ * beers and customers are served by {@link BeerHandler} and {@link CustomerHandler}; every other
+ * request still reaches {@link BeerController} and {@link CustomerController}.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 13:25
+ * @since jdk 1.17
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.web.functional-routes.enabled", havingValue = "true")
+public class RouterConfig {
+
+    /**
+     * Get-by-id path restricted to numeric ids, so other sub-paths such as the beer search
+     * never match it and reach the annotated controllers.
+     */
+    static final String BEER_PATH_NUMERIC_ID = BeerController.BEER_PATH + "/{beerId:\\d+}";
+
+    /**
+     * Get-by-id path restricted to numeric ids.
+     */
+    static final String CUSTOMER_PATH_NUMERIC_ID = CustomerController.CUSTOMER_PATH + "/{customerId:\\d+}";
+
+    /**
+     * Bean definition for the beer handler.
+     *
+     * @param beerService           the service for managing beer-related operations
+     * @param beerListResponseCache the cache of the encoded list responses
+     * @return the BeerHandler bean
+     */
+    @Bean
+    BeerHandler beerHandler(BeerService beerService, BeerListResponseCache beerListResponseCache) {
+        return new BeerHandler(beerService, beerListResponseCache);
+    }
+
+    /**
+     * Bean definition for the customer handler.
+     *
+     * @param customerService the service for managing customer-related operations
+     * @return the CustomerHandler bean
+     */
+    @Bean
+    CustomerHandler customerHandler(CustomerService customerService) {
+        return new CustomerHandler(customerService);
+    }
+
+    /**
+     * Bean definition for the beer routes.
+     *
+     * @param beerHandler the beer handler
+     * @return the beer RouterFunction bean
+     */
+    @Bean
+    RouterFunction<ServerResponse> beerRoutes(BeerHandler beerHandler) {
+        return RouterFunctions.route()
+                .route(RouterSupport.plainJsonGet(BeerController.BEER_PATH), beerHandler::listBeers)
+                .route(RouterSupport.plainJsonGet(BEER_PATH_NUMERIC_ID), beerHandler::getBeerById)
+                .build();
+    }
+
+    /**
+     * Bean definition for the customer routes.
+     *
+     * @param customerHandler the customer handler
+     * @return the customer RouterFunction bean
+     */
+    @Bean
+    RouterFunction<ServerResponse> customerRoutes(CustomerHandler customerHandler) {
+        return RouterFunctions.route()
+                .route(RouterSupport.plainJsonGet(CustomerController.CUSTOMER_PATH), customerHandler::listCustomers)
+                .route(RouterSupport.plainJsonGet(CUSTOMER_PATH_NUMERIC_ID), customerHandler::getCustomerById)
+                .build();
+    }
+
+}
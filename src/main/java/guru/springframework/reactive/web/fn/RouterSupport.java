@@ -0,0 +1,55 @@
+package guru.springframework.reactive.web.fn;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shared request predicates and argument conversion for the functional routes.
+ *
+ * @author architecture - rperezv
+ * @version 19/10/2026 - 13:18
+ * @since jdk 1.17
+ */
+final class RouterSupport {
+
+    private RouterSupport() {
+    }
+
+    /**
+     * Matches GET requests for JSON on a path.
+     * <p>
+     * Requests with query parameters or asking for another media type (e.g. NDJSON) do not match,
+     * so they fall through to the annotated controllers that implement those variants.
+     *
+     * @param pattern the path pattern
+     * @return the request predicate
+     */
+    static RequestPredicate plainJsonGet(String pattern) {
+        return RequestPredicates.GET(pattern)
+                .and(RequestPredicates.accept(MediaType.APPLICATION_JSON))
+                .and(request -> request.queryParams().isEmpty());
+    }
+
+    /**
+     * Reads an Integer path variable, failing with a 400 error like the annotated controllers
+     * when it is not a number.
+     *
+     * @param request the server request
+     * @param name    the name of the path variable
+     * @return a Mono containing the path variable value
+     */
+    static Mono<Integer> integerPathVariable(ServerRequest request, String name) {
+        String value = request.pathVariable(name);
+        try {
+            return Mono.just(Integer.valueOf(value));
+        } catch (NumberFormatException exception) {
+            return Mono.error(new ServerWebInputException("Type mismatch for path variable '" + name + "'",
+                    null, exception));
+        }
+    }
+
+}
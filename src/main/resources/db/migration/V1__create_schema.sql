@@ -0,0 +1,45 @@
+CREATE TABLE if NOT EXISTS beer
+(
+    id             integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    beer_name      varchar(255),
+    beer_style     varchar(255),
+    upc            varchar(25),
+    quantity_on_hand integer,
+    price          decimal(10,2),
+    created_date   timestamp,
+    last_modified_date timestamp
+);
+
+CREATE TABLE if NOT EXISTS customer
+(
+    id                 integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_name      varchar(255),
+    created_date       timestamp,
+    last_modified_date timestamp
+);
+
+CREATE INDEX if NOT EXISTS customer_name_idx ON customer (customer_name, id);
+
+CREATE TABLE if NOT EXISTS beer_order
+(
+    id                 integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id        integer NOT NULL,
+    created_date       timestamp,
+    last_modified_date timestamp,
+    CONSTRAINT beer_order_customer_fk FOREIGN KEY (customer_id) REFERENCES customer (id) ON DELETE CASCADE
+);
+
+CREATE INDEX if NOT EXISTS beer_order_customer_idx ON beer_order (customer_id, id);
+
+CREATE TABLE if NOT EXISTS beer_order_line
+(
+    id                 integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    beer_order_id      integer NOT NULL,
+    beer_id            integer NOT NULL,
+    order_quantity     integer,
+    created_date       timestamp,
+    last_modified_date timestamp,
+    CONSTRAINT beer_order_line_order_fk FOREIGN KEY (beer_order_id) REFERENCES beer_order (id) ON DELETE CASCADE
+);
+
+CREATE INDEX if NOT EXISTS beer_order_line_order_idx ON beer_order_line (beer_order_id, id);
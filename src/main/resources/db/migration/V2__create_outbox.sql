@@ -0,0 +1,9 @@
+CREATE TABLE if NOT EXISTS outbox_event
+(
+    id             bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type varchar(50) NOT NULL,
+    aggregate_id   integer     NOT NULL,
+    event_type     varchar(20) NOT NULL,
+    payload        varchar,
+    created_date   timestamp   NOT NULL
+);
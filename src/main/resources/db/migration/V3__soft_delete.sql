@@ -0,0 +1,3 @@
+ALTER TABLE beer ADD COLUMN if NOT EXISTS deleted_at timestamp;
+
+ALTER TABLE customer ADD COLUMN if NOT EXISTS deleted_at timestamp;
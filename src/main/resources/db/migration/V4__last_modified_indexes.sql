@@ -0,0 +1,4 @@
+-- Delta listings seek (last_modified_date, id) from the position of the last change a client received
+CREATE INDEX if NOT EXISTS beer_last_modified_idx ON beer (last_modified_date, id);
+
+CREATE INDEX if NOT EXISTS customer_last_modified_idx ON customer (last_modified_date, id);
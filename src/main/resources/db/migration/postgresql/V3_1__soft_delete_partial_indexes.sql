@@ -0,0 +1,11 @@
+-- PostgreSQL only: Flyway scans db/migration recursively, the embedded initializer reads its top level only.
+
+-- Live rows only, for the service reads, which all filter on deleted_at IS NULL
+CREATE INDEX if NOT EXISTS beer_style_live_idx ON beer (beer_style, id) WHERE deleted_at IS NULL;
+
+CREATE INDEX if NOT EXISTS customer_name_live_idx ON customer (customer_name, id) WHERE deleted_at IS NULL;
+
+-- Tombstones only, for the compactor
+CREATE INDEX if NOT EXISTS beer_tombstone_idx ON beer (deleted_at) WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX if NOT EXISTS customer_tombstone_idx ON customer (deleted_at) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,4 @@
+-- PostgreSQL only: under a linguistic collation a btree on customer_name cannot serve the prefix LIKE of the keyset
+-- pages, only their ORDER BY. With the "C" collation it serves both, and names order by code point as on H2.
+-- Changing the collation rebuilds customer_name_idx and customer_name_live_idx with it.
+ALTER TABLE customer ALTER COLUMN customer_name TYPE varchar(255) COLLATE "C";
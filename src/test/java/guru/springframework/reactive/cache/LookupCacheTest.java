@@ -0,0 +1,152 @@
+package guru.springframework.reactive.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import guru.springframework.reactive.model.BeerDTO;
+import guru.springframework.reactive.services.ReadWriteRouting;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two instances, each with its own lookup cache, sharing the embedded shared tier.
+ */
+class LookupCacheTest {
+
+    InMemorySharedCacheTier sharedTier = new InMemorySharedCacheTier();
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    List<Object> events = new CopyOnWriteArrayList<>();
+
+    AtomicInteger loads = new AtomicInteger();
+
+    BeerDTO stored = BeerDTO.builder().id(1).beerName("Galaxy Cat").beerStyle("Pale Ale").build();
+
+    LookupCache firstInstance = lookupCache();
+
+    LookupCache secondInstance = lookupCache();
+
+    @Test
+    void testLoadedBeerIsSharedWithOtherInstances() {
+        StepVerifier.create(firstInstance.get(LookupCache.BEERS, 1, BeerDTO.class, this::load))
+                .assertNext(beer -> assertThat(beer.getBeerName()).isEqualTo("Galaxy Cat"))
+                .verifyComplete();
+        StepVerifier.create(secondInstance.get(LookupCache.BEERS, 1, BeerDTO.class, this::load))
+                .assertNext(beer -> assertThat(beer.getBeerName()).isEqualTo("Galaxy Cat"))
+                .verifyComplete();
+
+        assertThat(loads).hasValue(1);
+        assertThat(sharedTier.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testInvalidationReachesEveryInstance() {
+        firstInstance.get(LookupCache.BEERS, 1, BeerDTO.class, this::load).block();
+        secondInstance.get(LookupCache.BEERS, 1, BeerDTO.class, this::load).block();
+
+        stored = BeerDTO.builder().id(1).beerName("Galaxy Cat").beerStyle("IPA").build();
+        firstInstance.invalidate(LookupCache.BEERS, 1).block();
+
+        StepVerifier.create(secondInstance.get(LookupCache.BEERS, 1, BeerDTO.class, this::load))
+                .assertNext(beer -> assertThat(beer.getBeerStyle()).isEqualTo("IPA"))
+                .verifyComplete();
+        assertThat(loads).hasValue(2);
+        assertThat(events).containsExactly(new CacheInvalidatedEvent(LookupCache.BEERS, "1"),
+                new CacheInvalidatedEvent(LookupCache.BEERS, "1"));
+    }
+
+    @Test
+    void testCachedValuesAreCopies() {
+        firstInstance.get(LookupCache.BEERS, 1, BeerDTO.class, this::load).block().setBeerName("Changed");
+
+        StepVerifier.create(firstInstance.get(LookupCache.BEERS, 1, BeerDTO.class, this::load))
+                .assertNext(beer -> assertThat(beer.getBeerName()).isEqualTo("Galaxy Cat"))
+                .verifyComplete();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void testPinnedReadsAndMissingEntitiesAreNotCached() {
+        firstInstance.get(LookupCache.BEERS, 1, BeerDTO.class, this::load)
+                .contextWrite(ReadWriteRouting::pinPrimary)
+                .block();
+        StepVerifier.create(firstInstance.get(LookupCache.BEERS, 2, BeerDTO.class, Mono::empty))
+                .verifyComplete();
+
+        assertThat(sharedTier.size()).isZero();
+    }
+
+    @Test
+    void testLoadsFillingTheCacheArePinnedToThePrimary() {
+        List<Boolean> pinned = new CopyOnWriteArrayList<>();
+        Supplier<Mono<BeerDTO>> loader = () -> Mono.deferContextual(context -> {
+            pinned.add(ReadWriteRouting.isPrimaryPinned(context));
+            return load();
+        });
+
+        firstInstance.get(LookupCache.BEERS, 1, BeerDTO.class, loader).block();
+
+        assertThat(pinned).containsExactly(true);
+    }
+
+    @Test
+    void testLoadRacingWithAnotherInstanceInvalidationIsNotShared() {
+        LookupCache unreachedInstance = new LookupCache(new SharedCacheTier() {
+            @Override
+            public Mono<byte[]> get(String key) {
+                return sharedTier.get(key);
+            }
+
+            @Override
+            public Mono<Long> version(String key) {
+                return sharedTier.version(key);
+            }
+
+            @Override
+            public Mono<Boolean> put(String key, byte[] value, Duration ttl, long version) {
+                return sharedTier.put(key, value, ttl, version);
+            }
+
+            @Override
+            public Mono<Void> invalidate(String key) {
+                return sharedTier.invalidate(key);
+            }
+
+            @Override
+            public Flux<String> invalidations() {
+                return Flux.never();
+            }
+        }, objectMapper, events::add, "test:", Duration.ofMinutes(1), 100, Duration.ofMinutes(10),
+                Duration.ofSeconds(1));
+        Supplier<Mono<BeerDTO>> racingLoader = () -> load()
+                .flatMap(loaded -> secondInstance.invalidate(LookupCache.BEERS, 1).thenReturn(loaded));
+
+        unreachedInstance.get(LookupCache.BEERS, 1, BeerDTO.class, racingLoader).block();
+        unreachedInstance.get(LookupCache.BEERS, 1, BeerDTO.class, this::load).block();
+
+        assertThat(sharedTier.size()).isEqualTo(1);
+        assertThat(loads).hasValue(2);
+    }
+
+    private Mono<BeerDTO> load() {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return stored;
+        });
+    }
+
+    private LookupCache lookupCache() {
+        return new LookupCache(sharedTier, objectMapper, events::add, "test:", Duration.ofMinutes(1), 100,
+                Duration.ofMinutes(10), Duration.ofSeconds(1));
+    }
+
+}
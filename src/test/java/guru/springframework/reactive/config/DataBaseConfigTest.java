@@ -0,0 +1,37 @@
+package guru.springframework.reactive.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Orders the embedded migration scripts the way Flyway does.
+ */
+class DataBaseConfigTest {
+
+    @Test
+    void testScriptsAreSortedByVersionLikeFlyway() {
+        Resource[] scripts = Arrays.stream(new String[]{"V10__ten.sql", "V4_1__four_one.sql", "V2__two.sql",
+                        "V4__four.sql", "V4.2__four_two.sql"})
+                .map(DataBaseConfigTest::script)
+                .toArray(Resource[]::new);
+
+        assertThat(DataBaseConfig.inVersionOrder(scripts)).extracting(Resource::getFilename)
+                .containsExactly("V2__two.sql", "V4__four.sql", "V4_1__four_one.sql", "V4.2__four_two.sql",
+                        "V10__ten.sql");
+    }
+
+    private static Resource script(String name) {
+        return new ByteArrayResource(new byte[0]) {
+            @Override
+            public String getFilename() {
+                return name;
+            }
+        };
+    }
+
+}
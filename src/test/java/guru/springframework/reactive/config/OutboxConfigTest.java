@@ -0,0 +1,25 @@
+package guru.springframework.reactive.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Refuses to start the outbox alongside beer sharding.
+ */
+class OutboxConfigTest {
+
+    @Test
+    void testOutboxWithBeerShardsFailsToStart() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(OutboxConfig.class)
+                .withPropertyValues("app.outbox.enabled=true", "app.beer-shards.enabled=true")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure()
+                        .rootCause()
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("app.beer-shards.enabled=true"));
+    }
+
+}
@@ -0,0 +1,60 @@
+package guru.springframework.reactive.config;
+
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class R2dbcExecutorTest {
+
+    R2dbcExecutor r2dbcExecutor = new R2dbcExecutor(2, 100);
+
+    @AfterEach
+    void tearDown() {
+        r2dbcExecutor.destroy();
+    }
+
+    @Test
+    void testDriverRunsOnDedicatedThreads() {
+        ConnectionFactory connectionFactory = (ConnectionFactory) r2dbcExecutor.postProcessAfterInitialization(
+                H2ConnectionFactory.inMemory("r2dbc-executor-test"), "connectionFactory");
+
+        Mono<String> thread = Mono.usingWhen(connectionFactory.create(),
+                connection -> Flux.from(connection.createStatement("SELECT 1").execute())
+                        .flatMap(result -> result.map((row, metadata) -> Thread.currentThread().getName()))
+                        .single(),
+                Connection::close);
+
+        StepVerifier.create(thread)
+                .assertNext(name -> assertThat(name).startsWith("r2dbc-"))
+                .verifyComplete();
+    }
+
+    @Test
+    void testWrapperUnwrapsToConnectionFactory() {
+        ConnectionFactory target = H2ConnectionFactory.inMemory("r2dbc-executor-unwrap-test");
+
+        Object wrapped = r2dbcExecutor.postProcessAfterInitialization(target, "connectionFactory");
+
+        assertThat(wrapped).isInstanceOf(Wrapped.class).isNotSameAs(target);
+        assertThat(((Wrapped<?>) wrapped).unwrap()).isSameAs(target);
+        assertThat(((Wrapped<?>) wrapped).unwrap(ConnectionFactory.class)).isSameAs(wrapped);
+        assertThat(((Wrapped<?>) wrapped).unwrap(Connection.class)).isNull();
+    }
+
+    @Test
+    void testDisabledLeavesConnectionFactoryUntouched() {
+        ConnectionFactory target = H2ConnectionFactory.inMemory("r2dbc-executor-disabled-test");
+
+        assertThat(new R2dbcExecutor(0, 100).postProcessAfterInitialization(target, "connectionFactory"))
+                .isSameAs(target);
+    }
+
+}
@@ -0,0 +1,82 @@
+package guru.springframework.reactive.config;
+
+import guru.springframework.reactive.controllers.CustomerController;
+import guru.springframework.reactive.model.CustomerDTO;
+import guru.springframework.reactive.web.ReadYourWritesFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseCookie;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against two embedded databases that are not replicated: the bootstrap data and every write
+ * only reach the primary, so whatever a read returns shows which database served it.
+ */
+@SpringBootTest(properties = {
+        "spring.r2dbc.generate-unique-name=true",
+        "app.r2dbc.replica.enabled=true",
+        "app.r2dbc.replica.url=r2dbc:h2:mem:///replica-routing-test?options=DB_CLOSE_DELAY=-1",
+        "app.r2dbc.replica.read-your-writes-window=1m"
+})
+@AutoConfigureWebTestClient
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void testReadsGoToReplica() {
+        webTestClient.get().uri(CustomerController.CUSTOMER_PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.size()").isEqualTo(0);
+
+        webTestClient.get().uri(CustomerController.CUSTOMER_PATH_ID, 1)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        assertThat(meterRegistry.get("r2dbc.routing.connections").tag("target", "replica")
+                .functionCounter().count()).isPositive();
+        assertThat(meterRegistry.get("r2dbc.pool.acquired").tag("name", "replica").gauge()).isNotNull();
+        assertThat(meterRegistry.get("r2dbc.pool.acquired").tag("name", "connectionFactory").gauge()).isNotNull();
+    }
+
+    @Test
+    void testClientReadsItsOwnWrites() {
+        var created = webTestClient.post().uri(CustomerController.CUSTOMER_PATH)
+                .body(Mono.just(CustomerDTO.builder().customerName("Replica Customer").build()), CustomerDTO.class)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectCookie().exists(ReadYourWritesFilter.LAST_WRITE_COOKIE)
+                .returnResult(Void.class);
+        String location = Objects.requireNonNull(created.getResponseHeaders().getLocation()).getPath();
+        ResponseCookie lastWrite = created.getResponseCookies().getFirst(ReadYourWritesFilter.LAST_WRITE_COOKIE);
+
+        webTestClient.get().uri(location)
+                .cookie(lastWrite.getName(), lastWrite.getValue())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.customerName").isEqualTo("Replica Customer");
+
+        webTestClient.get().uri(location)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.get().uri(location)
+                .cookie(lastWrite.getName(), String.valueOf(System.currentTimeMillis() + 86_400_000L))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+}
@@ -13,6 +13,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 @SpringBootTest
 @AutoConfigureWebTestClient
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -48,6 +50,61 @@ class BeerControllerTest {
                 .jsonPath("$.beerStyle").isEqualTo("Pale Ale");
     }
 
+    @Test
+    @Order(2)
+    void testListBeersNotModified() {
+        String eTag = webTestClient.get().uri(BeerController.BEER_PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        webTestClient.get().uri(BeerController.BEER_PATH)
+                .header("If-None-Match", eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    @Order(2)
+    void testListBeersByStyle() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(BeerController.BEER_PATH)
+                        .queryParam("beerStyle", "Pale Ale")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.size()").isEqualTo(2);
+    }
+
+    @Test
+    @Order(2)
+    void testSearchBeers() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(BeerController.BEER_SEARCH_PATH)
+                        .queryParam("q", "pale")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/json")
+                .expectBody()
+                .jsonPath("$.size()").isEqualTo(2)
+                .jsonPath("$[0].beerName").isEqualTo("Crank")
+                .jsonPath("$[1].beerName").isEqualTo("Galaxy Cat");
+    }
+
+    @Test
+    @Order(2)
+    void testSearchBeersByNamePrefix() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(BeerController.BEER_SEARCH_PATH)
+                        .queryParam("q", "sun ip")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.size()").isEqualTo(1)
+                .jsonPath("$[0].beerName").isEqualTo("Sunshine City");
+    }
+
     @Test
     void testCreateBeer() {
         webTestClient.post().uri(BeerController.BEER_PATH)
@@ -68,12 +125,47 @@ class BeerControllerTest {
                 .expectStatus().isNoContent();
     }
 
+    @Test
+    @Order(3)
+    void testPatchBeer() {
+        webTestClient.patch().uri(BeerController.BEER_PATH_ID, 3)
+                .header("Content-Type", "application/json")
+                .bodyValue(Map.of("beerName", "Sunshine City", "price", 11.5))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri(BeerController.BEER_PATH_ID, 3)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.beerName").isEqualTo("Sunshine City")
+                .jsonPath("$.beerStyle").isEqualTo("IPA")
+                .jsonPath("$.price").isEqualTo(11.5);
+    }
+
     @Test
     @Order(99)
     void testDeleteBeer() {
         webTestClient.delete().uri(BeerController.BEER_PATH_ID, 1)
                 .exchange()
                 .expectStatus().isNoContent();
+
+        webTestClient.get().uri(BeerController.BEER_PATH_ID, 1)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @Order(100)
+    void testListBeersModifiedSinceIncludesDeletions() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(BeerController.BEER_PATH)
+                        .queryParam("modifiedSince", "2000-01-01T00:00:00")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[?(@.id == 1)].deletedAt").isNotEmpty()
+                .jsonPath("$[?(@.id == 2)].deletedAt").isEmpty();
     }
 
     @Test
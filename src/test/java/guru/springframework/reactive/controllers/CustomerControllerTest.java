@@ -0,0 +1,263 @@
+package guru.springframework.reactive.controllers;
+
+import guru.springframework.reactive.model.CustomerBulkResultDTO;
+import guru.springframework.reactive.model.CustomerBulkResultDTO.Outcome;
+import guru.springframework.reactive.model.CustomerDTO;
+import guru.springframework.reactive.web.IdempotencyKeyStore;
+import guru.springframework.reactive.web.RequestDeadlineFilter;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CustomerControllerTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Test
+    @Order(1)
+    void testListCustomers() {
+        webTestClient.get().uri(CustomerController.CUSTOMER_PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/json")
+                .expectBody().jsonPath("$.size()").isEqualTo(3);
+    }
+
+    @Test
+    @Order(2)
+    void testGetById() {
+        webTestClient.get().uri(CustomerController.CUSTOMER_PATH_ID, 1)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("1")
+                .jsonPath("$.customerName").isEqualTo("Customer 1");
+    }
+
+    @Test
+    @Order(2)
+    void testListCustomersByNamePrefix() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(CustomerController.CUSTOMER_PATH)
+                        .queryParam("name", "Customer")
+                        .queryParam("size", 2)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.size()").isEqualTo(2)
+                .jsonPath("$[0].customerName").isEqualTo("Customer 1")
+                .jsonPath("$[1].customerName").isEqualTo("Customer 2");
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(CustomerController.CUSTOMER_PATH)
+                        .queryParam("name", "Customer")
+                        .queryParam("afterName", "Customer 2")
+                        .queryParam("afterId", 2)
+                        .queryParam("size", 2)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.size()").isEqualTo(1)
+                .jsonPath("$[0].customerName").isEqualTo("Customer 3");
+    }
+
+    @Test
+    @Order(2)
+    void testListCustomersByNamePrefixMatchesWildcardsLiterally() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(CustomerController.CUSTOMER_PATH)
+                        .queryParam("name", "%")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.size()").isEqualTo(0);
+    }
+
+    @Test
+    @Order(2)
+    void testListCustomersModifiedSince() {
+        List<CustomerDTO> firstPage = webTestClient.get().uri(uriBuilder -> uriBuilder
+                        .path(CustomerController.CUSTOMER_PATH)
+                        .queryParam("modifiedSince", "2000-01-01T00:00:00")
+                        .queryParam("size", 2)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CustomerDTO.class).hasSize(2)
+                .returnResult().getResponseBody();
+        CustomerDTO last = Objects.requireNonNull(firstPage).get(1);
+
+        List<CustomerDTO> nextPage = webTestClient.get().uri(uriBuilder -> uriBuilder
+                        .path(CustomerController.CUSTOMER_PATH)
+                        .queryParam("modifiedSince", last.getLastModifiedDate())
+                        .queryParam("afterId", last.getId())
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CustomerDTO.class)
+                .returnResult().getResponseBody();
+
+        assertFalse(Objects.requireNonNull(nextPage).isEmpty());
+        CustomerDTO next = nextPage.get(0);
+        assertTrue(next.getLastModifiedDate().isAfter(last.getLastModifiedDate())
+                || next.getLastModifiedDate().isEqual(last.getLastModifiedDate()) && next.getId() > last.getId());
+        assertTrue(nextPage.stream().noneMatch(customer -> firstPage.stream()
+                .anyMatch(seen -> seen.getId().equals(customer.getId()))));
+    }
+
+    @Test
+    @Order(2)
+    void testListCustomerOrdersEmpty() {
+        webTestClient.get().uri(BeerOrderController.CUSTOMER_ORDERS_PATH, 1)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.size()").isEqualTo(0);
+    }
+
+    @Test
+    void testListCustomerOrdersNotFound() {
+        webTestClient.get().uri(BeerOrderController.CUSTOMER_ORDERS_PATH, 999)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @Order(2)
+    void testGetByIdInvalidRequestTimeout() {
+        for (String timeout : List.of("0", "-5", "soon")) {
+            webTestClient.get().uri(CustomerController.CUSTOMER_PATH_ID, 1)
+                    .header(RequestDeadlineFilter.REQUEST_TIMEOUT_HEADER, timeout)
+                    .exchange()
+                    .expectStatus().isBadRequest();
+        }
+    }
+
+    @Test
+    @Order(3)
+    void testCreateCustomerIdempotent() {
+        String firstLocation = createCustomer("retry-1");
+        String retryLocation = createCustomer("retry-1");
+
+        assertEquals(firstLocation, retryLocation);
+
+        webTestClient.get().uri(CustomerController.CUSTOMER_PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.size()").isEqualTo(4);
+    }
+
+    @Test
+    @Order(3)
+    void testCreateCustomerIdempotencyKeyReusedWithOtherBody() {
+        createCustomer("retry-1");
+
+        webTestClient.post().uri(CustomerController.CUSTOMER_PATH)
+                .header("Content-Type", "application/json")
+                .header(IdempotencyKeyStore.IDEMPOTENCY_KEY_HEADER, "retry-1")
+                .body(Mono.just(CustomerDTO.builder().customerName("Other Customer").build()), CustomerDTO.class)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    @Order(4)
+    void testCreateCustomerWithoutIdempotencyKey() {
+        webTestClient.post().uri(CustomerController.CUSTOMER_PATH)
+                .header("Content-Type", "application/json")
+                .body(Mono.just(getTestCustomer()), CustomerDTO.class)
+                .exchange()
+                .expectStatus().isCreated();
+    }
+
+    @Test
+    @Order(5)
+    void testUpsertCustomersBulk() {
+        String body = """
+                {"customerName":"Bulk Customer"}
+                {"id":3,"customerName":"Customer Three"}
+                {"id":999,"customerName":"Missing Customer"}
+                {"customerName":"ab"}
+                """;
+
+        webTestClient.put().uri(uriBuilder -> uriBuilder.path(CustomerController.CUSTOMER_BULK_PATH)
+                        .queryParam("batchSize", 2)
+                        .build())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CustomerBulkResultDTO.class)
+                .value(results -> {
+                    assertEquals(4, results.size());
+                    assertEquals(Outcome.CREATED, results.get(0).getOutcome());
+                    assertNotNull(results.get(0).getId());
+                    assertEquals(Outcome.UPDATED, results.get(1).getOutcome());
+                    assertEquals(3, results.get(1).getId());
+                    assertEquals(Outcome.REJECTED, results.get(2).getOutcome());
+                    assertEquals(Outcome.REJECTED, results.get(3).getOutcome());
+                    assertEquals(3, results.get(3).getIndex());
+                });
+
+        webTestClient.get().uri(CustomerController.CUSTOMER_PATH_ID, 3)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.customerName").isEqualTo("Customer Three");
+    }
+
+    @Test
+    void testCreateCustomerBadRequest() {
+        CustomerDTO customerDTO = getTestCustomer();
+        customerDTO.setCustomerName(null);
+
+        webTestClient.post().uri(CustomerController.CUSTOMER_PATH)
+                .header("Content-Type", "application/json")
+                .body(Mono.just(customerDTO), CustomerDTO.class)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testGetByIdNotFound() {
+        webTestClient.get().uri(CustomerController.CUSTOMER_PATH_ID, 999)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private String createCustomer(String idempotencyKey) {
+        return Objects.requireNonNull(webTestClient.post().uri(CustomerController.CUSTOMER_PATH)
+                .header("Content-Type", "application/json")
+                .header(IdempotencyKeyStore.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .body(Mono.just(getTestCustomer()), CustomerDTO.class)
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(Void.class)
+                .getResponseHeaders().getLocation()).toString();
+    }
+
+    static CustomerDTO getTestCustomer() {
+        return CustomerDTO.builder()
+                .customerName("Test Customer")
+                .build();
+    }
+}
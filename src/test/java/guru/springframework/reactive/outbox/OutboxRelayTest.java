@@ -0,0 +1,136 @@
+package guru.springframework.reactive.outbox;
+
+import guru.springframework.reactive.domain.OutboxEvent;
+import guru.springframework.reactive.domain.OutboxEvent.EventType;
+import guru.springframework.reactive.model.BeerDTO;
+import guru.springframework.reactive.model.CustomerDTO;
+import guru.springframework.reactive.repositories.OutboxEventRepository;
+import guru.springframework.reactive.services.BeerService;
+import guru.springframework.reactive.services.CustomerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records changes in the outbox and drains it with relays built by each test, the scheduled relay being disabled.
+ */
+@SpringBootTest(properties = {
+        "spring.r2dbc.generate-unique-name=true",
+        "app.outbox.enabled=true",
+        "app.outbox.relay.enabled=false"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    BeerService beerService;
+
+    @Autowired
+    CustomerService customerService;
+
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    TransactionalOperator transactionalOperator;
+
+    InMemoryOutboxSink sink = new InMemoryOutboxSink(100);
+
+    @BeforeEach
+    void drainBootstrapEvents() {
+        relay(new InMemoryOutboxSink(1)).drain().block();
+    }
+
+    @Test
+    void testChangesArePublishedInCommitOrder() {
+        BeerDTO beer = beerService.saveBeer(BeerDTO.builder().beerName("Outbox Ale").beerStyle("Ale").build()).block();
+        beerService.patchBeer(beer.getId(), BeerDTO.builder().beerStyle("Bitter").build()).block();
+        beerService.deleteBeer(beer.getId()).block();
+        beerService.deleteBeer(beer.getId()).block();
+        customerService.upsertCustomers(Flux.just(CustomerDTO.builder().customerName("Outbox Customer").build()), 10)
+                .blockLast();
+
+        StepVerifier.create(relay(sink).drain())
+                .expectNext(4L)
+                .verifyComplete();
+        StepVerifier.create(sink.events())
+                .assertNext(event -> assertEvent(event, Outbox.BEER, EventType.CREATED, "Ale"))
+                .assertNext(event -> assertEvent(event, Outbox.BEER, EventType.UPDATED, "Bitter"))
+                .assertNext(event -> assertThat(event.getPayload()).isNull())
+                .assertNext(event -> assertEvent(event, Outbox.CUSTOMER, EventType.CREATED, "Outbox Customer"))
+                .thenCancel()
+                .verify();
+        StepVerifier.create(outboxEventRepository.count())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void testFailedBatchIsPublishedAgain() {
+        customerService.saveCustomer(CustomerDTO.builder().customerName("Retried Customer").build()).block();
+        AtomicInteger attempts = new AtomicInteger();
+        OutboxSink failing = events -> Mono.fromRunnable(attempts::incrementAndGet)
+                .then(Mono.error(new IllegalStateException("Broker unavailable")));
+
+        StepVerifier.create(relay(failing).drain())
+                .expectNext(0L)
+                .verifyComplete();
+        assertThat(attempts).hasValue(1);
+
+        StepVerifier.create(relay(sink).drain())
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(sink.events().take(1))
+                .assertNext(event -> assertEvent(event, Outbox.CUSTOMER, EventType.CREATED, "Retried Customer"))
+                .verifyComplete();
+    }
+
+    @Test
+    void testRolledBackChangeRecordsNothing() {
+        Mono<CustomerDTO> failedWrite = customerService.saveCustomer(
+                        CustomerDTO.builder().customerName("Rolled Back").build())
+                .then(Mono.error(new IllegalStateException("Rollback")));
+        StepVerifier.create(transactionalOperator.transactional(failedWrite))
+                .verifyError(IllegalStateException.class);
+
+        StepVerifier.create(relay(sink).drain())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void testBatchesAreDrainedUntilShort() {
+        customerService.upsertCustomers(Flux.range(0, 5)
+                .map(i -> CustomerDTO.builder().customerName("Batch Customer " + i).build()), 5).blockLast();
+
+        List<Long> ids = outboxEventRepository.findAll().map(OutboxEvent::getId).collectList().block();
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, sink, 2, Duration.ofSeconds(1));
+        StepVerifier.create(relay.drain())
+                .expectNext(5L)
+                .verifyComplete();
+        StepVerifier.create(sink.events().take(5).map(OutboxEvent::getId))
+                .expectNextSequence(ids)
+                .verifyComplete();
+    }
+
+    private OutboxRelay relay(OutboxSink outboxSink) {
+        return new OutboxRelay(outboxEventRepository, outboxSink, 100, Duration.ofSeconds(1));
+    }
+
+    private static void assertEvent(OutboxEvent event, String aggregateType, EventType eventType, String payloadPart) {
+        assertThat(event.getAggregateType()).isEqualTo(aggregateType);
+        assertThat(event.getEventType()).isEqualTo(eventType);
+        assertThat(event.getPayload()).contains(payloadPart);
+    }
+
+}
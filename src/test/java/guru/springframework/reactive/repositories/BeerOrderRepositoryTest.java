@@ -0,0 +1,80 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.config.DataBaseConfig;
+import guru.springframework.reactive.domain.Beer;
+import guru.springframework.reactive.domain.BeerOrder;
+import guru.springframework.reactive.domain.BeerOrderLine;
+import guru.springframework.reactive.domain.Customer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataR2dbcTest(properties = "spring.r2dbc.generate-unique-name=true")
+@Import(DataBaseConfig.class)
+class BeerOrderRepositoryTest {
+
+    @Autowired
+    BeerOrderRepository beerOrderRepository;
+
+    @Autowired
+    BeerOrderLineRepository beerOrderLineRepository;
+
+    @Autowired
+    BeerRepository beerRepository;
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @Test
+    void testFindAllWithLinesByCustomerId() {
+        Customer customer = customerRepository.save(Customer.builder().customerName("Order Customer").build()).block();
+        Beer first = beerRepository.save(BeerRepositoryTest.getTestBeer()).block();
+        Beer second = beerRepository.save(Beer.builder().beerName("Second Beer").beerStyle("Stout").build()).block();
+
+        BeerOrder olderOrder = saveOrder(customer, first, 2, second, 6);
+        BeerOrder emptyOrder = beerOrderRepository.save(BeerOrder.builder().customerId(customer.getId()).build())
+                .block();
+
+        StepVerifier.create(beerOrderRepository.findAllWithLinesByCustomerId(customer.getId()))
+                .assertNext(order -> {
+                    assertEquals(emptyOrder.getId(), order.getId());
+                    assertTrue(order.getBeerOrderLines().isEmpty());
+                })
+                .assertNext(order -> {
+                    assertEquals(olderOrder.getId(), order.getId());
+                    assertEquals(customer.getId(), order.getCustomerId());
+
+                    List<BeerOrderLine> lines = order.getBeerOrderLines();
+                    assertEquals(2, lines.size());
+                    assertEquals(2, lines.get(0).getOrderQuantity());
+                    assertEquals("Test Beer", lines.get(0).getBeer().getBeerName());
+                    assertEquals(9.99, lines.get(0).getBeer().getPrice());
+                    assertEquals(6, lines.get(1).getOrderQuantity());
+                    assertEquals("Stout", lines.get(1).getBeer().getBeerStyle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testFindAllWithLinesByCustomerIdWithoutOrders() {
+        StepVerifier.create(beerOrderRepository.findAllWithLinesByCustomerId(999))
+                .verifyComplete();
+    }
+
+    private BeerOrder saveOrder(Customer customer, Beer first, int firstQuantity, Beer second, int secondQuantity) {
+        BeerOrder order = beerOrderRepository.save(BeerOrder.builder().customerId(customer.getId()).build()).block();
+        beerOrderLineRepository.save(BeerOrderLine.builder()
+                .beerOrderId(order.getId()).beerId(first.getId()).orderQuantity(firstQuantity).build()).block();
+        beerOrderLineRepository.save(BeerOrderLine.builder()
+                .beerOrderId(order.getId()).beerId(second.getId()).orderQuantity(secondQuantity).build()).block();
+        return order;
+    }
+
+}
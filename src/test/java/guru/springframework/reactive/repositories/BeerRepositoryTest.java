@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.Import;
+import reactor.test.StepVerifier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -20,19 +21,17 @@ public class BeerRepositoryTest {
     void saveBeer() {
         Beer beer = getTestBeer();
 
-        beerRepository.save(beer).subscribe(System.out::println);
-
-        var savedBeerMono = beerRepository.findById(beer.getId());
-
-        savedBeerMono.subscribe(savedBeer -> {
-            assertEquals(beer.getId(), savedBeer.getId());
-            assertEquals(beer.getBeerName(), savedBeer.getBeerName());
-            assertEquals(beer.getBeerStyle(), savedBeer.getBeerStyle());
-            assertEquals(beer.getUpc(), savedBeer.getUpc());
-            assertEquals(beer.getQuantityOnHand(), savedBeer.getQuantityOnHand());
-            assertEquals(beer.getPrice(), savedBeer.getPrice());
-        });
-
+        StepVerifier.create(beerRepository.save(beer)
+                        .flatMap(saved -> beerRepository.findById(saved.getId())))
+                .assertNext(savedBeer -> {
+                    assertEquals(beer.getId(), savedBeer.getId());
+                    assertEquals(beer.getBeerName(), savedBeer.getBeerName());
+                    assertEquals(beer.getBeerStyle(), savedBeer.getBeerStyle());
+                    assertEquals(beer.getUpc(), savedBeer.getUpc());
+                    assertEquals(beer.getQuantityOnHand(), savedBeer.getQuantityOnHand());
+                    assertEquals(beer.getPrice(), savedBeer.getPrice());
+                })
+                .verifyComplete();
     }
 
     public static Beer getTestBeer() {
@@ -0,0 +1,147 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.Beer;
+import guru.springframework.reactive.domain.BeerOrder;
+import guru.springframework.reactive.domain.BeerOrderLine;
+import guru.springframework.reactive.domain.Customer;
+import guru.springframework.reactive.model.CustomerBulkResultDTO;
+import guru.springframework.reactive.model.CustomerBulkResultDTO.Outcome;
+import guru.springframework.reactive.model.CustomerDTO;
+import guru.springframework.reactive.services.CustomerService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the repository hot paths against PostgreSQL in a local container and logs their throughput.
+ * Skipped when no Docker daemon is available.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PostgresPerformanceTest {
+
+    static final int CUSTOMERS = 20_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + postgres.getHost() + ":"
+                + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName());
+        registry.add("spring.r2dbc.username", postgres::getUsername);
+        registry.add("spring.r2dbc.password", postgres::getPassword);
+        registry.add("spring.flyway.url", postgres::getJdbcUrl);
+    }
+
+    @Autowired
+    CustomerService customerService;
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @Autowired
+    BeerRepository beerRepository;
+
+    @Autowired
+    BeerOrderRepository beerOrderRepository;
+
+    @Autowired
+    BeerOrderLineRepository beerOrderLineRepository;
+
+    @Test
+    @Order(1)
+    void testBulkUpsertThroughput() {
+        Map<Outcome, Long> created = timed("bulk insert", CUSTOMERS, () -> customerService.upsertCustomers(
+                        Flux.range(0, CUSTOMERS).map(i -> CustomerDTO.builder().customerName("Perf Customer " + i).build()),
+                        500)
+                .collect(Collectors.groupingBy(CustomerBulkResultDTO::getOutcome, Collectors.counting()))
+                .block());
+        assertEquals(Map.of(Outcome.CREATED, (long) CUSTOMERS), created);
+
+        List<Integer> ids = customerRepository.findPageByCustomerNameLike("Perf Customer %", CUSTOMERS)
+                .map(Customer::getId)
+                .collectList()
+                .block();
+        Map<Outcome, Long> updated = timed("bulk update", CUSTOMERS, () -> customerService.upsertCustomers(
+                        Flux.fromIterable(ids).map(id -> CustomerDTO.builder().id(id).customerName("Perf Customer " + id).build()),
+                        500)
+                .collect(Collectors.groupingBy(CustomerBulkResultDTO::getOutcome, Collectors.counting()))
+                .block());
+        assertEquals(Map.of(Outcome.UPDATED, (long) CUSTOMERS), updated);
+    }
+
+    @Test
+    @Order(2)
+    void testCustomerKeysetPagingThroughput() {
+        int pageSize = 500;
+        int total = timed("keyset paging", CUSTOMERS, () -> {
+            int read = 0;
+            List<CustomerDTO> page = customerService.listCustomers("Perf Customer", null, null, pageSize)
+                    .collectList().block();
+            while (!page.isEmpty()) {
+                read += page.size();
+                CustomerDTO last = page.get(page.size() - 1);
+                page = customerService.listCustomers("Perf Customer", last.getCustomerName(), last.getId(), pageSize)
+                        .collectList().block();
+            }
+            return read;
+        });
+        assertEquals(CUSTOMERS, total);
+    }
+
+    @Test
+    @Order(3)
+    void testOrdersWithLinesByCustomer() {
+        Customer customer = customerRepository.save(Customer.builder().customerName("Order Customer").build()).block();
+        Beer beer = beerRepository.save(BeerRepositoryTest.getTestBeer()).block();
+        BeerOrder order = beerOrderRepository.save(BeerOrder.builder().customerId(customer.getId()).build()).block();
+        beerOrderLineRepository.saveAll(Flux.range(1, 3).map(quantity -> BeerOrderLine.builder()
+                        .beerOrderId(order.getId())
+                        .beerId(beer.getId())
+                        .orderQuantity(quantity)
+                        .build()))
+                .blockLast();
+
+        StepVerifier.create(beerOrderRepository.findAllWithLinesByCustomerId(customer.getId()))
+                .assertNext(found -> {
+                    assertEquals(order.getId(), found.getId());
+                    assertEquals(List.of(1, 2, 3), found.getBeerOrderLines().stream()
+                            .map(BeerOrderLine::getOrderQuantity)
+                            .toList());
+                    assertEquals(9.99, found.getBeerOrderLines().get(0).getBeer().getPrice());
+                })
+                .verifyComplete();
+    }
+
+    private static <T> T timed(String operation, int records, Supplier<T> work) {
+        long start = System.nanoTime();
+        T result = work.get();
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("{}: {} records in {} ms, {} records/s", operation, records, millis, records * 1000L / millis);
+        return result;
+    }
+
+}
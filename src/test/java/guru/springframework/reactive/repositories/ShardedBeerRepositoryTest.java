@@ -0,0 +1,184 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.domain.Beer;
+import guru.springframework.reactive.domain.BeerOrder;
+import guru.springframework.reactive.domain.BeerOrderLine;
+import guru.springframework.reactive.domain.Customer;
+import guru.springframework.reactive.model.BeerOrderDTO;
+import guru.springframework.reactive.services.BeerOrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Spreads the beer table across the application's embedded database and two more in-memory H2 databases.
+ */
+@SpringBootTest(properties = {
+        "spring.r2dbc.generate-unique-name=true",
+        "app.beer-shards.enabled=true",
+        "app.beer-shards.urls=r2dbc:h2:mem:///beer-shard-test-1?options=DB_CLOSE_DELAY=-1,"
+                + "r2dbc:h2:mem:///beer-shard-test-2?options=DB_CLOSE_DELAY=-1"
+})
+class ShardedBeerRepositoryTest {
+
+    @Autowired
+    BeerRepository beerRepository;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @Autowired
+    R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @Autowired
+    BeerOrderRepository beerOrderRepository;
+
+    @Autowired
+    BeerOrderLineRepository beerOrderLineRepository;
+
+    @Autowired
+    BeerOrderService beerOrderService;
+
+    @Test
+    void testNewBeersAreSpreadAcrossShards() {
+        ShardedBeerRepository sharded = (ShardedBeerRepository) beerRepository;
+        List<Beer> saved = beerRepository.saveAll(Flux.range(0, 6)
+                        .map(i -> Beer.builder().beerName("Shard Beer " + i).beerStyle("Sour").build()))
+                .collectList()
+                .block();
+
+        assertThat(saved).extracting(beer -> sharded.shardOf(beer.getId()))
+                .containsExactly(0, 1, 2, 0, 1, 2);
+        assertThat(saved).allSatisfy(beer -> assertThat(beer.getCreatedDate()).isNotNull());
+
+        Long ownRows = databaseClient.sql("SELECT COUNT(*) FROM beer WHERE MOD(id - 1, 3) <> 0")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+        assertThat(ownRows).isZero();
+
+        Beer moved = saved.get(4);
+        moved.setBeerStyle("Gose");
+        StepVerifier.create(beerRepository.save(moved).then(beerRepository.findById(moved.getId())))
+                .assertNext(beer -> assertThat(beer.getBeerStyle()).isEqualTo("Gose"))
+                .verifyComplete();
+
+        Integer patched = saved.get(2).getId();
+        StepVerifier.create(beerRepository.patch(patched, Update.update("beerStyle", "Kriek"))
+                        .then(beerRepository.findById(patched)))
+                .assertNext(beer -> assertThat(beer.getBeerStyle()).isEqualTo("Kriek"))
+                .verifyComplete();
+
+        StepVerifier.create(beerRepository.deleteById(saved.get(5).getId())
+                        .then(beerRepository.existsById(saved.get(5).getId())))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    void testStartupFailsOnUnalignedIdentity() {
+        ShardedBeerRepository regrouped = new ShardedBeerRepository(List.of(r2dbcEntityTemplate, r2dbcEntityTemplate), false);
+
+        assertThatThrownBy(regrouped::afterSingletonsInstantiated)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("steps by 3 instead of 2");
+    }
+
+    @Test
+    void testListingsAreMergedInOrder() {
+        beerRepository.saveAll(List.of(
+                Beer.builder().beerName("Merge Beer C").beerStyle("Porter").build(),
+                Beer.builder().beerName("Merge Beer A").beerStyle("Porter").build(),
+                Beer.builder().beerName("Merge Beer B").beerStyle("Porter").build(),
+                Beer.builder().beerName("Merge Beer D").beerStyle("Porter").build())).blockLast();
+
+        List<Beer> byId = beerRepository.findAll().collectList().block();
+        assertThat(byId).isSortedAccordingTo(Comparator.comparing(Beer::getId));
+        StepVerifier.create(beerRepository.count())
+                .expectNext((long) byId.size())
+                .verifyComplete();
+
+        StepVerifier.create(beerRepository.findAllByBeerStyle("Porter").map(Beer::getBeerName))
+                .expectNext("Merge Beer C", "Merge Beer A", "Merge Beer B", "Merge Beer D")
+                .verifyComplete();
+
+        List<String> byName = beerRepository.findAll(Sort.by(Sort.Direction.DESC, "beerName"))
+                .map(Beer::getBeerName)
+                .collectList()
+                .block();
+        assertThat(byName).isSortedAccordingTo(Comparator.nullsLast(Comparator.<String>reverseOrder()));
+    }
+
+    @Test
+    void testChangesArePagedAcrossShards() {
+        LocalDateTime start = LocalDateTime.now().minusSeconds(1);
+        List<Beer> saved = beerRepository.saveAll(Flux.range(0, 6)
+                        .map(i -> Beer.builder().beerName("Changed Beer " + i).build()))
+                .collectList()
+                .block();
+        beerRepository.deleteById(saved.get(1).getId()).block();
+
+        List<Beer> changes = new ArrayList<>();
+        List<Beer> page = beerRepository.findChangedSince(start, 0, 2).collectList().block();
+        while (!page.isEmpty()) {
+            changes.addAll(page);
+            Beer last = page.get(page.size() - 1);
+            page = beerRepository.findChangedSince(last.getLastModifiedDate(), last.getId(), 2).collectList().block();
+        }
+
+        assertThat(changes).isSortedAccordingTo(Comparator.comparing(Beer::getLastModifiedDate)
+                .thenComparing(Beer::getId));
+        assertThat(changes).extracting(Beer::getId)
+                .doesNotHaveDuplicates()
+                .containsAll(saved.stream().map(Beer::getId).toList());
+        assertThat(changes).filteredOn(beer -> beer.getId().equals(saved.get(1).getId()))
+                .singleElement()
+                .satisfies(beer -> assertThat(beer.getDeletedAt()).isNotNull());
+    }
+
+    @Test
+    void testOrdersFindBeersOfOtherShards() {
+        Customer customer = customerRepository.save(Customer.builder().customerName("Shard Customer").build()).block();
+        List<Beer> beers = beerRepository.saveAll(Flux.range(0, 3)
+                        .map(i -> Beer.builder().beerName("Ordered Beer " + i).build()))
+                .collectList()
+                .block();
+        BeerOrder order = beerOrderRepository.save(BeerOrder.builder().customerId(customer.getId()).build()).block();
+        beerOrderLineRepository.saveAll(beers.stream()
+                .map(beer -> BeerOrderLine.builder().beerOrderId(order.getId()).beerId(beer.getId())
+                        .orderQuantity(1).build())
+                .toList()).blockLast();
+        BeerOrder reorder = beerOrderRepository.save(BeerOrder.builder().customerId(customer.getId()).build()).block();
+        beerOrderLineRepository.save(BeerOrderLine.builder().beerOrderId(reorder.getId()).beerId(beers.get(1).getId())
+                .orderQuantity(2).build()).block();
+        beerRepository.deleteAllById(List.of(beers.get(0).getId(), beers.get(1).getId())).block();
+
+        StepVerifier.create(beerOrderService.listOrdersByCustomerId(customer.getId())
+                        .collectMap(BeerOrderDTO::getId, found -> found.getBeerOrderLines().stream()
+                                .map(line -> line.getBeer().getBeerName())
+                                .toList()))
+                .assertNext(found -> assertThat(found)
+                        .containsEntry(order.getId(), List.of("Ordered Beer 0", "Ordered Beer 1", "Ordered Beer 2"))
+                        .containsEntry(reorder.getId(), List.of("Ordered Beer 1"))
+                        .hasSize(2))
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,103 @@
+package guru.springframework.reactive.repositories;
+
+import guru.springframework.reactive.config.DataBaseConfig;
+import guru.springframework.reactive.domain.Beer;
+import guru.springframework.reactive.domain.Customer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Soft-deletes beers and customers, and purges their tombstones.
+ */
+@DataR2dbcTest(properties = "spring.r2dbc.generate-unique-name=true")
+@Import(DataBaseConfig.class)
+class SoftDeleteRepositoryTest {
+
+    @Autowired
+    BeerRepository beerRepository;
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @Test
+    void testDeletedBeerIsHiddenFromReads() {
+        Beer beer = beerRepository.save(BeerRepositoryTest.getTestBeer()).block();
+        long live = beerRepository.count().block();
+
+        beerRepository.deleteById(beer.getId()).block();
+
+        StepVerifier.create(beerRepository.findById(beer.getId())).verifyComplete();
+        StepVerifier.create(beerRepository.existsById(beer.getId())).expectNext(false).verifyComplete();
+        StepVerifier.create(beerRepository.count()).expectNext(live - 1).verifyComplete();
+        StepVerifier.create(beerRepository.findAll().filter(found -> found.getId().equals(beer.getId())))
+                .verifyComplete();
+        StepVerifier.create(beerRepository.findAllByBeerStyle(beer.getBeerStyle())
+                        .filter(found -> found.getId().equals(beer.getId())))
+                .verifyComplete();
+        StepVerifier.create(beerRepository.deleteLiveById(beer.getId())).expectNext(0L).verifyComplete();
+        StepVerifier.create(beerRepository.patch(beer.getId(),
+                        Update.update("beerName", "Revived")))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void testDeleteKeepsTombstoneWithLastModifiedDate() {
+        Customer customer = customerRepository.save(Customer.builder().customerName("Tombstoned").build()).block();
+
+        customerRepository.delete(customer).block();
+
+        StepVerifier.create(databaseClient.sql("SELECT deleted_at, last_modified_date FROM customer WHERE id = :id")
+                        .bind("id", customer.getId())
+                        .map(row -> List.of(row.get("deleted_at", LocalDateTime.class),
+                                row.get("last_modified_date", LocalDateTime.class)))
+                        .one())
+                .assertNext(dates -> {
+                    assertThat(dates.get(0)).isEqualTo(dates.get(1));
+                    assertThat(dates.get(1)).isAfterOrEqualTo(customer.getLastModifiedDate());
+                })
+                .verifyComplete();
+        StepVerifier.create(customerRepository.findById(customer.getId())).verifyComplete();
+    }
+
+    @Test
+    void testPurgeRemovesOldTombstonesInBatches() {
+        List<Integer> ids = Flux.range(0, 5)
+                .concatMap(index -> beerRepository.save(BeerRepositoryTest.getTestBeer()))
+                .map(Beer::getId)
+                .collectList()
+                .block();
+        beerRepository.deleteAllById(ids).block();
+        databaseClient.sql("UPDATE beer SET deleted_at = :deletedAt WHERE id IN (:ids)")
+                .bind("deletedAt", LocalDateTime.now().minusDays(30))
+                .bind("ids", ids.subList(0, 3))
+                .then()
+                .block();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+
+        StepVerifier.create(beerRepository.purgeTombstones(cutoff, 2)).expectNext(2L).verifyComplete();
+        StepVerifier.create(beerRepository.purgeTombstones(cutoff, 2)).expectNext(1L).verifyComplete();
+        StepVerifier.create(beerRepository.purgeTombstones(cutoff, 2)).expectNext(0L).verifyComplete();
+        StepVerifier.create(databaseClient.sql("SELECT COUNT(*) FROM beer WHERE id IN (:ids)")
+                        .bind("ids", ids)
+                        .map(row -> row.get(0, Long.class))
+                        .one())
+                .expectNext(2L)
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,121 @@
+package guru.springframework.reactive.services;
+
+import guru.springframework.reactive.domain.Beer;
+import guru.springframework.reactive.model.BeerDTO;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BeerCatalogSnapshotTest {
+
+    @Test
+    void testFindById() {
+        LocalDateTime created = LocalDateTime.of(2024, 10, 2, 14, 48, 1, 123456789);
+        BeerCatalogSnapshot snapshot = BeerCatalogSnapshot.builder()
+                .add(getBeer(1, "Galaxy Cat", "Pale Ale", created))
+                .add(getBeer(5, "Sunshine City", "IPA", null))
+                .build();
+
+        BeerDTO beerDTO = snapshot.findById(1);
+
+        assertEquals(2, snapshot.size());
+        assertEquals("Galaxy Cat", beerDTO.getBeerName());
+        assertEquals("Pale Ale", beerDTO.getBeerStyle());
+        assertEquals(12.99, beerDTO.getPrice());
+        assertEquals(122, beerDTO.getQuantityOnHand());
+        assertEquals(created, beerDTO.getCreatedDate());
+        assertNull(snapshot.findById(5).getCreatedDate());
+        assertNull(snapshot.findById(3));
+    }
+
+    @Test
+    void testNullColumns() {
+        BeerCatalogSnapshot snapshot = BeerCatalogSnapshot.builder()
+                .add(Beer.builder().id(1).build())
+                .build();
+
+        BeerDTO beerDTO = snapshot.findById(1);
+
+        assertNull(beerDTO.getBeerName());
+        assertNull(beerDTO.getBeerStyle());
+        assertNull(beerDTO.getUpc());
+        assertNull(beerDTO.getQuantityOnHand());
+        assertNull(beerDTO.getPrice());
+    }
+
+    @Test
+    void testBeersByStyle() {
+        BeerCatalogSnapshot snapshot = BeerCatalogSnapshot.builder()
+                .add(getBeer(1, "Galaxy Cat", "Pale Ale", null))
+                .add(getBeer(2, "Crank", "Pale Ale", null))
+                .add(getBeer(3, "Sunshine City", "IPA", null))
+                .build();
+
+        StepVerifier.create(snapshot.beersByStyle("Pale Ale").map(BeerDTO::getBeerName))
+                .expectNext("Galaxy Cat", "Crank")
+                .verifyComplete();
+        StepVerifier.create(snapshot.beersByStyle("Stout"))
+                .verifyComplete();
+    }
+
+    @Test
+    void testWith() {
+        BeerCatalogSnapshot snapshot = BeerCatalogSnapshot.builder()
+                .add(getBeer(1, "Galaxy Cat", "Pale Ale", null))
+                .add(getBeer(5, "Sunshine City", "IPA", null))
+                .build();
+
+        BeerCatalogSnapshot inserted = snapshot.with(BeerDTO.builder().id(3).beerName("Crank").beerStyle("Pale Ale").build());
+        BeerCatalogSnapshot replaced = inserted.with(BeerDTO.builder().id(1).beerName("Galaxy Dog").beerStyle("Stout").build());
+
+        assertNull(snapshot.findById(3));
+        assertEquals(3, inserted.size());
+        assertEquals("Crank", inserted.findById(3).getBeerName());
+        assertEquals(3, replaced.size());
+        assertEquals("Galaxy Dog", replaced.findById(1).getBeerName());
+        StepVerifier.create(replaced.beersByStyle("Pale Ale").map(BeerDTO::getBeerName))
+                .expectNext("Crank")
+                .verifyComplete();
+    }
+
+    @Test
+    void testWithout() {
+        BeerCatalogSnapshot snapshot = BeerCatalogSnapshot.builder()
+                .add(getBeer(1, "Galaxy Cat", "Pale Ale", null))
+                .add(getBeer(5, "Sunshine City", "IPA", null))
+                .build();
+
+        BeerCatalogSnapshot removed = snapshot.without(1);
+
+        assertEquals(1, removed.size());
+        assertNull(removed.findById(1));
+        assertEquals("Sunshine City", removed.findById(5).getBeerName());
+        assertSame(snapshot, snapshot.without(3));
+    }
+
+    @Test
+    void testAddOutOfOrder() {
+        BeerCatalogSnapshot.Builder builder = BeerCatalogSnapshot.builder()
+                .add(getBeer(2, "Crank", "Pale Ale", null));
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add(getBeer(1, "Galaxy Cat", "Pale Ale", null)));
+    }
+
+    private static Beer getBeer(Integer id, String beerName, String beerStyle, LocalDateTime createdDate) {
+        return Beer.builder()
+                .id(id)
+                .beerName(beerName)
+                .beerStyle(beerStyle)
+                .upc("12356")
+                .price(12.99)
+                .quantityOnHand(122)
+                .createdDate(createdDate)
+                .build();
+    }
+}
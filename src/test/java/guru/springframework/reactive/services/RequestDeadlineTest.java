@@ -0,0 +1,59 @@
+package guru.springframework.reactive.services;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestDeadlineTest {
+
+    @Test
+    void testWithoutDeadline() {
+        StepVerifier.create(RequestDeadline.bound(Mono.just(1)))
+                .expectNext(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void testWithinDeadline() {
+        StepVerifier.create(RequestDeadline.boundMany(Flux.just(1, 2, 3))
+                        .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY,
+                                RequestDeadline.after(Duration.ofSeconds(5)))))
+                .expectNext(1, 2, 3)
+                .verifyComplete();
+    }
+
+    @Test
+    void testExpiredDeadline() {
+        StepVerifier.create(RequestDeadline.bound(Mono.just(1))
+                        .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY,
+                                RequestDeadline.after(Duration.ZERO))))
+                .verifyError(DeadlineExceededException.class);
+    }
+
+    @Test
+    void testDeadlineCancelsCall() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        StepVerifier.create(RequestDeadline.bound(Mono.never().doOnCancel(() -> cancelled.set(true)))
+                        .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY,
+                                RequestDeadline.after(Duration.ofMillis(50)))))
+                .verifyError(DeadlineExceededException.class);
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    void testDeadlineBoundsWholeStream() {
+        StepVerifier.create(RequestDeadline.boundMany(Flux.interval(Duration.ofMillis(20)))
+                        .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY,
+                                RequestDeadline.after(Duration.ofMillis(100)))))
+                .thenConsumeWhile(tick -> true)
+                .verifyError(DeadlineExceededException.class);
+    }
+
+}
@@ -0,0 +1,83 @@
+package guru.springframework.reactive.tracing;
+
+import guru.springframework.reactive.controllers.BeerController;
+import guru.springframework.reactive.controllers.CustomerController;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "management.tracing.sampling.probability=1.0",
+        "app.tracing.exporter.type=memory",
+        "spring.r2dbc.generate-unique-name=true"
+})
+@AutoConfigureWebTestClient
+@AutoConfigureObservability
+class LayerTracingTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    SdkTracerProvider sdkTracerProvider;
+
+    @Autowired
+    InMemorySpanExporter spanExporter;
+
+    @Test
+    void testRequestSpanNestsServiceAndDatabaseSpans() {
+        webTestClient.get().uri(BeerController.BEER_PATH_ID, 2)
+                .exchange()
+                .expectStatus().isOk();
+        sdkTracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        List<SpanData> spans = spanExporter.spans();
+        SpanData request = find(spans, "http get /api/v2/beer/{beerId}");
+        SpanData service = find(spans, "beer.service get-beer-by-id");
+        SpanData acquire = find(spans, "r2dbc acquire");
+        SpanData query = find(spans, "r2dbc query");
+
+        assertEquals(request.getTraceId(), query.getTraceId());
+        assertEquals(request.getSpanId(), service.getParentSpanId());
+        assertEquals(service.getSpanId(), acquire.getParentSpanId());
+        assertEquals(service.getSpanId(), query.getParentSpanId());
+        assertEquals("getBeerById", service.getAttributes().get(AttributeKey.stringKey("operation")));
+        assertTrue(query.getAttributes().get(AttributeKey.stringKey("db.statement"))
+                .startsWith("SELECT BEER.* FROM BEER WHERE BEER.ID"));
+    }
+
+    @Test
+    void testCustomerServiceCallsAreSpans() {
+        webTestClient.get().uri(CustomerController.CUSTOMER_PATH_ID, 1)
+                .exchange()
+                .expectStatus().isOk();
+        sdkTracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        List<SpanData> spans = spanExporter.spans();
+        SpanData request = find(spans, "http get /api/v2/customer/{customerId}");
+        SpanData service = find(spans, "customer.service get-customer-by-id");
+
+        assertEquals(request.getSpanId(), service.getParentSpanId());
+        assertEquals("getCustomerById", service.getAttributes().get(AttributeKey.stringKey("operation")));
+    }
+
+    private static SpanData find(List<SpanData> spans, String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("No span " + name + " in " + spans));
+    }
+
+}
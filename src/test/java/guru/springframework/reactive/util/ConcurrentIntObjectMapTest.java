@@ -0,0 +1,105 @@
+package guru.springframework.reactive.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentIntObjectMapTest {
+
+    @Test
+    void testPutGetRemove() {
+        ConcurrentIntObjectMap<String> map = new ConcurrentIntObjectMap<>();
+
+        assertNull(map.put(1, "one"));
+        assertEquals("one", map.put(1, "uno"));
+        assertNull(map.put(-7, "minus seven"));
+
+        assertEquals("uno", map.get(1));
+        assertEquals("minus seven", map.get(-7));
+        assertEquals(2, map.size());
+
+        assertEquals("uno", map.remove(1));
+        assertNull(map.remove(1));
+        assertFalse(map.containsKey(1));
+        assertEquals(1, map.size());
+
+        assertNull(map.put(1, "one again"));
+        assertEquals("one again", map.get(1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testRehash() {
+        ConcurrentIntObjectMap<Integer> map = new ConcurrentIntObjectMap<>();
+
+        for (int key = 0; key < 10_000; key++) {
+            map.put(key, key * 2);
+        }
+        for (int key = 0; key < 10_000; key += 2) {
+            map.remove(key);
+        }
+
+        assertEquals(5_000, map.size());
+        for (int key = 0; key < 10_000; key++) {
+            assertEquals(key % 2 == 0 ? null : key * 2, map.get(key));
+        }
+        List<Integer> visited = new ArrayList<>();
+        map.forEach((key, value) -> visited.add(key));
+        assertEquals(5_000, visited.size());
+    }
+
+    @Test
+    void testNullValue() {
+        ConcurrentIntObjectMap<String> map = new ConcurrentIntObjectMap<>();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    void testConcurrentReaders() throws Exception {
+        ConcurrentIntObjectMap<Integer> map = new ConcurrentIntObjectMap<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int reader = 0; reader < 4; reader++) {
+            results.add(readers.submit(() -> {
+                boolean consistent = true;
+                while (writing.get()) {
+                    for (int key = 0; key < 1_000; key++) {
+                        Integer value = map.get(key);
+                        consistent &= value == null || value == key;
+                    }
+                }
+                return consistent;
+            }));
+        }
+        for (int round = 0; round < 200; round++) {
+            for (int key = 0; key < 1_000; key++) {
+                map.put(key, key);
+            }
+            for (int key = 0; key < 1_000; key += 3) {
+                map.remove(key);
+            }
+        }
+        writing.set(false);
+        readers.shutdown();
+
+        assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package guru.springframework.reactive.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MpscRingBufferTest {
+
+    @Test
+    void testOfferPollInOrderAndRejectWhenFull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(4, buffer.drain(drained::add, 10));
+        assertEquals(List.of(1, 2, 3, 4), drained);
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void testConcurrentProducersLoseNothingAccepted() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            List<Future<Integer>> accepted = new ArrayList<>();
+            for (int producer = 0; producer < producers; producer++) {
+                long id = producer;
+                accepted.add(executor.submit(() -> {
+                    int count = 0;
+                    for (long sequence = 0; sequence < perProducer; sequence++) {
+                        if (buffer.offer(new long[]{id, sequence})) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            executor.submit(() -> {
+                for (Future<Integer> future : accepted) {
+                    future.get();
+                }
+                done.set(true);
+                return null;
+            });
+
+            long[] lastSequence = {-1, -1, -1, -1};
+            int received = 0;
+            while (!done.get() || buffer.size() > 0) {
+                long[] element = buffer.poll();
+                if (element == null) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                assertTrue(element[1] > lastSequence[(int) element[0]], "Elements of a producer stay in order");
+                lastSequence[(int) element[0]] = element[1];
+                received++;
+            }
+
+            int total = 0;
+            for (Future<Integer> future : accepted) {
+                total += future.get();
+            }
+            assertEquals(total, received);
+        } finally {
+            executor.shutdownNow();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package guru.springframework.reactive.web;
+
+import guru.springframework.reactive.controllers.BeerController;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "app.slow-query-log.threshold=0ms",
+        "spring.r2dbc.generate-unique-name=true"
+})
+@AutoConfigureWebTestClient
+@ExtendWith(OutputCaptureExtension.class)
+class AccessLogFilterTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Test
+    void testLogsRouteStatusAndDatabaseTime(CapturedOutput output) throws InterruptedException {
+        webTestClient.get().uri(BeerController.BEER_PATH_ID, 2)
+                .exchange()
+                .expectStatus().isOk();
+
+        String entry = awaitLine(output, "\"path\":\"/api/v2/beer/2\"");
+        assertTrue(entry.contains("\"route\":\"" + BeerController.BEER_PATH_ID + "\""), entry);
+        assertTrue(entry.contains("\"status\":200"), entry);
+        assertTrue(entry.contains("\"dbStatements\":1"), entry);
+        assertTrue(entry.contains("\"query\":\"SELECT"), entry);
+
+        String slowQuery = awaitLine(output, "\"request\":\"GET /api/v2/beer/2\"");
+        assertTrue(slowQuery.contains("\"outcome\":\"success\""), slowQuery);
+    }
+
+    @Test
+    void testLogsErrorStatus(CapturedOutput output) throws InterruptedException {
+        webTestClient.get().uri(BeerController.BEER_PATH_ID, 999)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        String entry = awaitLine(output, "\"path\":\"/api/v2/beer/999\"");
+        assertTrue(entry.contains("\"status\":404"), entry);
+    }
+
+    /**
+     * Waits for the background writer to log a line containing the text.
+     */
+    private static String awaitLine(CapturedOutput output, String text) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            Optional<String> line = Arrays.stream(output.getOut().split("\\R"))
+                    .filter(candidate -> candidate.contains(text))
+                    .findFirst();
+            if (line.isPresent()) {
+                return line.get();
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("No log line containing " + text);
+    }
+
+}
@@ -0,0 +1,142 @@
+package guru.springframework.reactive.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import guru.springframework.reactive.model.BeerDTO;
+import guru.springframework.reactive.services.BeerChangedEvent;
+import guru.springframework.reactive.services.BeerService;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BeerListResponseCacheTest {
+
+    private final BeerService beerService = mock(BeerService.class);
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @Test
+    void testServesCachedResponseUntilBeerChanges() {
+        stubListBeers(Flux.defer(() -> Flux.just(beer("Read " + reads.incrementAndGet()))));
+        BeerListResponseCache cache = cache(Duration.ZERO);
+
+        BeerListResponseCache.CachedResponse first = cache.get(null).block();
+        assertSame(first, cache.get(null).block());
+        assertEquals(1, reads.get());
+        assertEquals("[{\"beerName\":\"Read 1\"}]", new String(first.body(), StandardCharsets.UTF_8));
+
+        cache.onBeerChanged(new BeerChangedEvent(1));
+
+        BeerListResponseCache.CachedResponse rebuilt = cache.get(null).block();
+        assertEquals(2, reads.get());
+        assertEquals("[{\"beerName\":\"Read 2\"}]", new String(rebuilt.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testConcurrentRebuildsAreSingleFlight() {
+        Sinks.One<BeerDTO> pending = Sinks.one();
+        stubListBeers(Flux.defer(() -> {
+            reads.incrementAndGet();
+            return pending.asMono().flux();
+        }));
+        BeerListResponseCache cache = cache(Duration.ZERO);
+
+        var first = cache.get(null).toFuture();
+        var second = cache.get(null).toFuture();
+        pending.tryEmitValue(beer("Galaxy Cat"));
+
+        assertSame(first.join(), second.join());
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void testServesOutdatedResponseWithinStalenessWindow() {
+        stubListBeers(Flux.defer(() -> Flux.just(beer("Read " + reads.incrementAndGet()))));
+        BeerListResponseCache cache = cache(Duration.ofMinutes(1));
+
+        BeerListResponseCache.CachedResponse first = cache.get(null).block();
+        cache.invalidate();
+
+        assertSame(first, cache.get(null).block());
+        assertEquals(2, reads.get());
+        assertEquals("[{\"beerName\":\"Read 2\"}]",
+                new String(cache.get(null).block().body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testRebuildStartedBeforeInvalidationIsNotJoined() {
+        Sinks.One<BeerDTO> pending = Sinks.one();
+        stubListBeers(Flux.defer(() -> reads.incrementAndGet() == 1
+                ? pending.asMono().flux() : Flux.just(beer("Read " + reads.get()))));
+        BeerListResponseCache cache = cache(Duration.ZERO);
+
+        var outdated = cache.get(null).toFuture();
+        cache.invalidate();
+        var current = cache.get(null).toFuture();
+        pending.tryEmitValue(beer("Read 1"));
+
+        assertEquals(2, reads.get());
+        assertEquals("[{\"beerName\":\"Read 1\"}]", new String(outdated.join().body(), StandardCharsets.UTF_8));
+        assertEquals("[{\"beerName\":\"Read 2\"}]", new String(current.join().body(), StandardCharsets.UTF_8));
+        assertSame(current.join(), cache.get(null).block());
+    }
+
+    @Test
+    void testOldestEntryMakesRoomForNewQuery() {
+        when(beerService.listBeersByStyle(anyString())).thenAnswer(invocation -> Flux.defer(() -> {
+            reads.incrementAndGet();
+            return Flux.just(beer(invocation.getArgument(0)));
+        }));
+        BeerListResponseCache cache = cache(Duration.ZERO);
+
+        cache.get("Lager").block();
+        cache.get("Stout").block();
+        cache.get("Porter").block();
+        assertEquals(3, reads.get());
+
+        cache.get("Porter").block();
+        cache.get("Stout").block();
+        assertEquals(3, reads.get());
+        cache.get("Lager").block();
+        assertEquals(4, reads.get());
+    }
+
+    @Test
+    void testListLongerThanMaxListSizeIsNotCached() {
+        stubListBeers(Flux.defer(() -> {
+            reads.incrementAndGet();
+            return Flux.just(beer("Lager"), beer("Stout"), beer("Porter"));
+        }));
+        BeerListResponseCache cache = cache(Duration.ZERO);
+
+        assertNull(cache.get(null).block());
+        assertNull(cache.get(null).block());
+        assertEquals(1, reads.get());
+    }
+
+    private void stubListBeers(Flux<BeerDTO> beers) {
+        when(beerService.listBeers()).thenReturn(beers);
+    }
+
+    private BeerListResponseCache cache(Duration maxStaleness) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        return new BeerListResponseCache(beerService, objectMapper, true, maxStaleness, 2, 2);
+    }
+
+    private static BeerDTO beer(String beerName) {
+        return BeerDTO.builder().beerName(beerName).build();
+    }
+
+}
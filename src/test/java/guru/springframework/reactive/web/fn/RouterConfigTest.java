@@ -0,0 +1,97 @@
+package guru.springframework.reactive.web.fn;
+
+import guru.springframework.reactive.controllers.BeerController;
+import guru.springframework.reactive.controllers.CustomerController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "app.web.functional-routes.enabled=true",
+        "app.beer-list-cache.max-list-size=2",
+        "spring.r2dbc.generate-unique-name=true"
+})
+@AutoConfigureWebTestClient
+class RouterConfigTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @Test
+    void testFunctionalRoutesEnabled() {
+        assertEquals(1, applicationContext.getBeanNamesForType(BeerHandler.class).length);
+        assertEquals(1, applicationContext.getBeanNamesForType(CustomerHandler.class).length);
+    }
+
+    @Test
+    void testListBeers() {
+        webTestClient.get().uri(BeerController.BEER_PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/json")
+                .expectBody().jsonPath("$.size()").isEqualTo(3);
+    }
+
+    @Test
+    void testGetBeerById() {
+        webTestClient.get().uri(BeerController.BEER_PATH_ID, 2)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/json")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("2")
+                .jsonPath("$.beerName").isEqualTo("Crank");
+    }
+
+    @Test
+    void testGetBeerByIdNotFound() {
+        webTestClient.get().uri(BeerController.BEER_PATH_ID, 99)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.path").isEqualTo(BeerController.BEER_PATH + "/99");
+    }
+
+    @Test
+    void testGetBeerByIdBadRequest() {
+        webTestClient.get().uri(BeerController.BEER_PATH_ID, "abc")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testListBeersWithQueryFallsThrough() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(BeerController.BEER_PATH)
+                        .queryParam("beerStyle", "IPA")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.size()").isEqualTo(1);
+    }
+
+    @Test
+    void testListCustomers() {
+        webTestClient.get().uri(CustomerController.CUSTOMER_PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/json")
+                .expectBody().jsonPath("$.size()").isEqualTo(3);
+    }
+
+    @Test
+    void testGetCustomerByIdNotFound() {
+        webTestClient.get().uri(CustomerController.CUSTOMER_PATH_ID, 999)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+}